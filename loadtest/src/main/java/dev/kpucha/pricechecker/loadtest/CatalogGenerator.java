@@ -0,0 +1,124 @@
+package dev.kpucha.pricechecker.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+/**
+ * Writes a synthetic price catalog as a CSV feed accepted by the
+ * {@code priceimport} actuator endpoint.
+ *
+ * Every product gets a base price of priority 0 covering the whole year, so
+ * that any date of the year is a hit, and promotions of random start and
+ * exponentially distributed length on top of it. Longer promotions overlap
+ * more, and a priority skew above 1 makes low priorities more frequent than
+ * high ones. Rows are written as they are generated, so the catalog size is
+ * not limited by memory.
+ */
+final class CatalogGenerator {
+
+    static final String HEADER = "BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURRENCY";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final LoadTestOptions options;
+
+    /**
+     * Creates a generator of the catalog described by the given options.
+     *
+     * @param options the size and shape of the catalog
+     */
+    CatalogGenerator(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Writes the catalog to the file of the options.
+     *
+     * @return the number of rows written
+     * @throws IOException if the file cannot be written
+     */
+    long writeFile() throws IOException {
+        Path file = options.catalogFile();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            return write(writer);
+        }
+    }
+
+    /**
+     * Writes the catalog, header included.
+     *
+     * @param writer the destination
+     * @return the number of rows written
+     * @throws IOException if the destination cannot be written
+     */
+    long write(Writer writer) throws IOException {
+        SplittableRandom random = new SplittableRandom(options.randomSeed());
+        LocalDateTime yearStart = LocalDateTime.of(options.year(), 1, 1, 0, 0);
+        LocalDateTime yearEnd = yearStart.plusYears(1).minusSeconds(1);
+        long yearSeconds = ChronoUnit.SECONDS.between(yearStart, yearEnd);
+        double meanPromotionSeconds = options.meanPromotionDays() * 86_400;
+
+        writer.write(HEADER);
+        writer.write('\n');
+        long rows = 0;
+        for (int i = 0; i < options.products(); i++) {
+            int productId = productId(options, i);
+            int brandId = brandId(options, i);
+            long baseCents = 1_000 + random.nextLong(19_000);
+            writeRow(writer, brandId, yearStart, yearEnd, 1, productId, 0, baseCents);
+            rows++;
+
+            for (int promotion = 1; promotion < options.pricesPerProduct(); promotion++) {
+                LocalDateTime start = yearStart.plusSeconds(random.nextLong(yearSeconds));
+                long length = (long) (-Math.log(1 - random.nextDouble()) * meanPromotionSeconds);
+                LocalDateTime end = start.plusSeconds(Math.max(length, 60));
+                if (end.isAfter(yearEnd)) {
+                    end = yearEnd;
+                }
+                int priority = 1 + (int) (options.priorityLevels() * Math.pow(random.nextDouble(), options.prioritySkew()));
+                long cents = baseCents * (50 + random.nextInt(50)) / 100;
+                writeRow(writer, brandId, start, end, 1 + promotion, productId, priority, cents);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the product ID of the given catalog index.
+     *
+     * @param options the catalog options
+     * @param index   the index of the product, between 0 and the number of products
+     * @return the product ID
+     */
+    static int productId(LoadTestOptions options, int index) {
+        return options.firstProductId() + index;
+    }
+
+    /**
+     * Returns the brand of the product of the given catalog index.
+     *
+     * @param options the catalog options
+     * @param index   the index of the product, between 0 and the number of products
+     * @return the brand ID
+     */
+    static int brandId(LoadTestOptions options, int index) {
+        return 1 + index % options.brands();
+    }
+
+    private static void writeRow(Writer writer, int brandId, LocalDateTime start, LocalDateTime end, int priceList,
+            int productId, int priority, long cents) throws IOException {
+        writer.write(brandId + "," + DATE_FORMAT.format(start) + "," + DATE_FORMAT.format(end) + "," + priceList + ","
+            + productId + "," + priority + "," + cents / 100 + "." + String.format("%02d", cents % 100) + ",EUR\n");
+    }
+}
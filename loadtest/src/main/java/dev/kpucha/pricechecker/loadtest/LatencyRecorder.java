@@ -0,0 +1,145 @@
+package dev.kpucha.pricechecker.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and outcomes of the requests sent to one endpoint.
+ *
+ * The response time of a request is measured from the instant the arrival
+ * schedule intended to send it, so that a stalled server or client is charged
+ * for every request it delayed and the histogram is free of coordinated
+ * omission. The service time, measured from the instant the request was
+ * actually sent, is kept alongside for comparison: the gap between both is the
+ * queueing the server caused.
+ *
+ * Arrivals dropped because too many requests were outstanding have no
+ * response; they are charged in the response time as if answered when the
+ * run stopped waiting, so that dropping requests never makes the tail look
+ * better than letting them queue.
+ */
+final class LatencyRecorder {
+
+    /**
+     * Highest latency recorded exactly; longer ones are clamped to it.
+     */
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99, 100};
+
+    private final String name;
+    private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    /**
+     * Intended send instants of the dropped arrivals not recorded yet.
+     */
+    private final Queue<Long> dropped = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates the recorder of an endpoint.
+     *
+     * @param name the name of the endpoint in reports
+     */
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param intendedNanos the instant the request should have been sent
+     * @param sentNanos     the instant it was sent
+     * @param doneNanos     the instant its response was received
+     * @param outcome       the status code, or the failure, of the request
+     */
+    void record(long intendedNanos, long sentNanos, long doneNanos, String outcome) {
+        responseTime.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(doneNanos - intendedNanos), HIGHEST_MICROS));
+        serviceTime.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(doneNanos - sentNanos), HIGHEST_MICROS));
+        count(outcome);
+    }
+
+    /**
+     * Keeps an arrival that was not sent, to be recorded by recordDropped.
+     *
+     * @param intendedNanos the instant the request should have been sent
+     */
+    void drop(long intendedNanos) {
+        dropped.add(intendedNanos);
+    }
+
+    /**
+     * Records the dropped arrivals in the response time, as answered at the
+     * given instant, and counts them as {@code dropped}. They have no service
+     * time.
+     *
+     * @param doneNanos the instant the run stopped waiting for responses
+     */
+    void recordDropped(long doneNanos) {
+        Long intendedNanos;
+        while ((intendedNanos = dropped.poll()) != null) {
+            responseTime.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(doneNanos - intendedNanos), HIGHEST_MICROS));
+            count("dropped");
+        }
+    }
+
+    /**
+     * Counts a request that was not sent or not recorded.
+     *
+     * @param outcome the reason
+     */
+    void count(String outcome) {
+        outcomes.computeIfAbsent(outcome, o -> new LongAdder()).increment();
+    }
+
+    /**
+     * Prints the outcomes and the percentiles of both latencies, in milliseconds.
+     *
+     * @param out     the destination
+     * @param seconds the recording time, to compute the achieved rate
+     */
+    void print(PrintStream out, double seconds) {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        out.printf("%n== %s: %d requests, %.1f req/s, outcomes %s%n", name, responseTime.getTotalCount(),
+            responseTime.getTotalCount() / seconds, counts);
+        if (responseTime.getTotalCount() == 0) {
+            return;
+        }
+        out.printf("%10s %18s %16s%n", "percentile", "response time ms", "service time ms");
+        for (double percentile : PERCENTILES) {
+            out.printf("%10s %18.3f %16.3f%n", percentile, responseTime.getValueAtPercentile(percentile) / 1000.0,
+                serviceTime.getValueAtPercentile(percentile) / 1000.0);
+        }
+    }
+
+    /**
+     * Writes the full percentile distributions, in milliseconds, in the format
+     * read by the HdrHistogram plotter.
+     *
+     * @param dir the destination directory
+     * @throws IOException if a file cannot be written
+     */
+    void writeDistributions(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(name + "-response-time.hgrm")))) {
+            responseTime.outputPercentileDistribution(out, 1000.0);
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(name + "-service-time.hgrm")))) {
+            serviceTime.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
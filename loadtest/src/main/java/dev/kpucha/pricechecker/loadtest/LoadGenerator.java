@@ -0,0 +1,193 @@
+package dev.kpucha.pricechecker.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for the lookup endpoints.
+ *
+ * Arrivals follow a schedule fixed in advance by the target rate, whatever
+ * the server does: requests are sent asynchronously and never wait for each
+ * other, so a slow server faces a growing backlog instead of a slower client,
+ * as it would in production. When the dispatcher falls behind the schedule it
+ * sends late requests at once, and their latency still counts from their
+ * scheduled instant. Arrivals beyond the in-flight limit are not sent, but
+ * are recorded once the responses have been drained, with their latency
+ * counted from their scheduled instant to that point.
+ */
+final class LoadGenerator {
+
+    static final String SINGLE = "prioritized";
+    static final String BULK = "bulk";
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final ZipfDistribution popularity;
+    private final SplittableRandom random;
+    private final LocalDateTime yearStart;
+    private final long yearSeconds;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LatencyRecorder single = new LatencyRecorder(SINGLE);
+    private final LatencyRecorder bulk = new LatencyRecorder(BULK);
+
+    /**
+     * Creates a generator sending the traffic described by the given options.
+     *
+     * @param options the target, rate and traffic mix
+     * @param client  the client sending the requests
+     */
+    LoadGenerator(LoadTestOptions options, HttpClient client) {
+        this.options = options;
+        this.client = client;
+        this.popularity = new ZipfDistribution(options.products(), options.zipfExponent());
+        this.random = new SplittableRandom(options.randomSeed());
+        this.yearStart = LocalDateTime.of(options.year(), 1, 1, 0, 0);
+        this.yearSeconds = ChronoUnit.SECONDS.between(yearStart, yearStart.plusYears(1));
+    }
+
+    /**
+     * Sends requests for the warm-up and recording periods, then waits for the
+     * outstanding responses.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void run() throws InterruptedException {
+        long start = System.nanoTime();
+        long recordFrom = start + options.warmup().toNanos();
+        long end = recordFrom + options.duration().toNanos();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+        long intended = start;
+        while (intended < end) {
+            long wait = intended - System.nanoTime();
+            while (wait > 0) {
+                LockSupport.parkNanos(wait);
+                wait = intended - System.nanoTime();
+            }
+            boolean recorded = intended >= recordFrom;
+            LatencyRecorder recorder = random.nextDouble() < options.bulkRatio() ? bulk : single;
+            if (inFlight.get() >= options.maxInFlight()) {
+                if (recorded) {
+                    recorder.drop(intended);
+                }
+            } else {
+                send(recorder, intended, recorded);
+            }
+            double interval = options.poisson() ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos : meanIntervalNanos;
+            intended += Math.max(1, (long) interval);
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        long drained = System.nanoTime();
+        single.recordDropped(drained);
+        bulk.recordDropped(drained);
+    }
+
+    /**
+     * Returns the recorder of single lookups.
+     *
+     * @return the single lookup recorder
+     */
+    LatencyRecorder single() {
+        return single;
+    }
+
+    /**
+     * Returns the recorder of bulk lookups.
+     *
+     * @return the bulk lookup recorder
+     */
+    LatencyRecorder bulk() {
+        return bulk;
+    }
+
+    private void send(LatencyRecorder recorder, long intended, boolean recorded) {
+        HttpRequest request = recorder == bulk ? bulkRequest() : singleRequest();
+        inFlight.incrementAndGet();
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            long done = System.nanoTime();
+            inFlight.decrementAndGet();
+            if (recorded) {
+                Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+                String outcome = cause != null ? cause.getClass().getSimpleName() : String.valueOf(response.statusCode());
+                recorder.record(intended, sent, done, outcome);
+            }
+        });
+    }
+
+    private HttpRequest singleRequest() {
+        return post("/prices/prioritized", lookup());
+    }
+
+    private HttpRequest bulkRequest() {
+        StringJoiner items = new StringJoiner(",", "{\"items\":[", "]}");
+        for (int i = 0; i < options.bulkSize(); i++) {
+            items.add(lookup());
+        }
+        return post("/prices/prioritized/bulk", items.toString());
+    }
+
+    /**
+     * Draws the JSON of a lookup: a product by popularity, unknown to the
+     * catalog for the configured fraction of misses, at a random second of the
+     * catalog year.
+     */
+    private String lookup() {
+        int index = popularity.sample(random);
+        int productId = CatalogGenerator.productId(options, index);
+        if (random.nextDouble() < options.missRatio()) {
+            productId += options.products();
+        }
+        LocalDateTime date = yearStart.plusSeconds(random.nextLong(yearSeconds));
+        return "{\"applicationDate\":\"" + date + "\",\"productId\":" + productId
+            + ",\"brandId\":" + CatalogGenerator.brandId(options, index) + "}";
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(options.baseUrl().resolve(path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    /**
+     * Creates the client used for the requests, completing them on virtual
+     * threads so that recording never holds up the dispatcher.
+     *
+     * @param executor the executor completing the requests
+     * @return the HTTP client
+     */
+    static HttpClient newClient(ExecutorService executor) {
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executor)
+            .build();
+    }
+
+    /**
+     * Creates the executor completing the requests.
+     *
+     * @return a virtual thread per task executor
+     */
+    static ExecutorService newExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,108 @@
+package dev.kpucha.pricechecker.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Entry point of the load test, run against an application already started
+ * locally with its H2 database.
+ *
+ * <pre>
+ * LoadTest seed [--name=value ...]   generate the synthetic catalog and import it
+ * LoadTest run  [--name=value ...]   send the traffic and print the latency report
+ * LoadTest all  [--name=value ...]   seed, then run
+ * LoadTest startup [--launch=... --launch-dir=. --startup-runs=5]   launch the application and time its first response
+ * </pre>
+ *
+ * Options are described in {@link LoadTestOptions}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    /**
+     * Runs the given command.
+     *
+     * @param args the command followed by its options
+     * @throws Exception if a step fails
+     */
+    public static void main(String[] args) throws Exception {
+        String command = args.length > 0 ? args[0] : "all";
+        LoadTestOptions options = LoadTestOptions.parse(Arrays.copyOfRange(args, Math.min(1, args.length), args.length));
+        try (ExecutorService executor = LoadGenerator.newExecutor()) {
+            HttpClient client = LoadGenerator.newClient(executor);
+            switch (command) {
+                case "seed" -> seed(options, client);
+                case "run" -> run(options, client);
+                case "all" -> {
+                    seed(options, client);
+                    run(options, client);
+                }
+                case "startup" -> startup(options, client);
+                default -> throw new IllegalArgumentException("Unknown command " + command + ", expected seed, run, all or startup");
+            }
+        }
+    }
+
+    /**
+     * Writes the catalog file and asks the application to import it. The
+     * application reads the file from its own disk, so both must run on the
+     * same machine.
+     */
+    private static void seed(LoadTestOptions options, HttpClient client) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        long rows = new CatalogGenerator(options).writeFile();
+        System.out.printf("Wrote %d rows to %s in %s%n", rows, options.catalogFile(), Duration.ofNanos(System.nanoTime() - start));
+
+        HttpRequest request = HttpRequest.newBuilder(options.baseUrl().resolve("/actuator/priceimport"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"file\":\"" + options.catalogFile().toString().replace("\\", "\\\\")
+                + "\",\"chunkSize\":" + options.importChunkSize() + "}"))
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Import failed with status " + response.statusCode() + ": " + response.body());
+        }
+        System.out.println("Import report: " + response.body());
+    }
+
+    /**
+     * Sends the traffic and prints the latency of each endpoint.
+     */
+    private static void run(LoadTestOptions options, HttpClient client) throws IOException, InterruptedException {
+        System.out.printf("Sending %.0f req/s (%s arrivals) for %s after a %s warm-up, %.0f%% bulk, %.0f%% misses, Zipf exponent %s%n",
+            options.rate(), options.poisson() ? "poisson" : "uniform", options.duration(), options.warmup(),
+            options.bulkRatio() * 100, options.missRatio() * 100, options.zipfExponent());
+        LoadGenerator generator = new LoadGenerator(options, client);
+        generator.run();
+
+        double seconds = options.duration().toNanos() / 1e9;
+        generator.single().print(System.out, seconds);
+        generator.bulk().print(System.out, seconds);
+        if (options.reportDir() != null) {
+            generator.single().writeDistributions(options.reportDir());
+            generator.bulk().writeDistributions(options.reportDir());
+            System.out.println("\nPercentile distributions written to " + options.reportDir().toAbsolutePath());
+        }
+    }
+
+    /**
+     * Launches the application several times and prints its time to first
+     * response. No application must be running on the base URL.
+     */
+    private static void startup(LoadTestOptions options, HttpClient client) throws IOException, InterruptedException {
+        System.out.printf("Launching %s %d times%n", options.launch(), options.startupRuns());
+        List<Duration> times = new StartupProbe(options, client).run();
+        times.forEach(time -> System.out.printf("  first response after %d ms%n", time.toMillis()));
+        List<Duration> sorted = times.stream().sorted().toList();
+        System.out.printf("Time to first response: min %d ms, median %d ms, max %d ms%n",
+            sorted.get(0).toMillis(), sorted.get(sorted.size() / 2).toMillis(), sorted.get(sorted.size() - 1).toMillis());
+    }
+}
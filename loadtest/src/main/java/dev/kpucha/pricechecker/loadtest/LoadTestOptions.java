@@ -0,0 +1,127 @@
+package dev.kpucha.pricechecker.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Options of a load test run, parsed from {@code --name=value} arguments.
+ *
+ * @param baseUrl          the URL of the running application
+ * @param catalogFile      the feed file written by the seed step and imported by the application
+ * @param products         the number of synthetic products
+ * @param brands           the number of brands products are spread over
+ * @param firstProductId   the ID of the first synthetic product, above the seed data
+ * @param pricesPerProduct the number of price rows of each product: one base price and promotions
+ * @param meanPromotionDays the mean length of a promotion; longer promotions overlap more
+ * @param priorityLevels   the number of promotion priority levels
+ * @param prioritySkew     above 1, low priorities are more frequent than high ones
+ * @param year             the year covered by the catalog
+ * @param importChunkSize  the rows per transaction of the import
+ * @param rate             the target arrival rate, in requests per second
+ * @param poisson          whether arrivals are spaced exponentially, as independent clients do, or evenly
+ * @param warmup           the time requests are sent before recording starts
+ * @param duration         the time requests are recorded
+ * @param zipfExponent     the skew of product popularity; 0 is uniform
+ * @param missRatio        the fraction of lookups of unknown products
+ * @param bulkRatio        the fraction of requests sent to the bulk endpoint
+ * @param bulkSize         the number of lookups of each bulk request
+ * @param maxInFlight      the number of outstanding requests above which new arrivals are dropped, then recorded as answered at the end of the run
+ * @param reportDir        the directory receiving the percentile distributions, or null
+ * @param randomSeed       the seed of every random choice, so runs are repeatable
+ * @param launch           the command starting the application, split on spaces, for the startup measure
+ * @param launchDir        the working directory of the launched application
+ * @param startupRuns      the number of times the application is started by the startup measure
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        Path catalogFile,
+        int products,
+        int brands,
+        int firstProductId,
+        int pricesPerProduct,
+        double meanPromotionDays,
+        int priorityLevels,
+        double prioritySkew,
+        int year,
+        int importChunkSize,
+        double rate,
+        boolean poisson,
+        Duration warmup,
+        Duration duration,
+        double zipfExponent,
+        double missRatio,
+        double bulkRatio,
+        int bulkSize,
+        int maxInFlight,
+        Path reportDir,
+        long randomSeed,
+        String launch,
+        Path launchDir,
+        int startupRuns) {
+
+    /**
+     * Parses the given arguments, falling back to defaults for the missing ones.
+     *
+     * @param args the {@code --name=value} arguments
+     * @return the parsed options
+     * @throws IllegalArgumentException if an argument is malformed or unknown
+     */
+    static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        Map<String, String> remaining = new HashMap<>(values);
+        var options = new LoadTestOptions(
+            URI.create(take(remaining, "base-url", "http://localhost:8080")),
+            Path.of(take(remaining, "catalog-file", "target/catalog.csv")).toAbsolutePath(),
+            Integer.parseInt(take(remaining, "products", "200000")),
+            Integer.parseInt(take(remaining, "brands", "4")),
+            Integer.parseInt(take(remaining, "first-product-id", "1000000")),
+            Integer.parseInt(take(remaining, "prices-per-product", "10")),
+            Double.parseDouble(take(remaining, "mean-promotion-days", "14")),
+            Integer.parseInt(take(remaining, "priority-levels", "5")),
+            Double.parseDouble(take(remaining, "priority-skew", "2")),
+            Integer.parseInt(take(remaining, "year", "2025")),
+            Integer.parseInt(take(remaining, "import-chunk-size", "5000")),
+            Double.parseDouble(take(remaining, "rate", "1000")),
+            !"uniform".equals(take(remaining, "arrivals", "poisson")),
+            Duration.parse("PT" + take(remaining, "warmup", "10s")),
+            Duration.parse("PT" + take(remaining, "duration", "60s")),
+            Double.parseDouble(take(remaining, "zipf-exponent", "1.0")),
+            Double.parseDouble(take(remaining, "miss-ratio", "0.05")),
+            Double.parseDouble(take(remaining, "bulk-ratio", "0.1")),
+            Integer.parseInt(take(remaining, "bulk-size", "50")),
+            Integer.parseInt(take(remaining, "max-in-flight", "10000")),
+            values.containsKey("report-dir") ? Path.of(take(remaining, "report-dir", null)) : null,
+            Long.parseLong(take(remaining, "random-seed", "42")),
+            take(remaining, "launch", "java -jar ../target/pricechecker-0.0.1-SNAPSHOT.jar"),
+            Path.of(take(remaining, "launch-dir", ".")).toAbsolutePath(),
+            Integer.parseInt(take(remaining, "startup-runs", "5")));
+        if (!remaining.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + remaining.keySet());
+        }
+        return options;
+    }
+
+    /**
+     * Returns the total number of rows of the synthetic catalog.
+     *
+     * @return the number of generated price rows
+     */
+    long catalogRows() {
+        return (long) products * pricesPerProduct;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,100 @@
+package dev.kpucha.pricechecker.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to first response of the application: the time from
+ * launching its process to the first successful price lookup.
+ *
+ * The process is launched with {@code --launch} in {@code --launch-dir},
+ * polled every few milliseconds with a lookup of the seed product until it
+ * answers 200, then stopped; this is repeated {@code --startup-runs} times.
+ * The database is in memory, so every run is a cold start.
+ */
+final class StartupProbe {
+
+    /**
+     * Delay between two lookups while the application starts.
+     */
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+
+    /**
+     * Longest time the application may take to answer.
+     */
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+
+    /**
+     * Creates a probe of the application launched as configured.
+     *
+     * @param options the launch command, number of runs and base URL
+     * @param client  the client sending the lookups
+     */
+    StartupProbe(LoadTestOptions options, HttpClient client) {
+        this.options = options;
+        this.client = client;
+    }
+
+    /**
+     * Starts the application the configured number of times.
+     *
+     * @return the time to first response of each run
+     * @throws IOException          if the application cannot be launched
+     * @throws InterruptedException if interrupted while waiting for it
+     */
+    List<Duration> run() throws IOException, InterruptedException {
+        List<Duration> times = new ArrayList<>();
+        for (int i = 0; i < options.startupRuns(); i++) {
+            times.add(measureOnce());
+        }
+        return times;
+    }
+
+    private Duration measureOnce() throws IOException, InterruptedException {
+        HttpRequest lookup = HttpRequest.newBuilder(URI.create(options.baseUrl()
+                + "/prices/prioritized?productId=35455&brandId=1&applicationDate=2020-06-14T10:00:00"))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(Arrays.asList(options.launch().trim().split("\\s+")))
+            .directory(options.launchDir().toFile())
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            while (System.nanoTime() - start < START_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with status " + process.exitValue());
+                }
+                try {
+                    HttpResponse<Void> response = client.send(lookup, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+            throw new IllegalStateException("Application did not answer within " + START_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+}
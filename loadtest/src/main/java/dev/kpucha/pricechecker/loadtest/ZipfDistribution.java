@@ -0,0 +1,62 @@
+package dev.kpucha.pricechecker.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf distribution over the ranks {@code 0..n-1}: rank {@code k} is drawn
+ * with a probability proportional to {@code 1 / (k + 1)^exponent}, so a few
+ * products receive most of the traffic, as in a real catalog.
+ *
+ * The cumulative distribution is computed once and sampled with a binary
+ * search, which is cheap next to an HTTP request.
+ */
+final class ZipfDistribution {
+
+    /**
+     * Cumulative probability of each rank.
+     */
+    private final double[] cumulative;
+
+    /**
+     * Creates the distribution of the given number of ranks.
+     *
+     * @param n        the number of ranks
+     * @param exponent the skew; 0 gives a uniform distribution
+     */
+    ZipfDistribution(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("At least one rank is required");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    /**
+     * Draws a rank.
+     *
+     * @param random the source of randomness
+     * @return a rank between 0 and n - 1, 0 being the most popular
+     */
+    int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1);
+    }
+
+    /**
+     * Returns the probability of the given rank.
+     *
+     * @param rank the rank
+     * @return the probability of drawing it
+     */
+    double probability(int rank) {
+        return rank == 0 ? cumulative[0] : cumulative[rank] - cumulative[rank - 1];
+    }
+}
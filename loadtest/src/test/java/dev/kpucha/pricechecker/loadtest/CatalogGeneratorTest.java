@@ -0,0 +1,40 @@
+package dev.kpucha.pricechecker.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the CatalogGenerator class.
+ */
+public class CatalogGeneratorTest {
+
+    /**
+     * Tests that every product gets a whole-year base price followed by its
+     * promotions, within the configured priority levels.
+     */
+    @Test
+    void test_write_whenSmallCatalog_writesBasePriceAndPromotions() throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse("--products=3", "--prices-per-product=4", "--brands=2",
+            "--priority-levels=3", "--year=2025");
+        StringWriter out = new StringWriter();
+
+        long rows = new CatalogGenerator(options).write(out);
+
+        List<String> lines = out.toString().lines().toList();
+        assertEquals(12, rows);
+        assertEquals(options.catalogRows(), rows);
+        assertEquals(CatalogGenerator.HEADER, lines.get(0));
+        assertEquals(13, lines.size());
+        assertTrue(lines.get(1).startsWith("1,2025-01-01 00:00:00,2025-12-31 23:59:59,1,1000000,0,"));
+        assertTrue(lines.get(5).startsWith("2,2025-01-01 00:00:00,2025-12-31 23:59:59,1,1000001,0,"));
+        for (String line : lines.subList(1, lines.size())) {
+            int priority = Integer.parseInt(line.split(",")[5]);
+            assertTrue(priority >= 0 && priority <= 3, line);
+        }
+    }
+}
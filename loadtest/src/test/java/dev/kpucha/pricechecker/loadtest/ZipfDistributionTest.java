@@ -0,0 +1,45 @@
+package dev.kpucha.pricechecker.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the ZipfDistribution class.
+ */
+public class ZipfDistributionTest {
+
+    /**
+     * Tests that sampled ranks follow the expected probabilities, the most
+     * popular rank being drawn twice as often as the second one.
+     */
+    @Test
+    void test_sample_whenExponentOne_matchesProbabilities() {
+        ZipfDistribution distribution = new ZipfDistribution(1000, 1.0);
+        SplittableRandom random = new SplittableRandom(1);
+        int[] counts = new int[1000];
+        int samples = 200_000;
+        for (int i = 0; i < samples; i++) {
+            counts[distribution.sample(random)]++;
+        }
+
+        assertEquals(distribution.probability(0), counts[0] / (double) samples, 0.01);
+        assertEquals(2 * distribution.probability(1), distribution.probability(0), 1e-9);
+        assertTrue(counts[0] > counts[1] && counts[1] > counts[10]);
+    }
+
+    /**
+     * Tests that an exponent of 0 gives every rank the same probability.
+     */
+    @Test
+    void test_probability_whenExponentZero_isUniform() {
+        ZipfDistribution distribution = new ZipfDistribution(4, 0);
+
+        for (int rank = 0; rank < 4; rank++) {
+            assertEquals(0.25, distribution.probability(rank), 1e-9);
+        }
+    }
+}
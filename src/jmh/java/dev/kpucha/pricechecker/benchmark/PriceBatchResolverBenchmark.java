@@ -0,0 +1,106 @@
+package dev.kpucha.pricechecker.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.kpucha.pricechecker.application.batch.PriceBatch;
+import dev.kpucha.pricechecker.application.batch.PriceBatchReport;
+import dev.kpucha.pricechecker.application.batch.PriceBatchResolver;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceTimeline;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import dev.kpucha.pricechecker.infrastructure.adapter.batch.PriceBatchCsv;
+
+/**
+ * Benchmarks the resolution of a batch of one million tuples over 10k keys
+ * by PriceBatchResolver, with its output formatted as CSV, against a lookup
+ * and formatting per tuple on one thread. Compare the parallelism values for
+ * the scaling with cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PriceBatchResolverBenchmark {
+
+    private static final int TUPLES = 1_000_000;
+    private static final int KEYS = 10_000;
+
+    /**
+     * Number of threads resolving keys.
+     */
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private List<Price> prices;
+    private PriceRepositoryPort port;
+    private PriceBatchResolver resolver;
+    private PriceBatch batch;
+    private int[] productIds;
+    private LocalDateTime[] instants;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        prices = PriceFixtures.windows(100, 8, "uniform", 42);
+        port = (productId, brandId) -> prices;
+        resolver = new PriceBatchResolver(port, parallelism, 64, 4096);
+
+        Random random = new Random(7);
+        LocalDateTime[] dates = PriceFixtures.instants(4096, 7);
+        batch = new PriceBatch();
+        productIds = new int[TUPLES];
+        instants = new LocalDateTime[TUPLES];
+        for (int i = 0; i < TUPLES; i++) {
+            productIds[i] = random.nextInt(KEYS);
+            instants[i] = dates[random.nextInt(dates.length)];
+            batch.add(productIds[i], PriceFixtures.BRAND_ID, instants[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        resolver.close();
+    }
+
+    @Benchmark
+    public PriceBatchReport batchResolution() throws IOException {
+        return resolver.resolve(batch, PriceBatchCsv.FORMATTER, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public int lookupPerTuple() {
+        StringBuilder output = new StringBuilder();
+        int length = 0;
+        for (int i = 0; i < TUPLES; i++) {
+            Price price = PriceTimeline.resolve(port.findPricesByProductIdAndBrandId(productIds[i], PriceFixtures.BRAND_ID), instants[i])
+                .orElse(null);
+            PriceBatchCsv.FORMATTER.format(output, new PriceKey(PriceFixtures.BRAND_ID, productIds[i]), instants[i], price);
+            if (output.length() > 65536) {
+                length += output.length();
+                output.setLength(0);
+            }
+        }
+        return length + output.length();
+    }
+}
@@ -0,0 +1,67 @@
+package dev.kpucha.pricechecker.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.PriceEntity;
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.PriceEntityMapper;
+
+/**
+ * Benchmarks the PriceEntity to Price mapping done by H2PriceAdapter for every
+ * row read from the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceEntityMappingBenchmark {
+
+    /**
+     * Number of rows mapped per operation.
+     */
+    @Param({"4", "100", "10000"})
+    public int rows;
+
+    private List<PriceEntity> entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = new ArrayList<>(rows);
+        long id = 1;
+        for (Price price : PriceFixtures.windows(rows, 1, "uniform", 42)) {
+            PriceEntity entity = new PriceEntity();
+            entity.setId(id++);
+            entity.setBrandId(price.brandId());
+            entity.setStartDate(price.startDate());
+            entity.setEndDate(price.endDate());
+            entity.setPriceList(price.priceList());
+            entity.setProductId(price.productId());
+            entity.setPriority(price.priority());
+            entity.setPrice(price.price());
+            entity.setCurrency(price.currency());
+            entities.add(entity);
+        }
+    }
+
+    @Benchmark
+    public List<Price> toDomainModel() {
+        return entities.stream().map(PriceEntityMapper::toDomainModel).toList();
+    }
+}
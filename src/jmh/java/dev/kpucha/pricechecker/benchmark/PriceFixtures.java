@@ -0,0 +1,82 @@
+package dev.kpucha.pricechecker.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+
+/**
+ * Synthetic price windows for benchmarks. Generation is seeded so every run
+ * measures the same data.
+ */
+final class PriceFixtures {
+
+    /**
+     * Start of the generated price history.
+     */
+    static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    /**
+     * Length of the generated price history, in minutes.
+     */
+    static final long SPAN_MINUTES = 365L * 24 * 60;
+
+    static final int PRODUCT_ID = 35455;
+    static final int BRAND_ID = 1;
+
+    private PriceFixtures() {
+    }
+
+    /**
+     * Generates price windows of a single product and brand.
+     *
+     * @param count                the number of windows
+     * @param overlap              the average number of windows covering an instant
+     * @param priorityDistribution {@code flat} for a single priority, {@code uniform} for
+     *                             ten random levels, {@code layered} for shorter windows
+     *                             having higher priority, as promotions over a base price
+     * @param seed                 the random seed
+     * @return the generated prices
+     */
+    static List<Price> windows(int count, double overlap, String priorityDistribution, long seed) {
+        Random random = new Random(seed);
+        long meanLength = Math.max(1, Math.min(SPAN_MINUTES, (long) (overlap * SPAN_MINUTES / count)));
+
+        List<Price> prices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long length = Math.max(1, meanLength / 2 + (long) (random.nextDouble() * meanLength));
+            long start = (long) (random.nextDouble() * Math.max(1, SPAN_MINUTES - length));
+            int priority = switch (priorityDistribution) {
+                case "flat" -> 0;
+                case "uniform" -> random.nextInt(10);
+                case "layered" -> (int) (Math.log(SPAN_MINUTES / (double) length) * 4);
+                default -> throw new IllegalArgumentException("Unknown priority distribution: " + priorityDistribution);
+            };
+            prices.add(new Price(BRAND_ID,
+                    ORIGIN.plusMinutes(start),
+                    ORIGIN.plusMinutes(start + length),
+                    i + 1, PRODUCT_ID, priority,
+                    BigDecimal.valueOf(1000 + random.nextInt(9000), 2), "EUR"));
+        }
+        return prices;
+    }
+
+    /**
+     * Generates lookup instants spread over the price history.
+     *
+     * @param count the number of instants
+     * @param seed  the random seed
+     * @return the generated instants
+     */
+    static LocalDateTime[] instants(int count, long seed) {
+        Random random = new Random(seed);
+        LocalDateTime[] instants = new LocalDateTime[count];
+        for (int i = 0; i < count; i++) {
+            instants[i] = ORIGIN.plusMinutes((long) (random.nextDouble() * SPAN_MINUTES));
+        }
+        return instants;
+    }
+}
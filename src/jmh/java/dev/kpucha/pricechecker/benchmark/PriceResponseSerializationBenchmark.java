@@ -0,0 +1,63 @@
+package dev.kpucha.pricechecker.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import dev.kpucha.pricechecker.application.dto.BulkPriceResponse;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResult;
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+
+/**
+ * Benchmarks the JSON serialization of the lookup responses with an
+ * ObjectMapper configured as Spring Boot does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceResponseSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private PrioritizedPriceResponse response;
+    private BulkPriceResponse bulkResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        List<PrioritizedPriceResponse> responses = PriceFixtures.windows(500, 1, "uniform", 42).stream()
+                .map(PrioritizedPriceResponse::from)
+                .toList();
+        response = responses.get(0);
+        bulkResponse = new BulkPriceResponse(responses.stream()
+                .map(r -> new BulkPriceResult(r.startDate(), r.productId(), r.brandId(), true, r))
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] prioritizedPrice() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] bulkOf500() throws JsonProcessingException {
+        return writer.writeValueAsBytes(bulkResponse);
+    }
+}
@@ -0,0 +1,86 @@
+package dev.kpucha.pricechecker.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+import dev.kpucha.pricechecker.application.service.PriceService;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceTimeline;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Benchmarks the prioritized price lookup of PriceService over a repository
+ * returning the candidate list, against the same lookup on a prebuilt
+ * PriceTimeline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceServiceBenchmark {
+
+    /**
+     * Number of price windows of the looked up product.
+     */
+    @Param({"4", "100", "10000"})
+    public int windows;
+
+    /**
+     * Average number of windows covering an instant.
+     */
+    @Param({"1", "8"})
+    public double overlap;
+
+    /**
+     * Distribution of priorities among windows.
+     */
+    @Param({"flat", "uniform", "layered"})
+    public String priorityDistribution;
+
+    private PriceService priceService;
+    private PriceTimeline timeline;
+    private LocalDateTime[] instants;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Price> prices = PriceFixtures.windows(windows, overlap, priorityDistribution, 42);
+        PriceRepositoryPort port = (productId, brandId) -> prices;
+        priceService = new PriceService(port, new PriceLookupMetrics(new SimpleMeterRegistry(), List.of(PriceFixtures.BRAND_ID)));
+        timeline = PriceTimeline.of(prices);
+        instants = PriceFixtures.instants(1024, 7);
+    }
+
+    @Benchmark
+    public Optional<Price> serviceLookup() {
+        return priceService.findPrioritizedPrice(nextInstant(), PriceFixtures.PRODUCT_ID, PriceFixtures.BRAND_ID);
+    }
+
+    @Benchmark
+    public Optional<Price> timelineLookup() {
+        return timeline.priceAt(nextInstant());
+    }
+
+    private LocalDateTime nextInstant() {
+        return instants[next++ & (instants.length - 1)];
+    }
+}
@@ -0,0 +1,108 @@
+package dev.kpucha.pricechecker.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.kpucha.pricechecker.application.dto.BulkPriceRequest;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResponse;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResult;
+import dev.kpucha.pricechecker.application.dto.PriceRequest;
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+import dev.kpucha.pricechecker.infrastructure.adapter.rest.PriceBinaryCodec;
+
+/**
+ * Compares JSON with the binary encoding of PriceBinaryCodec on the
+ * round trip of a lookup: reading the request and writing the response. The
+ * request and response sizes of both encodings are printed when each trial
+ * starts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceWireFormatBenchmark {
+
+    /**
+     * Number of items per request: 1 uses the single lookup payloads,
+     * anything else the bulk ones.
+     */
+    @Param({"1", "500"})
+    public int items;
+
+    private ObjectMapper objectMapper;
+    private Class<?> requestType;
+    private Object response;
+    private byte[] jsonRequest;
+    private byte[] binaryRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<PrioritizedPriceResponse> responses = PriceFixtures.windows(items, 1, "uniform", 42).stream()
+                .map(PrioritizedPriceResponse::from)
+                .toList();
+        List<PriceRequest> requests = responses.stream()
+                .map(r -> new PriceRequest(r.startDate(), r.productId(), r.brandId()))
+                .toList();
+
+        Object request;
+        if (items == 1) {
+            requestType = PriceRequest.class;
+            request = requests.get(0);
+            response = responses.get(0);
+        } else {
+            requestType = BulkPriceRequest.class;
+            request = new BulkPriceRequest(requests);
+            response = new BulkPriceResponse(responses.stream()
+                    .map(r -> new BulkPriceResult(r.startDate(), r.productId(), r.brandId(), true, r))
+                    .toList());
+        }
+        jsonRequest = objectMapper.writeValueAsBytes(request);
+        binaryRequest = writeBinary(request);
+        System.out.printf("%n%d items: json %d + %d bytes, binary %d + %d bytes%n", items,
+                jsonRequest.length, objectMapper.writeValueAsBytes(response).length,
+                binaryRequest.length, writeBinary(response).length);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        Object request = objectMapper.readValue(jsonRequest, requestType);
+        return objectMapper.writeValueAsBytes(request == null ? null : response);
+    }
+
+    @Benchmark
+    public byte[] binary() throws IOException {
+        Object request = PriceBinaryCodec.read(requestType, new DataInputStream(new ByteArrayInputStream(binaryRequest)),
+                binaryRequest.length);
+        return writeBinary(request == null ? null : response);
+    }
+
+    private static byte[] writeBinary(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PriceBinaryCodec.write(value, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+}
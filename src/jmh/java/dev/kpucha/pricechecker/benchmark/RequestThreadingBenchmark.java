@@ -0,0 +1,94 @@
+package dev.kpucha.pricechecker.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import dev.kpucha.pricechecker.PricecheckerApplication;
+
+/**
+ * Compares end-to-end request latency of {@code POST /prices/prioritized} with
+ * Tomcat on platform threads against the {@code virtual-threads} profile, and
+ * of {@code POST /reactive/prices/prioritized} on the {@code reactive} profile
+ * (WebFlux on Netty over R2DBC), with more concurrent clients than Tomcat has
+ * platform threads. The cache is disabled so every request reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(512)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class RequestThreadingBenchmark {
+
+    private static final String BODY = """
+            {"applicationDate":"2020-06-14T16:00:00","productId":35455,"brandId":1}""";
+
+    /**
+     * Threading model of the server: {@code platform}, {@code virtual} or
+     * {@code reactive}.
+     */
+    @Param({"platform", "virtual", "reactive"})
+    public String threading;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(PricecheckerApplication.class);
+        String path = "/prices/prioritized";
+        if ("virtual".equals(threading)) {
+            application.setAdditionalProfiles("virtual-threads");
+        } else if ("reactive".equals(threading)) {
+            application.setAdditionalProfiles("reactive");
+            path = "/reactive/prices/prioritized";
+        }
+        context = application.run(
+                "--server.port=0",
+                "--pricechecker.cache.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=jdbc:h2:mem:pricechecker;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--logging.level.root=WARN");
+        String port = context.getEnvironment().getProperty("local.server.port");
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int prioritizedPrice() throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
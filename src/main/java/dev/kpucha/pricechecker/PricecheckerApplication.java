@@ -2,8 +2,12 @@ package dev.kpucha.pricechecker;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import dev.kpucha.pricechecker.infrastructure.config.PriceRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(PriceRuntimeHints.class)
 public class PricecheckerApplication {
 
 	public static void main(String[] args) {
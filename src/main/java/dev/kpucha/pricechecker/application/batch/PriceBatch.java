@@ -0,0 +1,158 @@
+package dev.kpucha.pricechecker.application.batch;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Product, brand and application date tuples to resolve in one batch, grouped
+ * by brand and product key.
+ *
+ * Dates are kept as primitive nanoseconds since the epoch, so that a batch of
+ * millions of tuples holds one array per key rather than one object per
+ * tuple. Tuples are added from a single thread; once complete, the batch may
+ * be read by the resolver from many threads.
+ */
+public final class PriceBatch {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final Comparator<PriceKey> KEY_ORDER =
+        Comparator.comparing(PriceKey::brandId).thenComparing(PriceKey::productId);
+
+    /**
+     * Application dates of each key, in insertion order.
+     */
+    private final Map<PriceKey, Dates> dates = new HashMap<>();
+
+    /**
+     * Number of tuples added.
+     */
+    private long size;
+
+    /**
+     * Adds a tuple to the batch.
+     *
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @param applicationDate the date to check applicability
+     * @throws IllegalArgumentException if the date is outside the years 1677 to 2262
+     */
+    public void add(Integer productId, Integer brandId, LocalDateTime applicationDate) {
+        long date = encode(applicationDate);
+        dates.computeIfAbsent(new PriceKey(brandId, productId), key -> new Dates()).add(date);
+        size++;
+    }
+
+    /**
+     * Returns the number of tuples added.
+     *
+     * @return the number of tuples
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct brand and product keys.
+     *
+     * @return the number of keys
+     */
+    public int keys() {
+        return dates.size();
+    }
+
+    /**
+     * Returns the keys of the batch sorted by brand, then product.
+     *
+     * @return the sorted keys
+     */
+    public List<PriceKey> sortedKeys() {
+        List<PriceKey> keys = new ArrayList<>(dates.keySet());
+        keys.sort(KEY_ORDER);
+        return keys;
+    }
+
+    /**
+     * Returns the application dates of the given key in ascending order,
+     * duplicates included.
+     *
+     * @param key a key of the batch
+     * @return the encoded dates of the key, sorted
+     */
+    long[] sortedDates(PriceKey key) {
+        return dates.get(key).sorted();
+    }
+
+    /**
+     * Encodes a date as nanoseconds since the epoch.
+     *
+     * @param date the date to encode
+     * @return the nanoseconds since the epoch
+     * @throws IllegalArgumentException if the date does not fit in a long
+     */
+    static long encode(LocalDateTime date) {
+        try {
+            return Math.addExact(Math.multiplyExact(date.toEpochSecond(ZoneOffset.UTC), NANOS_PER_SECOND), date.getNano());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Application date out of range: " + date, e);
+        }
+    }
+
+    /**
+     * Encodes a price boundary, saturating dates that do not fit in a long.
+     *
+     * @param date the boundary to encode, null for an open end
+     * @return the nanoseconds since the epoch, or Long.MAX_VALUE for an open end
+     */
+    static long encodeBound(LocalDateTime date) {
+        if (date == null) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return encode(date);
+        } catch (IllegalArgumentException e) {
+            return date.getYear() < 1970 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Decodes nanoseconds since the epoch.
+     *
+     * @param date the encoded date
+     * @return the decoded date
+     */
+    static LocalDateTime decode(long date) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(date, NANOS_PER_SECOND),
+            (int) Math.floorMod(date, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    /**
+     * Growable array of the encoded dates of one key.
+     */
+    private static final class Dates {
+
+        private long[] values = new long[4];
+        private int count;
+
+        void add(long date) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = date;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dev.kpucha.pricechecker.application.batch;
+
+import java.time.LocalDateTime;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Formats one resolved tuple of a batch as text.
+ *
+ * Called concurrently from the threads resolving the batch, each with its own
+ * buffer, so implementations must be stateless.
+ */
+@FunctionalInterface
+public interface PriceBatchFormatter {
+
+    /**
+     * Appends a resolved tuple, line separator included, to the given buffer.
+     *
+     * @param output          the buffer of the chunk being formatted
+     * @param key             the brand and product of the tuple
+     * @param applicationDate the date of the tuple
+     * @param price           the applicable price with the highest priority, null if none
+     */
+    void format(StringBuilder output, PriceKey key, LocalDateTime applicationDate, Price price);
+}
@@ -0,0 +1,23 @@
+package dev.kpucha.pricechecker.application.batch;
+
+import java.time.Duration;
+
+/**
+ * Outcome of the resolution of a batch.
+ *
+ * @param tuples          number of tuples resolved
+ * @param keys            number of distinct brand and product keys
+ * @param found           number of tuples with an applicable price
+ * @param parallelism     number of threads resolving keys
+ * @param elapsed         time taken by the resolution, output included
+ * @param tuplesPerSecond throughput of the resolution
+ */
+public record PriceBatchReport(
+        long tuples,
+        int keys,
+        long found,
+        int parallelism,
+        Duration elapsed,
+        long tuplesPerSecond) {
+
+}
@@ -0,0 +1,206 @@
+package dev.kpucha.pricechecker.application.batch;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceSegment;
+import dev.kpucha.pricechecker.domain.model.PriceTimeline;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+
+/**
+ * Resolves the prioritized price of every tuple of a batch and streams the
+ * formatted results, in brand, product and date order.
+ *
+ * The keys are sorted and resolved in windows, each split with fork-join into
+ * leaves of a few keys. A leaf loads the prices of its keys with one
+ * repository call, builds the timeline of each key once, and sweeps the
+ * sorted dates of the key with a single pointer over the timeline segments,
+ * so that a key queried at n dates costs one load and O(n + segments) steps
+ * rather than n lookups. Leaves format their output into their own chunk; the
+ * calling thread writes the chunks of a window in order while the next window
+ * is being resolved, so throughput grows with the pool parallelism and memory
+ * use is bounded by two windows of output.
+ */
+public class PriceBatchResolver implements AutoCloseable {
+
+    /**
+     * Port to access price data.
+     */
+    private final PriceRepositoryPort priceRepositoryPort;
+
+    /**
+     * Pool resolving the leaves, dedicated so that a batch does not starve
+     * the common pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Number of keys loaded and resolved by one leaf.
+     */
+    private final int leafKeys;
+
+    /**
+     * Number of keys resolved before their output is written.
+     */
+    private final int windowKeys;
+
+    /**
+     * Constructs a new PriceBatchResolver.
+     *
+     * @param priceRepositoryPort the port to access price data
+     * @param parallelism         the number of threads resolving keys
+     * @param leafKeys            the number of keys loaded and resolved by one leaf
+     * @param windowKeys          the number of keys resolved before their output is written
+     */
+    public PriceBatchResolver(PriceRepositoryPort priceRepositoryPort, int parallelism, int leafKeys, int windowKeys) {
+        if (parallelism < 1 || leafKeys < 1 || windowKeys < leafKeys) {
+            throw new IllegalArgumentException("Invalid batch resolution settings: parallelism=" + parallelism
+                + ", leafKeys=" + leafKeys + ", windowKeys=" + windowKeys);
+        }
+        this.priceRepositoryPort = priceRepositoryPort;
+        this.pool = new ForkJoinPool(parallelism);
+        this.leafKeys = leafKeys;
+        this.windowKeys = windowKeys;
+    }
+
+    /**
+     * Resolves every tuple of the batch and writes the formatted results.
+     *
+     * @param batch     the tuples to resolve
+     * @param formatter the formatter of each resolved tuple
+     * @param output    the stream the results are written to, flushed but not closed
+     * @return the outcome of the resolution
+     * @throws IOException if the output cannot be written
+     */
+    public PriceBatchReport resolve(PriceBatch batch, PriceBatchFormatter formatter, OutputStream output) throws IOException {
+        long start = System.nanoTime();
+        List<PriceKey> keys = batch.sortedKeys();
+        LongAdder found = new LongAdder();
+
+        ForkJoinTask<byte[][]> next = keys.isEmpty() ? null : submitWindow(batch, keys, 0, formatter, found);
+        try {
+            for (int from = 0; next != null; from += windowKeys) {
+                byte[][] chunks = next.join();
+                next = from + windowKeys < keys.size()
+                    ? submitWindow(batch, keys, from + windowKeys, formatter, found)
+                    : null;
+                for (byte[] chunk : chunks) {
+                    output.write(chunk);
+                }
+            }
+        } finally {
+            if (next != null) {
+                next.cancel(true);
+            }
+        }
+        output.flush();
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        long tuplesPerSecond = batch.size() * 1_000_000_000L / Math.max(1, elapsed.toNanos());
+        return new PriceBatchReport(batch.size(), keys.size(), found.sum(), pool.getParallelism(), elapsed, tuplesPerSecond);
+    }
+
+    /**
+     * Returns the number of threads resolving keys.
+     *
+     * @return the parallelism of the pool
+     */
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Shuts the pool down.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private ForkJoinTask<byte[][]> submitWindow(PriceBatch batch, List<PriceKey> keys, int from,
+            PriceBatchFormatter formatter, LongAdder found) {
+        List<PriceKey> window = keys.subList(from, Math.min(keys.size(), from + windowKeys));
+        return pool.submit(() -> {
+            byte[][] chunks = new byte[(window.size() + leafKeys - 1) / leafKeys][];
+            new Leaves(batch, window, formatter, found, chunks, 0, chunks.length).invoke();
+            return chunks;
+        });
+    }
+
+    private byte[] resolveLeaf(PriceBatch batch, List<PriceKey> keys, PriceBatchFormatter formatter, LongAdder found) {
+        Map<PriceKey, List<Price>> prices = priceRepositoryPort.findPricesByKeys(keys);
+        StringBuilder output = new StringBuilder(keys.size() * 64);
+        long hits = 0;
+        for (PriceKey key : keys) {
+            List<PriceSegment> segments = PriceTimeline.of(prices.getOrDefault(key, List.of())).segments();
+            long[] starts = new long[segments.size()];
+            long[] ends = new long[segments.size()];
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = PriceBatch.encodeBound(segments.get(i).from());
+                ends[i] = PriceBatch.encodeBound(segments.get(i).to());
+            }
+
+            int segment = 0;
+            for (long date : batch.sortedDates(key)) {
+                while (segment < ends.length && ends[segment] <= date) {
+                    segment++;
+                }
+                Price price = segment < starts.length && starts[segment] <= date ? segments.get(segment).price() : null;
+                if (price != null) {
+                    hits++;
+                }
+                formatter.format(output, key, PriceBatch.decode(date), price);
+            }
+        }
+        found.add(hits);
+        return output.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Resolves a range of leaves of a window, halving it until a single leaf
+     * remains.
+     */
+    private final class Leaves extends RecursiveAction {
+
+        private final PriceBatch batch;
+        private final List<PriceKey> window;
+        private final PriceBatchFormatter formatter;
+        private final LongAdder found;
+        private final byte[][] chunks;
+        private final int from;
+        private final int to;
+
+        Leaves(PriceBatch batch, List<PriceKey> window, PriceBatchFormatter formatter, LongAdder found,
+                byte[][] chunks, int from, int to) {
+            this.batch = batch;
+            this.window = window;
+            this.formatter = formatter;
+            this.found = found;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                List<PriceKey> keys = window.subList(from * leafKeys, Math.min(window.size(), (from + 1) * leafKeys));
+                chunks[from] = resolveLeaf(batch, keys, formatter, found);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Leaves(batch, window, formatter, found, chunks, from, middle),
+                new Leaves(batch, window, formatter, found, chunks, middle, to));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package dev.kpucha.pricechecker.application.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Represents a request for the prices of several products and brands at once.
+ */
+public record BulkPriceRequest(
+        @NotEmpty(message = "At least one item is required")
+        @Size(max = BulkPriceRequest.MAX_ITEMS, message = "At most " + BulkPriceRequest.MAX_ITEMS + " items are allowed")
+        List<@Valid @NotNull PriceRequest> items) {
+
+    /**
+     * Maximum number of items accepted in a single request.
+     */
+    public static final int MAX_ITEMS = 1000;
+
+}
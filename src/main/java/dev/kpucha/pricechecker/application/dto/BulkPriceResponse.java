@@ -0,0 +1,12 @@
+package dev.kpucha.pricechecker.application.dto;
+
+import java.util.List;
+
+/**
+ * Represents the response to a bulk price request, with one result per
+ * requested item in the same order.
+ */
+public record BulkPriceResponse(
+        List<BulkPriceResult> results) {
+
+}
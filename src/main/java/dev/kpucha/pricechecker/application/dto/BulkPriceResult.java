@@ -0,0 +1,17 @@
+package dev.kpucha.pricechecker.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents the result of a single item of a bulk price request.
+ * When no applicable price is found, {@code found} is false and
+ * {@code price} is null.
+ */
+public record BulkPriceResult(
+        LocalDateTime applicationDate,
+        Integer productId,
+        Integer brandId,
+        boolean found,
+        PrioritizedPriceResponse price) {
+
+}
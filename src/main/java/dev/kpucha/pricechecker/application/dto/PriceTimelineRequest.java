@@ -0,0 +1,48 @@
+package dev.kpucha.pricechecker.application.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Represents a request for the price timeline of a product and brand over a
+ * date range. The range starts at {@code from}, inclusive, and ends at
+ * {@code to}, exclusive. To read the next page of a long range, repeat the
+ * request with {@code from} set to the {@code next} instant of the response.
+ */
+public record PriceTimelineRequest(
+        @NotNull(message = "Product ID is required") @Positive(message = "Product ID must be positive") Integer productId,
+        @NotNull(message = "Brand ID is required") @Positive(message = "Brand ID must be positive") Integer brandId,
+        @NotNull(message = "Start of the range is required") LocalDateTime from,
+        @NotNull(message = "End of the range is required") LocalDateTime to,
+        @Positive(message = "Limit must be positive")
+        @Max(value = PriceTimelineRequest.MAX_SEGMENTS, message = "At most " + PriceTimelineRequest.MAX_SEGMENTS + " segments can be requested")
+        Integer limit) {
+
+    /**
+     * Maximum number of segments returned in a single response.
+     */
+    public static final int MAX_SEGMENTS = 1000;
+
+    /**
+     * Checks that the range is not empty.
+     *
+     * @return true if the range ends after it starts, or a bound is missing
+     */
+    @AssertTrue(message = "End of the range must be after its start")
+    public boolean isRangeOrdered() {
+        return from == null || to == null || to.isAfter(from);
+    }
+
+    /**
+     * Returns the requested number of segments, or the maximum if none was given.
+     *
+     * @return the number of segments to return
+     */
+    public int limitOrDefault() {
+        return limit == null ? MAX_SEGMENTS : limit;
+    }
+}
@@ -0,0 +1,17 @@
+package dev.kpucha.pricechecker.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Represents the price timeline of a product and brand over a date range.
+ * When the range holds more segments than requested, {@code next} is the
+ * start of the next page; otherwise it is null.
+ */
+public record PriceTimelineResponse(
+        Integer productId,
+        Integer brandId,
+        List<PriceTimelineSegment> segments,
+        LocalDateTime next) {
+
+}
@@ -0,0 +1,37 @@
+package dev.kpucha.pricechecker.application.dto;
+
+import java.time.LocalDateTime;
+
+import dev.kpucha.pricechecker.domain.model.PriceSegment;
+
+/**
+ * Represents a period of a price timeline during which a single price applies.
+ * The period starts at {@code from} and ends at {@code to}, both inclusive
+ * like the dates of {@code PRICES}, and never ends when {@code to} is null.
+ * Bounds keep the full precision of the price dates: a segment ending with its
+ * price ends at the {@code END_DATE} of that price, and the segment following
+ * it starts one nanosecond later.
+ */
+public record PriceTimelineSegment(
+        LocalDateTime from,
+        LocalDateTime to,
+        Integer priceList,
+        Double price,
+        String currency) {
+
+    /**
+     * Creates the response for the given segment.
+     *
+     * @param segment the winning price segment
+     * @return the response exposing the given segment
+     */
+    public static PriceTimelineSegment from(PriceSegment segment) {
+        return new PriceTimelineSegment(
+                segment.from(),
+                segment.to() != null ? segment.to().minusNanos(1) : null,
+                segment.price().priceList(),
+                segment.price().price().doubleValue(),
+                segment.price().currency());
+    }
+
+}
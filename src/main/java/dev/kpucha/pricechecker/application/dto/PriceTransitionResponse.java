@@ -0,0 +1,31 @@
+package dev.kpucha.pricechecker.application.dto;
+
+import java.time.LocalDateTime;
+
+import dev.kpucha.pricechecker.domain.event.PriceTransitionEvent;
+
+/**
+ * Represents a change of the prioritized price of a product and brand pushed
+ * to subscribers.
+ */
+public record PriceTransitionResponse(
+        Integer productId,
+        Integer brandId,
+        LocalDateTime at,
+        PrioritizedPriceResponse price) {
+
+    /**
+     * Creates the response for the given transition.
+     *
+     * @param event the transition
+     * @return the response exposing the new price, null when none applies
+     */
+    public static PriceTransitionResponse from(PriceTransitionEvent event) {
+        return new PriceTransitionResponse(
+                event.key().productId(),
+                event.key().brandId(),
+                event.at(),
+                event.price() != null ? PrioritizedPriceResponse.from(event.price()) : null);
+    }
+
+}
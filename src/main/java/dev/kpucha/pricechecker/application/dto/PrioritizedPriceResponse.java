@@ -2,6 +2,8 @@ package dev.kpucha.pricechecker.application.dto;
 
 import java.time.LocalDateTime;
 
+import dev.kpucha.pricechecker.domain.model.Price;
+
 /**
  * Represents a prioritized price response.
  */
@@ -14,4 +16,21 @@ public record PrioritizedPriceResponse(
         Double price,
         String currency) {
 
+    /**
+     * Creates the response for the given price.
+     *
+     * @param price the prioritized price
+     * @return the response exposing the given price
+     */
+    public static PrioritizedPriceResponse from(Price price) {
+        return new PrioritizedPriceResponse(
+                price.productId(),
+                price.brandId(),
+                price.priceList(),
+                price.startDate(),
+                price.endDate(),
+                price.price().doubleValue(),
+                price.currency());
+    }
+
 }
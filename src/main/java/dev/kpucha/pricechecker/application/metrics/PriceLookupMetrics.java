@@ -0,0 +1,269 @@
+package dev.kpucha.pricechecker.application.metrics;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Meters recorded along a price lookup, so that latency can be attributed to
+ * the stage that caused it and products with an oversized price history can
+ * be spotted.
+ *
+ * Stage timers share the name {@value #STAGE_TIMER} and are told apart by the
+ * {@code stage} tag: {@code query}, {@code mapping}, {@code resolve} and
+ * {@code serialization}.
+ *
+ * Bulk lookups resolve each query among the candidates of its key, so
+ * {@code resolve} and {@value #APPLICABLE_SUMMARY} describe that filtering.
+ * Single lookups are resolved by the repository itself, with a point query or
+ * a timeline search returning the winner only: {@code resolve} then times that
+ * call, and {@value #APPLICABLE_SUMMARY} records 1 or 0 depending on whether a
+ * price applied.
+ *
+ * Result counters are registered upfront, tagged by brand for the configured
+ * known brands and with {@value #OTHER_BRAND} for any other, so that clients
+ * cannot create meter series at will.
+ *
+ * Lookups run through {@link #unrecorded} are recorded by a copy of the meters
+ * that is never published, so that synthetic traffic such as the startup
+ * warm-up exercises the same code without skewing production metrics. The
+ * decorators of the lookup path with meters of their own check
+ * {@link #isUnrecorded()} for the same purpose.
+ */
+public class PriceLookupMetrics {
+
+    /**
+     * Name of the timers of each lookup stage.
+     */
+    public static final String STAGE_TIMER = "pricechecker.lookup.stage";
+
+    /**
+     * Name of the distribution of rows loaded per product and brand.
+     */
+    public static final String CANDIDATES_SUMMARY = "pricechecker.lookup.candidates";
+
+    /**
+     * Name of the distribution of rows applicable at the requested date.
+     */
+    public static final String APPLICABLE_SUMMARY = "pricechecker.lookup.applicable";
+
+    /**
+     * Name of the counters of lookups with and without an applicable price.
+     */
+    public static final String RESULTS_COUNTER = "pricechecker.lookup.results";
+
+    /**
+     * Brand tag of the lookups of brands not known in advance.
+     */
+    public static final String OTHER_BRAND = "other";
+
+    /**
+     * Whether the current thread runs lookups that are not published.
+     */
+    private static final ThreadLocal<Boolean> UNRECORDED = ThreadLocal.withInitial(() -> false);
+
+    private final Timer query;
+    private final Timer mapping;
+    private final Timer resolve;
+    private final Timer serialization;
+    private final DistributionSummary candidates;
+    private final DistributionSummary applicable;
+
+    /**
+     * Hit and miss counters of each known brand.
+     */
+    private final Map<Integer, Counter[]> results = new HashMap<>();
+
+    /**
+     * Hit and miss counters of the other brands.
+     */
+    private final Counter[] otherResults;
+
+    /**
+     * Meters recording the unrecorded lookups, null in that copy itself.
+     */
+    private final PriceLookupMetrics discarded;
+
+    /**
+     * Constructs a new PriceLookupMetrics registering its meters in the given
+     * registry.
+     *
+     * @param meterRegistry the registry to publish the meters to
+     * @param knownBrands   the brands counted under their own tag
+     */
+    public PriceLookupMetrics(MeterRegistry meterRegistry, Collection<Integer> knownBrands) {
+        this(meterRegistry, knownBrands, new PriceLookupMetrics(new SimpleMeterRegistry(), knownBrands, null));
+    }
+
+    private PriceLookupMetrics(MeterRegistry meterRegistry, Collection<Integer> knownBrands, PriceLookupMetrics discarded) {
+        this.discarded = discarded;
+        this.query = stageTimer(meterRegistry, "query", "Time spent querying the price store");
+        this.mapping = stageTimer(meterRegistry, "mapping", "Time spent mapping stored rows to the domain model");
+        this.resolve = stageTimer(meterRegistry, "resolve", "Time spent filtering candidates by date and priority");
+        this.serialization = stageTimer(meterRegistry, "serialization", "Time spent serializing price responses");
+        this.candidates = rowSummary(meterRegistry, CANDIDATES_SUMMARY, "Price rows loaded per product and brand");
+        this.applicable = rowSummary(meterRegistry, APPLICABLE_SUMMARY, "Price rows applicable at the requested date");
+        for (Integer brandId : knownBrands) {
+            results.put(brandId, resultCounters(meterRegistry, String.valueOf(brandId)));
+        }
+        this.otherResults = resultCounters(meterRegistry, OTHER_BRAND);
+    }
+
+    /**
+     * Returns the timer of the price store query stage.
+     *
+     * @return the query timer
+     */
+    public Timer query() {
+        return current().query;
+    }
+
+    /**
+     * Returns the timer of the row to domain model mapping stage.
+     *
+     * @return the mapping timer
+     */
+    public Timer mapping() {
+        return current().mapping;
+    }
+
+    /**
+     * Returns the timer of the candidate filtering stage.
+     *
+     * @return the resolve timer
+     */
+    public Timer resolve() {
+        return current().resolve;
+    }
+
+    /**
+     * Returns the timer of the response serialization stage.
+     *
+     * @return the serialization timer
+     */
+    public Timer serialization() {
+        return current().serialization;
+    }
+
+    /**
+     * Records the number of price rows loaded for a product and brand.
+     *
+     * @param rows the number of rows
+     */
+    public void recordCandidates(int rows) {
+        current().candidates.record(rows);
+    }
+
+    /**
+     * Records the number of price rows applicable at the requested date.
+     *
+     * @param rows the number of rows
+     */
+    public void recordApplicable(int rows) {
+        current().applicable.record(rows);
+    }
+
+    /**
+     * Counts a lookup with or without an applicable price.
+     *
+     * @param brandId the ID of the brand looked up
+     * @param found   whether an applicable price was found
+     */
+    public void recordResult(Integer brandId, boolean found) {
+        PriceLookupMetrics current = current();
+        Counter[] counters = current.results.getOrDefault(brandId, current.otherResults);
+        counters[found ? 0 : 1].increment();
+    }
+
+    /**
+     * Runs the given lookups on the current thread without publishing their
+     * meters.
+     *
+     * @param <T>     the type of the result
+     * @param lookups the lookups to run
+     * @return the result of the lookups
+     */
+    public <T> T unrecorded(Supplier<T> lookups) {
+        boolean previous = UNRECORDED.get();
+        UNRECORDED.set(true);
+        try {
+            return lookups.get();
+        } finally {
+            UNRECORDED.set(previous);
+        }
+    }
+
+    /**
+     * Returns whether the current thread runs lookups that are not published.
+     *
+     * @return true within {@link #unrecorded}
+     */
+    public static boolean isUnrecorded() {
+        return UNRECORDED.get();
+    }
+
+    /**
+     * Wraps the given task so that it runs unrecorded when submitted by
+     * unrecorded lookups, for work they hand off to another thread.
+     *
+     * @param task the task to run
+     * @return the task itself outside unrecorded lookups, a task running it
+     *         unrecorded otherwise
+     */
+    public static Runnable inheritUnrecorded(Runnable task) {
+        if (!UNRECORDED.get()) {
+            return task;
+        }
+        return () -> {
+            boolean previous = UNRECORDED.get();
+            UNRECORDED.set(true);
+            try {
+                task.run();
+            } finally {
+                UNRECORDED.set(previous);
+            }
+        };
+    }
+
+    private PriceLookupMetrics current() {
+        return discarded != null && UNRECORDED.get() ? discarded : this;
+    }
+
+    private static Counter[] resultCounters(MeterRegistry meterRegistry, String brand) {
+        Counter[] counters = new Counter[2];
+        int index = 0;
+        for (String result : new String[] {"hit", "miss"}) {
+            counters[index++] = Counter.builder(RESULTS_COUNTER)
+                .description("Price lookups by brand and outcome")
+                .tag("brand", brand)
+                .tag("result", result)
+                .register(meterRegistry);
+        }
+        return counters;
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage, String description) {
+        return Timer.builder(STAGE_TIMER)
+            .description(description)
+            .tag("stage", stage)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private static DistributionSummary rowSummary(MeterRegistry meterRegistry, String name, String description) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .baseUnit("rows")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
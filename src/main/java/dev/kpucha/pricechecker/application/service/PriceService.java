@@ -1,35 +1,51 @@
 package dev.kpucha.pricechecker.application.service;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
 import dev.kpucha.pricechecker.domain.exception.PriceNotFoundException;
 import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceQuery;
+import dev.kpucha.pricechecker.domain.model.PriceSegment;
+import dev.kpucha.pricechecker.domain.port.input.GetPriceTimelineUseCase;
 import dev.kpucha.pricechecker.domain.port.input.GetPrioritizedPriceUseCase;
 import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
 
 /**
  * Implementation of the GetPrioritizedPriceUseCase that retrieves the
- * applicable price with highest priority.
+ * applicable price with highest priority, and of the GetPriceTimelineUseCase
+ * that retrieves it over a date range.
  */
 @Service
-public class PriceService implements GetPrioritizedPriceUseCase {
+public class PriceService implements GetPrioritizedPriceUseCase, GetPriceTimelineUseCase {
 
     /**
      * Port to access price data from persistence.
      */
     private final PriceRepositoryPort priceRepositoryPort;
 
+    /**
+     * Meters recorded along each lookup.
+     */
+    private final PriceLookupMetrics metrics;
+
     /**
      * Constructs a new PriceService with the given repository port.
      *
      * @param priceRepositoryPort the port to access price data from persistence
+     * @param metrics             the meters recorded along each lookup
      */
-    public PriceService(PriceRepositoryPort priceRepositoryPort) {
+    public PriceService(PriceRepositoryPort priceRepositoryPort, PriceLookupMetrics metrics) {
         this.priceRepositoryPort = priceRepositoryPort;
+        this.metrics = metrics;
     }
 
     /**
@@ -47,11 +63,88 @@ public class PriceService implements GetPrioritizedPriceUseCase {
      */
     @Override
     public Price getPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
-        List<Price> applicablePrices = priceRepositoryPort.findPricesByProductIdAndBrandId(productId, brandId);
-
-        return applicablePrices.stream()
-                .filter(p -> !applicationDate.isBefore(p.startDate()) && !applicationDate.isAfter(p.endDate()))
-                .max(Comparator.comparingInt(Price::priority))
+        return findPrioritizedPrice(applicationDate, productId, brandId)
                 .orElseThrow(() -> new PriceNotFoundException("No applicable price found for the given parameters"));
     }
+
+    /**
+     * Finds the prioritized price applicable at the specified date for the
+     * given product and brand.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, or empty if no
+     *         applicable price is found
+     */
+    @Override
+    public Optional<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        Optional<Price> price = metrics.resolve().record(() -> priceRepositoryPort.findPrioritizedPrice(applicationDate, productId, brandId));
+        metrics.recordApplicable(price.isPresent() ? 1 : 0);
+        metrics.recordResult(brandId, price.isPresent());
+        return price;
+    }
+
+    /**
+     * Retrieves the prioritized price of each query. Queries are grouped by
+     * product and brand so that each key is loaded once, in a single call to
+     * the repository port.
+     *
+     * @param queries the product, brand and date of each lookup
+     * @return the applicable price of each query, in the same order, or empty
+     *         if no applicable price is found for it
+     */
+    @Override
+    public List<Optional<Price>> getPrioritizedPrices(List<PriceQuery> queries) {
+        Set<PriceKey> keys = new LinkedHashSet<>();
+        queries.forEach(q -> keys.add(q.key()));
+
+        Map<PriceKey, List<Price>> pricesByKey = priceRepositoryPort.findPricesByKeys(keys);
+
+        return metrics.resolve().record(() -> queries.stream()
+                .map(q -> resolve(pricesByKey.getOrDefault(q.key(), List.of()), q))
+                .toList());
+    }
+
+    /**
+     * Retrieves the winning price segments of the given product and brand over
+     * the given range. The timeline is built in a single sweep over the prices
+     * sorted by start date, and the range is located with a binary search.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @param from      the start of the range, inclusive
+     * @param to        the end of the range, exclusive
+     * @param limit     the maximum number of segments returned
+     * @return the first {@code limit} segments of the range, clipped to it
+     */
+    @Override
+    public List<PriceSegment> getPriceTimeline(Integer productId, Integer brandId, LocalDateTime from, LocalDateTime to, int limit) {
+        List<PriceSegment> segments = priceRepositoryPort.findPriceTimeline(productId, brandId).segments(from, to);
+        return segments.size() > limit ? List.copyOf(segments.subList(0, limit)) : segments;
+    }
+
+    /**
+     * Selects the applicable price with the highest priority among the
+     * candidates of a query, keeping the first one on equal priority.
+     *
+     * @param candidates the prices of the product and brand of the query
+     * @param query      the lookup to resolve
+     * @return the applicable price with the highest priority, if any
+     */
+    private Optional<Price> resolve(List<Price> candidates, PriceQuery query) {
+        Price winner = null;
+        int applicable = 0;
+        for (Price candidate : candidates) {
+            if (candidate.isApplicableAt(query.applicationDate())) {
+                applicable++;
+                if (winner == null || candidate.priority() > winner.priority()) {
+                    winner = candidate;
+                }
+            }
+        }
+        metrics.recordApplicable(applicable);
+        metrics.recordResult(query.brandId(), winner != null);
+        return Optional.ofNullable(winner);
+    }
 }
@@ -0,0 +1,88 @@
+package dev.kpucha.pricechecker.application.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.stereotype.Service;
+
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceQuery;
+import dev.kpucha.pricechecker.domain.port.input.ReactiveGetPrioritizedPriceUseCase;
+import dev.kpucha.pricechecker.domain.port.output.ReactivePriceRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of the ReactiveGetPrioritizedPriceUseCase that retrieves the
+ * applicable price with highest priority without blocking the caller.
+ * Only registered on the WebFlux stack, like the R2DBC adapter it reads from.
+ */
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactivePriceService implements ReactiveGetPrioritizedPriceUseCase {
+
+    /**
+     * Maximum number of queries of a bulk lookup resolved at once.
+     */
+    static final int BULK_CONCURRENCY = 16;
+
+    /**
+     * Port to access price data from persistence.
+     */
+    private final ReactivePriceRepositoryPort priceRepositoryPort;
+
+    /**
+     * Meters recorded along each lookup.
+     */
+    private final PriceLookupMetrics metrics;
+
+    /**
+     * Constructs a new ReactivePriceService with the given repository port.
+     *
+     * @param priceRepositoryPort the port to access price data from persistence
+     * @param metrics             the meters recorded along each lookup
+     */
+    public ReactivePriceService(ReactivePriceRepositoryPort priceRepositoryPort, PriceLookupMetrics metrics) {
+        this.priceRepositoryPort = priceRepositoryPort;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Finds the prioritized price applicable at the specified date for the
+     * given product and brand.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, or empty if no
+     *         applicable price is found
+     */
+    @Override
+    public Mono<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return priceRepositoryPort.findPrioritizedPrice(applicationDate, productId, brandId)
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .doOnNext(price -> metrics.recordResult(brandId, price.isPresent()))
+            .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Finds the prioritized price of each query, resolving at most
+     * {@value #BULK_CONCURRENCY} of them at once and emitting results in query
+     * order.
+     *
+     * @param queries the product, brand and date of each lookup
+     * @return the applicable price of each query, in the same order, or empty
+     *         if no applicable price is found for it
+     */
+    @Override
+    public Flux<Optional<Price>> getPrioritizedPrices(Flux<PriceQuery> queries) {
+        return queries.flatMapSequential(query -> findPrioritizedPrice(query.applicationDate(), query.productId(), query.brandId())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty()),
+            BULK_CONCURRENCY);
+    }
+}
@@ -0,0 +1,22 @@
+package dev.kpucha.pricechecker.domain.event;
+
+import java.time.LocalDateTime;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Event published when the price with the highest priority of a key changes
+ * because a price starts or ends.
+ *
+ * @param key   the brand and product whose price changed
+ * @param at    the start date of the starting price, from which the new price
+ *              applies, or the end date of the ending price, after which it applies
+ * @param price the new applicable price with the highest priority, null if none applies
+ */
+public record PriceTransitionEvent(
+        PriceKey key,
+        LocalDateTime at,
+        Price price) {
+
+}
@@ -0,0 +1,14 @@
+package dev.kpucha.pricechecker.domain.event;
+
+import java.util.Set;
+
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Event published whenever prices are written, so that any cache or index
+ * derived from them can be refreshed for the affected keys only.
+ */
+public record PricesChangedEvent(
+        Set<PriceKey> keys) {
+
+}
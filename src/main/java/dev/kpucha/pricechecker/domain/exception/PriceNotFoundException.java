@@ -5,12 +5,16 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 /**
  * Exception thrown when a price is not found in the system.
+ *
+ * A missing price is an expected outcome rather than a failure, so the
+ * exception does not capture a stack trace. Callers on a hot path should use
+ * the Optional-returning lookups instead of catching it.
  */
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class PriceNotFoundException extends RuntimeException {
 
     public PriceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
 }
@@ -5,6 +5,9 @@ import java.time.LocalDateTime;
 
 /**
  * Represents a price in the system.
+ *
+ * The ID and last update identify the stored row the price was read from, and
+ * are null when the source does not keep them.
  */
 public record Price(
         Integer brandId,
@@ -14,6 +17,36 @@ public record Price(
         Integer productId,
         Integer priority,
         BigDecimal price,
-        String currency) {
+        String currency,
+        Long id,
+        LocalDateTime lastUpdate) {
+
+    /**
+     * Creates a price not bound to a stored row.
+     *
+     * @param brandId    the ID of the brand
+     * @param startDate  the start of the period, inclusive
+     * @param endDate    the end of the period, inclusive
+     * @param priceList  the ID of the price list
+     * @param productId  the ID of the product
+     * @param priority   the priority over overlapping prices
+     * @param price      the amount
+     * @param currency   the ISO currency code
+     */
+    public Price(Integer brandId, LocalDateTime startDate, LocalDateTime endDate, Integer priceList,
+            Integer productId, Integer priority, BigDecimal price, String currency) {
+        this(brandId, startDate, endDate, priceList, productId, priority, price, currency, null, null);
+    }
+
+    /**
+     * Checks whether this price applies at the given date. Both start and end
+     * dates are inclusive.
+     *
+     * @param applicationDate the date to check applicability
+     * @return true if the price is valid at the given date
+     */
+    public boolean isApplicableAt(LocalDateTime applicationDate) {
+        return !applicationDate.isBefore(startDate) && !applicationDate.isAfter(endDate);
+    }
 
 }
@@ -0,0 +1,10 @@
+package dev.kpucha.pricechecker.domain.model;
+
+/**
+ * Identifies the set of prices of a product for a given brand.
+ */
+public record PriceKey(
+        Integer brandId,
+        Integer productId) {
+
+}
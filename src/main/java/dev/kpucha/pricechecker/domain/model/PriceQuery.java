@@ -0,0 +1,23 @@
+package dev.kpucha.pricechecker.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a lookup of the prioritized price of a product and brand at a
+ * specific date.
+ */
+public record PriceQuery(
+        LocalDateTime applicationDate,
+        Integer productId,
+        Integer brandId) {
+
+    /**
+     * Returns the key of the prices this query is resolved against.
+     *
+     * @return the brand and product key
+     */
+    public PriceKey key() {
+        return new PriceKey(brandId, productId);
+    }
+
+}
@@ -0,0 +1,15 @@
+package dev.kpucha.pricechecker.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a period during which a single price is the one with the highest
+ * priority. The start is inclusive and the end exclusive; a null end means the
+ * segment never ends.
+ */
+public record PriceSegment(
+        LocalDateTime from,
+        LocalDateTime to,
+        Price price) {
+
+}
@@ -0,0 +1,206 @@
+package dev.kpucha.pricechecker.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * Non-overlapping view of the prices of a single product and brand.
+ *
+ * Overlapping price windows are flattened by priority when the timeline is
+ * built, so every instant maps to at most one winning price and a lookup is a
+ * single binary search. On equal priority the price that comes first in the
+ * source collection wins, as in a linear scan.
+ */
+public final class PriceTimeline {
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(new LocalDateTime[0], new Price[0]);
+
+    /**
+     * Segment start instants in ascending order. Segment {@code i} covers
+     * {@code [boundaries[i], boundaries[i + 1])}; the last one is open-ended.
+     */
+    private final LocalDateTime[] boundaries;
+
+    /**
+     * Winning price of each segment, or null when no price applies.
+     */
+    private final Price[] winners;
+
+    private PriceTimeline(LocalDateTime[] boundaries, Price[] winners) {
+        this.boundaries = boundaries;
+        this.winners = winners;
+    }
+
+    /**
+     * Returns a timeline without prices.
+     *
+     * @return the empty timeline
+     */
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the timeline of the given prices, which are expected to belong to
+     * the same product and brand.
+     *
+     * @param prices the prices to flatten
+     * @return the timeline of the winning prices
+     */
+    public static PriceTimeline of(Collection<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<Candidate> candidates = new ArrayList<>(prices.size());
+        TreeSet<LocalDateTime> instants = new TreeSet<>();
+        for (Price price : prices) {
+            Candidate candidate = new Candidate(price, candidates.size(), exclusiveEnd(price.endDate()));
+            candidates.add(candidate);
+            instants.add(price.startDate());
+            if (candidate.end() != null) {
+                instants.add(candidate.end());
+            }
+        }
+        candidates.sort(Comparator.comparing(c -> c.price().startDate()));
+
+        PriorityQueue<Candidate> active = new PriorityQueue<>(
+                Comparator.comparing((Candidate c) -> c.price().priority()).reversed()
+                        .thenComparingInt(Candidate::order));
+        List<LocalDateTime> boundaries = new ArrayList<>();
+        List<Price> winners = new ArrayList<>();
+        int next = 0;
+        Price current = null;
+
+        for (LocalDateTime instant : instants) {
+            while (next < candidates.size() && !candidates.get(next).price().startDate().isAfter(instant)) {
+                active.add(candidates.get(next++));
+            }
+            while (!active.isEmpty() && active.peek().endsBy(instant)) {
+                active.poll();
+            }
+            Price winner = active.isEmpty() ? null : active.peek().price();
+            if (boundaries.isEmpty() ? winner != null : winner != current) {
+                boundaries.add(instant);
+                winners.add(winner);
+                current = winner;
+            }
+        }
+
+        return new PriceTimeline(boundaries.toArray(LocalDateTime[]::new), winners.toArray(Price[]::new));
+    }
+
+    /**
+     * Finds the winning price at the given instant with a linear scan, without
+     * building a timeline. Cheaper than {@link #of(Collection)} for a single
+     * lookup.
+     *
+     * @param prices  the prices of a product and brand
+     * @param instant the date to check applicability
+     * @return the price with the highest priority at that instant, if any
+     */
+    public static Optional<Price> resolve(Collection<Price> prices, LocalDateTime instant) {
+        return prices.stream()
+                .filter(p -> p.isApplicableAt(instant))
+                .max(Comparator.comparingInt(Price::priority));
+    }
+
+    /**
+     * Finds the winning price at the given instant.
+     *
+     * @param instant the date to check applicability
+     * @return the price with the highest priority at that instant, if any
+     */
+    public Optional<Price> priceAt(LocalDateTime instant) {
+        int index = Arrays.binarySearch(boundaries, instant);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return index < 0 ? Optional.empty() : Optional.ofNullable(winners[index]);
+    }
+
+    /**
+     * Returns the periods of this timeline that have a winning price, in
+     * chronological order. Gaps without any applicable price are left out.
+     *
+     * @return the priced segments of this timeline
+     */
+    public List<PriceSegment> segments() {
+        List<PriceSegment> segments = new ArrayList<>(winners.length);
+        for (int i = 0; i < winners.length; i++) {
+            if (winners[i] != null) {
+                segments.add(new PriceSegment(boundaries[i], i + 1 < boundaries.length ? boundaries[i + 1] : null, winners[i]));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the periods of this timeline that have a winning price within
+     * the given range, in chronological order and clipped to the range. The
+     * first segment is found with a binary search.
+     *
+     * @param from the start of the range, inclusive
+     * @param to   the end of the range, exclusive
+     * @return the priced segments overlapping the range
+     */
+    public List<PriceSegment> segments(LocalDateTime from, LocalDateTime to) {
+        int index = Arrays.binarySearch(boundaries, from);
+        if (index < 0) {
+            index = Math.max(-index - 2, 0);
+        }
+        List<PriceSegment> segments = new ArrayList<>();
+        for (int i = index; i < winners.length && boundaries[i].isBefore(to); i++) {
+            if (winners[i] != null) {
+                LocalDateTime end = i + 1 < boundaries.length && boundaries[i + 1].isBefore(to) ? boundaries[i + 1] : to;
+                LocalDateTime start = boundaries[i].isBefore(from) ? from : boundaries[i];
+                segments.add(new PriceSegment(start, end, winners[i]));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the number of segments, including gaps, of this timeline.
+     *
+     * @return the number of segments
+     */
+    public int size() {
+        return boundaries.length;
+    }
+
+    /**
+     * Checks whether this timeline has no price at all.
+     *
+     * @return true if no instant has an applicable price
+     */
+    public boolean isEmpty() {
+        return boundaries.length == 0;
+    }
+
+    /**
+     * Computes the first instant after the given inclusive end date, or null
+     * when the price never ends.
+     */
+    private static LocalDateTime exclusiveEnd(LocalDateTime endDate) {
+        return endDate.equals(LocalDateTime.MAX) ? null : endDate.plusNanos(1);
+    }
+
+    /**
+     * A price taking part in the sweep, with its position in the source
+     * collection and its exclusive end.
+     */
+    private record Candidate(Price price, int order, LocalDateTime end) {
+
+        boolean endsBy(LocalDateTime instant) {
+            return end != null && !end.isAfter(instant);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package dev.kpucha.pricechecker.domain.port.input;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import dev.kpucha.pricechecker.domain.model.PriceSegment;
+
+/**
+ * Input port for retrieving the effective price of a product and brand over
+ * a date range, as the list of periods during which a single price wins.
+ */
+public interface GetPriceTimelineUseCase {
+
+    /**
+     * Retrieves the periods of the given range during which a price applies to
+     * the given product and brand, with the price of highest priority in each.
+     * Periods without any applicable price are left out.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @param from      the start of the range, inclusive
+     * @param to        the end of the range, exclusive
+     * @param limit     the maximum number of segments returned
+     * @return the first {@code limit} segments of the range, in chronological
+     *         order and clipped to the range
+     */
+    List<PriceSegment> getPriceTimeline(Integer productId, Integer brandId, LocalDateTime from, LocalDateTime to, int limit);
+
+}
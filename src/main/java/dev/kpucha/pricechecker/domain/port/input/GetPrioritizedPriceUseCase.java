@@ -1,9 +1,12 @@
 package dev.kpucha.pricechecker.domain.port.input;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import dev.kpucha.pricechecker.domain.exception.PriceNotFoundException;
 import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceQuery;
 
 /**
  * Input port for retrieve the highest priority price for a product and brand
@@ -20,9 +23,30 @@ public interface GetPrioritizedPriceUseCase {
      * @param applicationDate the date and time for being checked
      * @param productId       the ID of the product
      * @param brandId         the ID of the brand
-     * @return the price for the given parameters, or null if no price is found
+     * @return the price for the given parameters
      * @throws PriceNotFoundException if no applicable price is found
      */
     Price getPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId);
 
+    /**
+     * Finds the price with the highest priority for a given product and brand
+     * at a specific application date, without throwing when there is none.
+     *
+     * @param applicationDate the date and time for being checked
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the price for the given parameters, or empty if no price is found
+     */
+    Optional<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId);
+
+    /**
+     * Retrieves the price with the highest priority for each of the given
+     * queries. Prices of the same product and brand are loaded only once.
+     *
+     * @param queries the product, brand and date of each lookup
+     * @return the price of each query, in the same order, or empty if no
+     *         applicable price is found for it
+     */
+    List<Optional<Price>> getPrioritizedPrices(List<PriceQuery> queries);
+
 }
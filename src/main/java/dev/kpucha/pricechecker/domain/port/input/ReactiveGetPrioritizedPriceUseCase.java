@@ -0,0 +1,40 @@
+package dev.kpucha.pricechecker.domain.port.input;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking input port for retrieving the highest priority price for a
+ * product and brand at a specific date. Counterpart of
+ * GetPrioritizedPriceUseCase for the reactive lookups.
+ */
+public interface ReactiveGetPrioritizedPriceUseCase {
+
+    /**
+     * Finds the price with the highest priority for a given product and brand
+     * at a specific application date.
+     *
+     * @param applicationDate the date and time for being checked
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the price for the given parameters, or empty if no price is found
+     */
+    Mono<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId);
+
+    /**
+     * Finds the price with the highest priority for each of the given queries.
+     * Queries are only requested from upstream as results are consumed, and a
+     * bounded number of them is resolved at once.
+     *
+     * @param queries the product, brand and date of each lookup
+     * @return the price of each query, in the same order, or empty if no
+     *         applicable price is found for it
+     */
+    Flux<Optional<Price>> getPrioritizedPrices(Flux<PriceQuery> queries);
+
+}
@@ -1,8 +1,15 @@
 package dev.kpucha.pricechecker.domain.port.output;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceTimeline;
 
 /**
  * Output port used by domain to retrieve prices from external sources.
@@ -17,4 +24,53 @@ public interface PriceRepositoryPort {
      * @return list of prices available for the given product and brand
      */
     List<Price> findPricesByProductIdAndBrandId(Integer productId, Integer brandId);
+
+    /**
+     * Finds all prices of each of the given brand and product keys.
+     *
+     * The default implementation issues one lookup per key; adapters backed by
+     * a remote store should override it to load every key at once.
+     *
+     * @param keys the brand and product keys to load
+     * @return prices per requested key; keys without prices map to an empty list
+     */
+    default Map<PriceKey, List<Price>> findPricesByKeys(Collection<PriceKey> keys) {
+        Map<PriceKey, List<Price>> prices = new LinkedHashMap<>();
+        for (PriceKey key : keys) {
+            prices.put(key, findPricesByProductIdAndBrandId(key.productId(), key.brandId()));
+        }
+        return prices;
+    }
+
+    /**
+     * Finds the price with the highest priority applicable to the given product
+     * and brand at the given date.
+     *
+     * The default implementation scans the result of
+     * {@link #findPricesByProductIdAndBrandId(Integer, Integer)}; adapters able
+     * to answer point lookups directly should override it.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, if any
+     */
+    default Optional<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return PriceTimeline.resolve(findPricesByProductIdAndBrandId(productId, brandId), applicationDate);
+    }
+
+    /**
+     * Finds the flattened timeline of the prices of the given product and brand.
+     *
+     * The default implementation builds it from the result of
+     * {@link #findPricesByProductIdAndBrandId(Integer, Integer)}; adapters
+     * keeping timelines should return theirs.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @return the timeline of the winning prices
+     */
+    default PriceTimeline findPriceTimeline(Integer productId, Integer brandId) {
+        return PriceTimeline.of(findPricesByProductIdAndBrandId(productId, brandId));
+    }
 }
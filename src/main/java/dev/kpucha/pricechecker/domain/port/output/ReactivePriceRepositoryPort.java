@@ -0,0 +1,43 @@
+package dev.kpucha.pricechecker.domain.port.output;
+
+import java.time.LocalDateTime;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceTimeline;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking output port used by domain to retrieve prices from external
+ * sources. Counterpart of PriceRepositoryPort for the reactive lookups.
+ */
+public interface ReactivePriceRepositoryPort {
+
+    /**
+     * Finds all prices applicable to the given product and brand.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @return the prices available for the given product and brand
+     */
+    Flux<Price> findPricesByProductIdAndBrandId(Integer productId, Integer brandId);
+
+    /**
+     * Finds the price with the highest priority applicable to the given product
+     * and brand at the given date.
+     *
+     * The default implementation scans the result of
+     * {@link #findPricesByProductIdAndBrandId(Integer, Integer)}; adapters
+     * able to answer point lookups directly should override it.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, or empty if none
+     */
+    default Mono<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return findPricesByProductIdAndBrandId(productId, brandId)
+            .collectList()
+            .flatMap(prices -> Mono.justOrEmpty(PriceTimeline.resolve(prices, applicationDate)));
+    }
+}
@@ -0,0 +1,81 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.batch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import dev.kpucha.pricechecker.application.batch.PriceBatch;
+import dev.kpucha.pricechecker.application.batch.PriceBatchFormatter;
+
+/**
+ * CSV format of batches of lookups.
+ *
+ * Each input line holds {@code productId,brandId,applicationDate}, the date
+ * in ISO format; blank lines and a header line starting with a letter are
+ * skipped. Each output line repeats the tuple followed by the
+ * {@code priceList,price,currency} of the applicable price, left empty when
+ * none applies, after a header line. Output lines are ordered by brand,
+ * product and date rather than in input order.
+ */
+public final class PriceBatchCsv {
+
+    /**
+     * Header line of the output.
+     */
+    public static final String HEADER = "productId,brandId,applicationDate,priceList,price,currency\n";
+
+    /**
+     * Formats a resolved tuple as an output line.
+     */
+    public static final PriceBatchFormatter FORMATTER = (output, key, applicationDate, price) -> {
+        output.append(key.productId()).append(',').append(key.brandId()).append(',');
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(applicationDate, output);
+        output.append(',');
+        if (price != null) {
+            output.append(price.priceList()).append(',').append(price.price().toPlainString()).append(',').append(price.currency());
+        } else {
+            output.append(",,");
+        }
+        output.append('\n');
+    };
+
+    private PriceBatchCsv() {
+    }
+
+    /**
+     * Reads every tuple of the given input.
+     *
+     * @param reader    the CSV input, not closed
+     * @param maxTuples the maximum number of tuples read
+     * @return the batch of the tuples read
+     * @throws IOException                 if the input cannot be read
+     * @throws IllegalArgumentException    if a line is malformed, naming its number
+     * @throws PriceBatchTooLargeException as soon as the input holds more than {@code maxTuples} tuples
+     */
+    public static PriceBatch read(BufferedReader reader, long maxTuples) throws IOException {
+        PriceBatch batch = new PriceBatch();
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && Character.isLetter(line.strip().charAt(0)))) {
+                continue;
+            }
+            if (batch.size() == maxTuples) {
+                throw new PriceBatchTooLargeException(maxTuples);
+            }
+            try {
+                String[] values = line.split(",", -1);
+                if (values.length != 3) {
+                    throw new IllegalArgumentException("Expected 3 columns but found " + values.length);
+                }
+                batch.add(Integer.valueOf(values[0].strip()), Integer.valueOf(values[1].strip()),
+                    LocalDateTime.parse(values[2].strip()));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Malformed line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,104 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.batch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import dev.kpucha.pricechecker.application.batch.PriceBatch;
+import dev.kpucha.pricechecker.application.batch.PriceBatchReport;
+import dev.kpucha.pricechecker.application.batch.PriceBatchResolver;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.PriceShards;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.ShardNotOwnerException;
+import dev.kpucha.pricechecker.infrastructure.config.PriceBatchProperties;
+
+/**
+ * Actuator endpoint resolving a batch of lookups from file to file.
+ *
+ * {@code POST /actuator/pricebatch} with an {@code input} and an
+ * {@code output} path reads the tuples of the input CSV file, resolves them
+ * and writes the results to the output file, in the format of PriceBatchCsv.
+ * {@code GET /actuator/pricebatch} returns the outcome of the last batch.
+ * Input files are bounded by {@code pricechecker.batch.max-tuples} and, with
+ * sharding, may only hold keys owned by this node.
+ */
+@Component
+@Endpoint(id = "pricebatch")
+public class PriceBatchEndpoint {
+
+    /**
+     * Resolver of the batches.
+     */
+    private final PriceBatchResolver resolver;
+
+    /**
+     * Assignment of keys to nodes, if sharding is enabled.
+     */
+    private final ObjectProvider<PriceShards> shards;
+
+    /**
+     * Maximum number of tuples of a batch.
+     */
+    private final long maxTuples;
+
+    /**
+     * Outcome of the last batch, null before the first one.
+     */
+    private volatile PriceBatchReport lastReport;
+
+    /**
+     * Constructs a new PriceBatchEndpoint.
+     *
+     * @param resolver   the resolver of the batches
+     * @param shards     the assignment of keys to nodes, if sharding is enabled
+     * @param properties the batch configuration
+     */
+    public PriceBatchEndpoint(PriceBatchResolver resolver, ObjectProvider<PriceShards> shards,
+            PriceBatchProperties properties) {
+        this.resolver = resolver;
+        this.shards = shards;
+        this.maxTuples = properties.maxTuples();
+    }
+
+    /**
+     * Resolves the tuples of the input file into the output file.
+     *
+     * @param input  the CSV file of the tuples
+     * @param output the CSV file of the results, replaced if present
+     * @return the outcome of the batch
+     * @throws IOException                 if a file cannot be read or written
+     * @throws PriceBatchTooLargeException if the input holds too many tuples
+     * @throws ShardNotOwnerException      if another node owns one of the keys
+     */
+    @WriteOperation
+    public PriceBatchReport resolve(String input, String output) throws IOException {
+        PriceBatch batch;
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(input), StandardCharsets.UTF_8)) {
+            batch = PriceBatchCsv.read(reader, maxTuples);
+        }
+        shards.ifAvailable(priceShards -> priceShards.requireOwned(batch.sortedKeys()));
+        try (OutputStream stream = Files.newOutputStream(Path.of(output))) {
+            stream.write(PriceBatchCsv.HEADER.getBytes(StandardCharsets.UTF_8));
+            lastReport = resolver.resolve(batch, PriceBatchCsv.FORMATTER, stream);
+        }
+        return lastReport;
+    }
+
+    /**
+     * Returns the outcome of the last batch.
+     *
+     * @return the outcome, or null if no batch was resolved yet
+     */
+    @ReadOperation
+    public PriceBatchReport lastReport() {
+        return lastReport;
+    }
+}
@@ -0,0 +1,17 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.batch;
+
+/**
+ * Exception thrown when a batch holds more tuples than the configured
+ * maximum, so that reading stops before the batch exhausts the heap.
+ */
+public class PriceBatchTooLargeException extends RuntimeException {
+
+    /**
+     * Constructs a new PriceBatchTooLargeException.
+     *
+     * @param maxTuples the maximum number of tuples of a batch
+     */
+    public PriceBatchTooLargeException(long maxTuples) {
+        super("Batch exceeds the maximum of " + maxTuples + " tuples");
+    }
+}
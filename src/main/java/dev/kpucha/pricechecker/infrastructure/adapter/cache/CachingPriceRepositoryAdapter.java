@@ -0,0 +1,218 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+import dev.kpucha.pricechecker.domain.event.PricesChangedEvent;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceTimeline;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * PriceRepositoryPort decorator that caches the prices and the timeline of
+ * each brand and product in a bounded Caffeine cache.
+ *
+ * Keys without any price are cached too, with a shorter time to live, so that
+ * repeated misses do not reach the delegate. Entries are invalidated when a
+ * PricesChangedEvent for their key is committed.
+ *
+ * Loads run on the given executor while callers wait on a future, so that with
+ * virtual threads a load never blocks on JDBC while holding the cache's
+ * internal monitor, which would pin the carrier thread.
+ *
+ * Hits, misses and loads of unrecorded lookups, such as the startup warm-up,
+ * are left out of the statistics, including loads they hand off to the
+ * executor; evictions are always counted.
+ */
+public class CachingPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    /**
+     * Name under which cache statistics are published.
+     */
+    public static final String CACHE_NAME = "prices";
+
+    /**
+     * Port used to load the prices of a key on a cache miss.
+     */
+    private final PriceRepositoryPort delegate;
+
+    /**
+     * Cached prices and timeline per brand and product.
+     */
+    private final LoadingCache<PriceKey, Entry> cache;
+
+    /**
+     * Constructs a new CachingPriceRepositoryAdapter and publishes its
+     * statistics to the given registry.
+     *
+     * @param delegate      the port used to load prices on a cache miss
+     * @param maximumSize   maximum number of keys kept
+     * @param ttl           time to live of keys with prices
+     * @param negativeTtl   time to live of keys without any price
+     * @param loadExecutor  the executor running loads from the delegate
+     * @param meterRegistry the registry to publish hit, miss and eviction statistics to
+     */
+    public CachingPriceRepositoryAdapter(PriceRepositoryPort delegate, long maximumSize, Duration ttl,
+            Duration negativeTtl, Executor loadExecutor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(Expiry.creating((PriceKey key, Entry entry) -> entry.isEmpty() ? negativeTtl : ttl))
+            .executor(task -> loadExecutor.execute(PriceLookupMetrics.inheritUnrecorded(task)))
+            .recordStats(RecordedStatsCounter::new)
+            .buildAsync((PriceKey key) -> Entry.of(delegate.findPricesByProductIdAndBrandId(key.productId(), key.brandId())))
+            .synchronous();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Finds all prices of the given product and brand, loading them from the
+     * delegate on a cache miss.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @return list of prices available for the given product and brand
+     */
+    @Override
+    public List<Price> findPricesByProductIdAndBrandId(Integer productId, Integer brandId) {
+        return cache.get(new PriceKey(brandId, productId)).prices();
+    }
+
+    /**
+     * Finds all prices of each of the given keys, loading the missing ones from
+     * the delegate in a single call.
+     *
+     * @param keys the brand and product keys to load
+     * @return prices per requested key; keys without prices map to an empty list
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findPricesByKeys(Collection<PriceKey> keys) {
+        Map<PriceKey, Entry> entries = cache.getAll(keys, missing -> {
+            Map<PriceKey, Entry> loaded = new LinkedHashMap<>();
+            delegate.findPricesByKeys(List.copyOf(missing)).forEach((key, prices) -> loaded.put(key, Entry.of(prices)));
+            return loaded;
+        });
+
+        Map<PriceKey, List<Price>> prices = new LinkedHashMap<>();
+        entries.forEach((key, entry) -> prices.put(key, entry.prices()));
+        return prices;
+    }
+
+    /**
+     * Finds the winning price at the given date from the cached timeline of the
+     * given product and brand.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, if any
+     */
+    @Override
+    public Optional<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return cache.get(new PriceKey(brandId, productId)).timeline().priceAt(applicationDate);
+    }
+
+    /**
+     * Returns the cached timeline of the given product and brand.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @return the timeline of the winning prices
+     */
+    @Override
+    public PriceTimeline findPriceTimeline(Integer productId, Integer brandId) {
+        return cache.get(new PriceKey(brandId, productId)).timeline();
+    }
+
+    /**
+     * Invalidates the keys whose prices were written, once the write is
+     * committed.
+     *
+     * @param event the event listing the written keys
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesChanged(PricesChangedEvent event) {
+        cache.invalidateAll(event.keys());
+    }
+
+    /**
+     * Statistics of the cache, ignoring the hits, misses and loads of
+     * unrecorded lookups.
+     */
+    private static final class RecordedStatsCounter implements StatsCounter {
+
+        private final StatsCounter delegate = new ConcurrentStatsCounter();
+
+        @Override
+        public void recordHits(int count) {
+            if (!PriceLookupMetrics.isUnrecorded()) {
+                delegate.recordHits(count);
+            }
+        }
+
+        @Override
+        public void recordMisses(int count) {
+            if (!PriceLookupMetrics.isUnrecorded()) {
+                delegate.recordMisses(count);
+            }
+        }
+
+        @Override
+        public void recordLoadSuccess(long loadTime) {
+            if (!PriceLookupMetrics.isUnrecorded()) {
+                delegate.recordLoadSuccess(loadTime);
+            }
+        }
+
+        @Override
+        public void recordLoadFailure(long loadTime) {
+            if (!PriceLookupMetrics.isUnrecorded()) {
+                delegate.recordLoadFailure(loadTime);
+            }
+        }
+
+        @Override
+        public void recordEviction(int weight, RemovalCause cause) {
+            delegate.recordEviction(weight, cause);
+        }
+
+        @Override
+        public CacheStats snapshot() {
+            return delegate.snapshot();
+        }
+    }
+
+    /**
+     * Cached prices of a key together with their timeline.
+     */
+    private record Entry(List<Price> prices, PriceTimeline timeline) {
+
+        static Entry of(List<Price> prices) {
+            return new Entry(List.copyOf(prices), PriceTimeline.of(prices));
+        }
+
+        boolean isEmpty() {
+            return prices.isEmpty();
+        }
+    }
+}
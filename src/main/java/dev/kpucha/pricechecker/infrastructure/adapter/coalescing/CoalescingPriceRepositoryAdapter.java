@@ -0,0 +1,254 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.coalescing;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+import dev.kpucha.pricechecker.domain.event.PricesChangedEvent;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceTimeline;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * PriceRepositoryPort decorator that collapses concurrent loads of the same
+ * brand and product into a single call to the delegate.
+ *
+ * The first caller of a key runs the load while later callers wait for its
+ * result; the key is released as soon as the load completes, so nothing is
+ * kept once it has been returned. When a PricesChangedEvent for a key is
+ * committed, its load in flight is detached: callers arriving afterwards start
+ * a new load and never receive prices read before the change.
+ *
+ * Point lookups and timelines are collapsed per key too, whatever their date:
+ * the leader loads every price of the key and flattens them into a timeline
+ * once, and each caller resolves its own date from it. Concurrent lookups of a
+ * hot key at different instants therefore share one query.
+ *
+ * Calls made by unrecorded lookups, such as the startup warm-up, are left out
+ * of the metrics.
+ */
+public class CoalescingPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    /**
+     * Prefix of the published metrics.
+     */
+    public static final String METRIC_PREFIX = "pricechecker.coalescing";
+
+    /**
+     * Port loading the prices of a key.
+     */
+    private final PriceRepositoryPort delegate;
+
+    /**
+     * Load in flight per key.
+     */
+    private final Map<PriceKey, Flight> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Calls collapsed into another load, per key, for the first keys that had any.
+     */
+    private final Map<PriceKey, LongAdder> collapsedByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of keys tracked in {@link #collapsedByKey}.
+     */
+    private final int maxTrackedKeys;
+
+    private final Counter loads;
+    private final Counter collapsed;
+    private final DistributionSummary followers;
+
+    /**
+     * Constructs a new CoalescingPriceRepositoryAdapter and publishes its
+     * metrics to the given registry.
+     *
+     * @param delegate       the port loading the prices of a key
+     * @param maxTrackedKeys the maximum number of keys whose collapsed calls are counted
+     * @param meterRegistry  the registry to publish the metrics to
+     */
+    public CoalescingPriceRepositoryAdapter(PriceRepositoryPort delegate, int maxTrackedKeys, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.loads = Counter.builder(METRIC_PREFIX + ".calls")
+            .description("Lookups by whether they ran a load or joined one in flight")
+            .tag("role", "leader")
+            .register(meterRegistry);
+        this.collapsed = Counter.builder(METRIC_PREFIX + ".calls")
+            .description("Lookups by whether they ran a load or joined one in flight")
+            .tag("role", "follower")
+            .register(meterRegistry);
+        this.followers = DistributionSummary.builder(METRIC_PREFIX + ".followers")
+            .description("Lookups that joined each load")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Finds all prices of the given product and brand, joining the load of the
+     * same key in flight if any.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @return list of prices available for the given product and brand
+     */
+    @Override
+    public List<Price> findPricesByProductIdAndBrandId(Integer productId, Integer brandId) {
+        return coalesce(new PriceKey(brandId, productId)).prices();
+    }
+
+    /**
+     * Finds all prices of each of the given keys with a single call to the
+     * delegate, without coalescing.
+     *
+     * @param keys the brand and product keys to load
+     * @return prices per requested key; keys without prices map to an empty list
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findPricesByKeys(Collection<PriceKey> keys) {
+        return delegate.findPricesByKeys(keys);
+    }
+
+    /**
+     * Finds the winning price of the given product and brand at the given
+     * date, resolved from the timeline of the load of the key, joining the
+     * one in flight if any.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, if any
+     */
+    @Override
+    public Optional<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return coalesce(new PriceKey(brandId, productId)).timeline().priceAt(applicationDate);
+    }
+
+    /**
+     * Finds the timeline of the given product and brand, joining the load of
+     * the same key in flight if any.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @return the timeline of the winning prices
+     */
+    @Override
+    public PriceTimeline findPriceTimeline(Integer productId, Integer brandId) {
+        return coalesce(new PriceKey(brandId, productId)).timeline();
+    }
+
+    /**
+     * Detaches the loads in flight of the keys whose prices were written, once
+     * the write is committed. Their current callers still receive their result.
+     *
+     * @param event the event listing the written keys
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesChanged(PricesChangedEvent event) {
+        event.keys().forEach(flights::remove);
+    }
+
+    /**
+     * Returns the keys with the most collapsed calls.
+     *
+     * @param limit the maximum number of keys returned
+     * @return the keys and their number of collapsed calls, most collapsed first
+     */
+    public List<CollapsedKey> mostCollapsedKeys(int limit) {
+        return collapsedByKey.entrySet().stream()
+            .map(entry -> new CollapsedKey(entry.getKey().brandId(), entry.getKey().productId(), entry.getValue().sum()))
+            .sorted(Comparator.comparingLong(CollapsedKey::collapsed).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * Runs the load of the given key, or waits for the one in flight.
+     */
+    private Loaded coalesce(PriceKey key) {
+        Flight flight = new Flight();
+        Flight existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            existing.followers.incrementAndGet();
+            if (!PriceLookupMetrics.isUnrecorded()) {
+                collapsed.increment();
+                trackCollapsed(key);
+            }
+            try {
+                return existing.result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        boolean recorded = !PriceLookupMetrics.isUnrecorded();
+        if (recorded) {
+            loads.increment();
+        }
+        try {
+            Loaded result = Loaded.of(delegate.findPricesByProductIdAndBrandId(key.productId(), key.brandId()));
+            flight.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+            if (recorded) {
+                followers.record(flight.followers.get());
+            }
+        }
+    }
+
+    private void trackCollapsed(PriceKey key) {
+        LongAdder counter = collapsedByKey.get(key);
+        if (counter == null) {
+            if (collapsedByKey.size() >= maxTrackedKeys) {
+                return;
+            }
+            counter = collapsedByKey.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * The prices of a key and their timeline, built once by the leader.
+     */
+    private record Loaded(List<Price> prices, PriceTimeline timeline) {
+
+        static Loaded of(List<Price> prices) {
+            return new Loaded(prices, PriceTimeline.of(prices));
+        }
+    }
+
+    /**
+     * A load in flight and the number of callers waiting for it.
+     */
+    private static final class Flight {
+        private final CompletableFuture<Loaded> result = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+    }
+
+    /**
+     * Number of calls of a key collapsed into another load.
+     *
+     * @param brandId   the ID of the brand
+     * @param productId the ID of the product
+     * @param collapsed the number of collapsed calls
+     */
+    public record CollapsedKey(Integer brandId, Integer productId, long collapsed) {
+    }
+}
@@ -0,0 +1,53 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.coalescing;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import dev.kpucha.pricechecker.infrastructure.adapter.coalescing.CoalescingPriceRepositoryAdapter.CollapsedKey;
+
+/**
+ * Actuator endpoint exposing the keys whose lookups were collapsed the most.
+ *
+ * {@code GET /actuator/pricecoalescing?limit=20} returns them when request
+ * coalescing is in use.
+ */
+@Component
+@Endpoint(id = "pricecoalescing")
+public class PriceCoalescingEndpoint {
+
+    /**
+     * Number of keys returned by default.
+     */
+    private static final int DEFAULT_LIMIT = 20;
+
+    /**
+     * Adapter coalescing the lookups, when in use.
+     */
+    private final ObjectProvider<CoalescingPriceRepositoryAdapter> adapter;
+
+    /**
+     * Constructs a new PriceCoalescingEndpoint.
+     *
+     * @param adapter the adapter coalescing the lookups, if any
+     */
+    public PriceCoalescingEndpoint(ObjectProvider<CoalescingPriceRepositoryAdapter> adapter) {
+        this.adapter = adapter;
+    }
+
+    /**
+     * Returns the keys with the most collapsed calls.
+     *
+     * @param limit the maximum number of keys returned
+     * @return the keys and their number of collapsed calls, or null when coalescing is not in use
+     */
+    @ReadOperation
+    public List<CollapsedKey> mostCollapsedKeys(@Nullable Integer limit) {
+        CoalescingPriceRepositoryAdapter coalescing = adapter.getIfAvailable();
+        return coalescing != null ? coalescing.mostCollapsedKeys(limit != null ? limit : DEFAULT_LIMIT) : null;
+    }
+}
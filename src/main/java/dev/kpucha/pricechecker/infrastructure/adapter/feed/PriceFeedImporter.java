@@ -0,0 +1,193 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.feed;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.kpucha.pricechecker.domain.event.PricesChangedEvent;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.infrastructure.config.ConditionalOnPriceDatabase;
+import dev.kpucha.pricechecker.infrastructure.config.PriceImportProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports price feeds into the {@code PRICES} table.
+ *
+ * The feed is streamed line by line and valid rows are written with JDBC
+ * batch inserts, one transaction per chunk, so that memory use is bounded by
+ * the chunk size whatever the size of the feed. Rows bypass JPA, so the keys
+ * of every written chunk are published as a PricesChangedEvent.
+ */
+@Component
+@ConditionalOnPriceDatabase
+public class PriceFeedImporter {
+
+    /**
+     * Counter of imported rows, tagged by outcome.
+     */
+    public static final String ROWS_COUNTER = "pricechecker.import.rows";
+    /**
+     * Timer of whole imports.
+     */
+    public static final String DURATION_TIMER = "pricechecker.import.duration";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY, LAST_UPDATE, LAST_UPDATE_BY)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriceImportProperties properties;
+    private final Counter importedRows;
+    private final Counter rejectedRows;
+    private final Timer duration;
+
+    /**
+     * Constructs a new PriceFeedImporter.
+     *
+     * @param jdbcTemplate        the template used for batch inserts
+     * @param transactionTemplate the template demarcating one transaction per chunk
+     * @param validator           the validator checking each row
+     * @param objectMapper        the object mapper used to read JSONL feeds
+     * @param eventPublisher      the publisher used to notify the written keys
+     * @param properties          the import configuration
+     * @param meterRegistry       the registry to publish import metrics to
+     */
+    public PriceFeedImporter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, Validator validator,
+            ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher, PriceImportProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.importedRows = Counter.builder(ROWS_COUNTER).tag("outcome", "imported").register(meterRegistry);
+        this.rejectedRows = Counter.builder(ROWS_COUNTER).tag("outcome", "rejected").register(meterRegistry);
+        this.duration = Timer.builder(DURATION_TIMER).register(meterRegistry);
+    }
+
+    /**
+     * Imports the given feed using the configured chunk size.
+     *
+     * @param feed the path of the CSV or JSONL feed
+     * @return the import report
+     * @throws IOException if the feed cannot be read
+     */
+    public PriceImportReport importFeed(Path feed) throws IOException {
+        return importFeed(feed, properties.chunkSize());
+    }
+
+    /**
+     * Imports the given feed.
+     *
+     * @param feed      the path of the CSV or JSONL feed
+     * @param chunkSize the number of rows written per batch and transaction
+     * @return the import report
+     * @throws IOException if the feed cannot be read
+     */
+    public PriceImportReport importFeed(Path feed, int chunkSize) throws IOException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        long start = System.nanoTime();
+        long read = 0;
+        long imported = 0;
+        long rejected = 0;
+        List<PriceImportReport.Rejection> rejections = new ArrayList<>();
+        List<PriceFeedRecord> chunk = new ArrayList<>(chunkSize);
+
+        try (PriceFeedReader reader = new PriceFeedReader(feed, objectMapper)) {
+            PriceFeedReader.Line line;
+            while ((line = reader.next()) != null) {
+                read++;
+                String reason;
+                try {
+                    PriceFeedRecord record = reader.parse(line);
+                    reason = validate(record);
+                    if (reason == null) {
+                        chunk.add(record);
+                    }
+                } catch (IllegalArgumentException e) {
+                    reason = e.getMessage();
+                }
+                if (reason != null) {
+                    rejected++;
+                    rejectedRows.increment();
+                    if (rejections.size() < properties.maxReportedRejections()) {
+                        rejections.add(new PriceImportReport.Rejection(line.number(), reason));
+                    }
+                }
+                if (chunk.size() == chunkSize) {
+                    imported += write(chunk);
+                    chunk.clear();
+                }
+            }
+            imported += write(chunk);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        duration.record(elapsed);
+        double seconds = elapsed.toNanos() / 1e9;
+        return new PriceImportReport(feed.toString(), read, imported, rejected, elapsed,
+                seconds > 0 ? read / seconds : read, List.copyOf(rejections));
+    }
+
+    private String validate(PriceFeedRecord record) {
+        Set<ConstraintViolation<PriceFeedRecord>> violations = validator.validate(record);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private int write(List<PriceFeedRecord> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Timestamp lastUpdate = Timestamp.valueOf(LocalDateTime.now());
+        Set<PriceKey> keys = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (statement, record) -> {
+                statement.setInt(1, record.brandId());
+                statement.setTimestamp(2, Timestamp.valueOf(record.startDate()));
+                statement.setTimestamp(3, Timestamp.valueOf(record.endDate()));
+                statement.setInt(4, record.priceList());
+                statement.setInt(5, record.productId());
+                statement.setInt(6, record.priority());
+                statement.setBigDecimal(7, record.price());
+                statement.setString(8, record.currency());
+                statement.setTimestamp(9, lastUpdate);
+                statement.setString(10, properties.lastUpdateBy());
+                keys.add(new PriceKey(record.brandId(), record.productId()));
+            });
+            eventPublisher.publishEvent(new PricesChangedEvent(Set.copyOf(keys)));
+        });
+        importedRows.increment(chunk.size());
+        return chunk.size();
+    }
+}
@@ -0,0 +1,161 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.feed;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Reads a price feed one line at a time, so that memory use does not depend on
+ * the size of the file.
+ *
+ * Files ending in {@code .jsonl} hold one JSON object per line with the fields
+ * of PriceFeedRecord. Any other file is read as CSV with a header row naming
+ * the {@code PRICES} columns ({@code BRAND_ID, START_DATE, END_DATE,
+ * PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY}) in any order.
+ */
+public class PriceFeedReader implements Closeable {
+
+    /**
+     * Accepts both {@code 2020-06-14 00:00:00} and {@code 2020-06-14T00:00:00}.
+     */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd['T'][' ']HH:mm:ss");
+
+    private final BufferedReader reader;
+    private final ObjectReader jsonReader;
+    private final Map<String, Integer> columns;
+    private long lineNumber;
+
+    /**
+     * Opens the given feed.
+     *
+     * @param feed         the path of the feed file
+     * @param objectMapper the object mapper used to read JSONL feeds
+     * @throws IOException if the file cannot be opened or its CSV header is invalid
+     */
+    public PriceFeedReader(Path feed, ObjectMapper objectMapper) throws IOException {
+        this.reader = Files.newBufferedReader(feed, StandardCharsets.UTF_8);
+        if (feed.getFileName().toString().endsWith(".jsonl")) {
+            this.jsonReader = objectMapper.readerFor(PriceFeedRecord.class);
+            this.columns = null;
+        } else {
+            this.jsonReader = null;
+            this.columns = readHeader();
+        }
+    }
+
+    /**
+     * Reads the next non-blank line of the feed.
+     *
+     * @return the next line, or null at the end of the feed
+     */
+    public Line next() {
+        try {
+            String text;
+            do {
+                text = reader.readLine();
+                lineNumber++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+            return new Line(lineNumber, text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses a line read from this feed.
+     *
+     * @param line the line to parse
+     * @return the parsed record, not yet validated
+     * @throws IllegalArgumentException if the line is malformed
+     */
+    public PriceFeedRecord parse(Line line) {
+        try {
+            return jsonReader != null ? jsonReader.readValue(line.text()) : parseCsv(line.text());
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Malformed line: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private PriceFeedRecord parseCsv(String text) {
+        String[] values = text.split(",", -1);
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " columns but found " + values.length);
+        }
+        return new PriceFeedRecord(
+            toInteger(values, "BRAND_ID"),
+            toDate(values, "START_DATE"),
+            toDate(values, "END_DATE"),
+            toInteger(values, "PRICE_LIST"),
+            toInteger(values, "PRODUCT_ID"),
+            toInteger(values, "PRIORITY"),
+            toDecimal(values, "PRICE"),
+            value(values, "CURRENCY")
+        );
+    }
+
+    private Map<String, Integer> readHeader() throws IOException {
+        String header = reader.readLine();
+        lineNumber++;
+        if (header == null) {
+            throw new IOException("Empty feed");
+        }
+        Map<String, Integer> headerColumns = new HashMap<>();
+        String[] names = header.split(",", -1);
+        for (int i = 0; i < names.length; i++) {
+            headerColumns.put(names[i].trim().toUpperCase(Locale.ROOT), i);
+        }
+        for (String required : new String[] {"BRAND_ID", "START_DATE", "END_DATE", "PRICE_LIST", "PRODUCT_ID", "PRIORITY", "PRICE", "CURRENCY"}) {
+            if (!headerColumns.containsKey(required)) {
+                throw new IOException("Missing column " + required + " in feed header");
+            }
+        }
+        return headerColumns;
+    }
+
+    private String value(String[] values, String column) {
+        String value = values[columns.get(column)].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Integer toInteger(String[] values, String column) {
+        String value = value(values, column);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    private BigDecimal toDecimal(String[] values, String column) {
+        String value = value(values, column);
+        return value == null ? null : new BigDecimal(value);
+    }
+
+    private LocalDateTime toDate(String[] values, String column) {
+        String value = value(values, column);
+        return value == null ? null : LocalDateTime.parse(value, DATE_FORMAT);
+    }
+
+    /**
+     * A line of the feed with its 1-based number.
+     */
+    public record Line(long number, String text) {
+    }
+}
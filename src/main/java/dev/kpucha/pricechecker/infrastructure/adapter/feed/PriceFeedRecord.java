@@ -0,0 +1,39 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.feed;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Represents a row of a price feed, validated against the constraints of the
+ * {@code PRICES} table before being written.
+ */
+public record PriceFeedRecord(
+        @NotNull(message = "Brand ID is required") @Positive(message = "Brand ID must be positive") Integer brandId,
+        @NotNull(message = "Start date is required") LocalDateTime startDate,
+        @NotNull(message = "End date is required") LocalDateTime endDate,
+        @NotNull(message = "Price list is required") @Positive(message = "Price list must be positive") Integer priceList,
+        @NotNull(message = "Product ID is required") @Positive(message = "Product ID must be positive") Integer productId,
+        @NotNull(message = "Priority is required") @PositiveOrZero(message = "Priority must not be negative") Integer priority,
+        @NotNull(message = "Price is required") @PositiveOrZero(message = "Price must not be negative")
+        @Digits(integer = 8, fraction = 2, message = "Price must fit DECIMAL(10,2)") BigDecimal price,
+        @NotNull(message = "Currency is required")
+        @Pattern(regexp = "[A-Z]{3}", message = "Currency must be a 3-letter ISO code") String currency) {
+
+    /**
+     * Checks that the price window is not reversed.
+     *
+     * @return true if the end date is not before the start date, or a date is missing
+     */
+    @AssertTrue(message = "End date must not be before start date")
+    public boolean isWindowOrdered() {
+        return startDate == null || endDate == null || !endDate.isBefore(startDate);
+    }
+
+}
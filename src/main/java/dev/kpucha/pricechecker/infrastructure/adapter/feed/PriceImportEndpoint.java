@@ -0,0 +1,55 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.feed;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import dev.kpucha.pricechecker.infrastructure.config.ConditionalOnPriceDatabase;
+
+/**
+ * Actuator endpoint importing a price feed from the local disk of the server.
+ *
+ * {@code POST /actuator/priceimport} with a body such as
+ * {@code {"file": "/data/prices.csv", "chunkSize": 5000}}.
+ */
+@Component
+@ConditionalOnPriceDatabase
+@Endpoint(id = "priceimport")
+public class PriceImportEndpoint {
+
+    /**
+     * Importer doing the work.
+     */
+    private final PriceFeedImporter importer;
+
+    /**
+     * Constructs a new PriceImportEndpoint with the given importer.
+     *
+     * @param importer the importer doing the work
+     */
+    public PriceImportEndpoint(PriceFeedImporter importer) {
+        this.importer = importer;
+    }
+
+    /**
+     * Imports the given feed.
+     *
+     * @param file      the path of the CSV or JSONL feed on the server
+     * @param chunkSize the number of rows per batch, or null for the configured value
+     * @return the import report
+     */
+    @WriteOperation
+    public PriceImportReport importFeed(String file, @Nullable Integer chunkSize) {
+        try {
+            Path feed = Path.of(file);
+            return chunkSize == null ? importer.importFeed(feed) : importer.importFeed(feed, chunkSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.feed;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a price feed import.
+ *
+ * @param file          the imported file
+ * @param rowsRead      number of data rows read from the feed
+ * @param rowsImported  number of rows written to the database
+ * @param rowsRejected  number of rows that failed parsing or validation
+ * @param elapsed       time taken by the import
+ * @param rowsPerSecond rows read per second
+ * @param rejections    details of the first rejected rows
+ */
+public record PriceImportReport(
+        String file,
+        long rowsRead,
+        long rowsImported,
+        long rowsRejected,
+        Duration elapsed,
+        double rowsPerSecond,
+        List<Rejection> rejections) {
+
+    /**
+     * A row that was not imported.
+     *
+     * @param line   the 1-based line number in the feed
+     * @param reason why the row was rejected
+     */
+    public record Rejection(long line, String reason) {
+    }
+}
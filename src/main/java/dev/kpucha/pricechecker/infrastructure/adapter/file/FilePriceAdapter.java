@@ -0,0 +1,124 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import dev.kpucha.pricechecker.infrastructure.config.PriceFileProperties;
+
+/**
+ * Implementation of the PriceRepositoryPort reading a price file exported with
+ * {@code POST /actuator/pricefile} and mapped in memory.
+ *
+ * Startup maps the file without reading it, whatever the size of the catalog;
+ * the operating system page cache warms it as lookups touch it. Lookups never
+ * reach the database.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "pricechecker.repository", name = "type", havingValue = "file")
+public class FilePriceAdapter implements PriceRepositoryPort {
+
+    /**
+     * File currently mapped, replaced on reload.
+     */
+    private volatile MappedPriceFile file;
+
+    /**
+     * Constructs a new FilePriceAdapter mapping the configured file.
+     *
+     * @param properties the price file configuration
+     * @throws UncheckedIOException if the file cannot be mapped
+     */
+    @Autowired
+    public FilePriceAdapter(PriceFileProperties properties) {
+        this(properties.path());
+    }
+
+    /**
+     * Constructs a new FilePriceAdapter mapping the given file.
+     *
+     * @param path the price file
+     * @throws UncheckedIOException if the file cannot be mapped
+     */
+    FilePriceAdapter(Path path) {
+        this.file = map(path);
+    }
+
+    /**
+     * Finds all prices of the given product and brand.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @return list of prices available for the given product and brand
+     */
+    @Override
+    public List<Price> findPricesByProductIdAndBrandId(Integer productId, Integer brandId) {
+        return file.prices(brandId, productId);
+    }
+
+    /**
+     * Finds the price with the highest priority applicable to the given product
+     * and brand at the given date, comparing rows in the mapped file so that
+     * only the winner is allocated.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, if any
+     */
+    @Override
+    public Optional<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return Optional.ofNullable(file.priceAt(brandId, productId, applicationDate));
+    }
+
+    /**
+     * Maps the given file in place of the current one, typically after a new
+     * export. Lookups in progress finish on the previous mapping.
+     *
+     * @param path the price file
+     * @return the statistics of the new file
+     * @throws UncheckedIOException if the file cannot be mapped
+     */
+    public PriceFileStats reload(Path path) {
+        file = map(path);
+        return stats();
+    }
+
+    /**
+     * Lists the first keys of the mapped file, to warm up without a database.
+     *
+     * @param limit the maximum number of keys
+     * @return the brand and product keys, sorted by brand and product
+     */
+    public List<PriceKey> keys(int limit) {
+        return file.keys(limit);
+    }
+
+    /**
+     * Returns the statistics of the mapped file.
+     *
+     * @return the file statistics
+     */
+    public PriceFileStats stats() {
+        MappedPriceFile current = file;
+        return new PriceFileStats(current.file().toString(), current.keyCount(), current.rowCount(), current.createdAt());
+    }
+
+    private static MappedPriceFile map(Path path) {
+        try {
+            return MappedPriceFile.open(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map price file " + path + "; export it with POST /actuator/pricefile", e);
+        }
+    }
+}
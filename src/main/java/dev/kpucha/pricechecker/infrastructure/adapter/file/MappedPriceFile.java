@@ -0,0 +1,253 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.file;
+
+import static dev.kpucha.pricechecker.infrastructure.adapter.file.PriceFileFormat.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Read-only view of a price file mapped in memory.
+ *
+ * Opening the file only validates its header: pages are loaded by the
+ * operating system when first read, and stay in its page cache across
+ * restarts. Keys are located with a binary search over the index and rows are
+ * compared in place, so only the returned prices are allocated.
+ *
+ * A single buffer addresses at most 2 GB, so the file is mapped as a sequence
+ * of chunks. Each chunk overlaps the next by the size of the largest record,
+ * so that a header, row or index entry starting in a chunk is read whole from
+ * it.
+ */
+final class MappedPriceFile {
+
+    /**
+     * Size of the chunks the file is mapped in.
+     */
+    static final int CHUNK_BYTES = 1 << 30;
+
+    /**
+     * Bytes shared by consecutive chunks, the size of the largest record.
+     */
+    private static final int OVERLAP_BYTES = Math.max(ROW_BYTES, Math.max(INDEX_BYTES, HEADER_BYTES));
+
+    private final Path file;
+    private final MappedByteBuffer[] chunks;
+    private final int chunkBytes;
+    private final int keyCount;
+    private final int rowCount;
+    private final long indexOffset;
+    private final Instant createdAt;
+
+    private MappedPriceFile(Path file, MappedByteBuffer[] chunks, int chunkBytes) {
+        this.file = file;
+        this.chunks = chunks;
+        this.chunkBytes = chunkBytes;
+        this.keyCount = getInt(0, KEY_COUNT_OFFSET);
+        this.rowCount = getInt(0, ROW_COUNT_OFFSET);
+        this.indexOffset = getLong(0, INDEX_OFFSET_OFFSET);
+        this.createdAt = Instant.ofEpochMilli(getLong(0, CREATED_AT_OFFSET));
+    }
+
+    /**
+     * Maps the given file.
+     *
+     * @param file the price file
+     * @return the mapped file
+     * @throws IOException if the file cannot be read or is not a price file
+     */
+    static MappedPriceFile open(Path file) throws IOException {
+        return open(file, CHUNK_BYTES);
+    }
+
+    /**
+     * Maps the given file in chunks of the given size.
+     *
+     * @param file       the price file
+     * @param chunkBytes the size of the chunks
+     * @return the mapped file
+     * @throws IOException if the file cannot be read or is not a price file
+     */
+    static MappedPriceFile open(Path file, int chunkBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Not a version " + VERSION + " price file: " + file);
+            }
+            MappedByteBuffer[] chunks = new MappedByteBuffer[Math.toIntExact((size - 1) / chunkBytes + 1)];
+            for (int i = 0; i < chunks.length; i++) {
+                long position = (long) i * chunkBytes;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkBytes + OVERLAP_BYTES, size - position));
+            }
+            if (chunks[0].getInt(0) != MAGIC || chunks[0].getInt(4) != VERSION) {
+                throw new IOException("Not a version " + VERSION + " price file: " + file);
+            }
+            MappedPriceFile mapped = new MappedPriceFile(file, chunks, chunkBytes);
+            if (mapped.indexOffset + (long) mapped.keyCount * INDEX_BYTES != size) {
+                throw new IOException("Truncated price file: " + file);
+            }
+            return mapped;
+        }
+    }
+
+    /**
+     * Finds every price of the given key, in file order.
+     *
+     * @param brandId   the ID of the brand
+     * @param productId the ID of the product
+     * @return the prices of the key, empty if it is not in the file
+     */
+    List<Price> prices(int brandId, int productId) {
+        int key = findKey(brandId, productId);
+        if (key < 0) {
+            return List.of();
+        }
+        int first = getInt(indexEntry(key), INDEX_FIRST_ROW);
+        int count = getInt(indexEntry(key), INDEX_ROW_COUNT);
+        List<Price> prices = new ArrayList<>(count);
+        for (int row = first; row < first + count; row++) {
+            prices.add(toPrice(brandId, productId, row));
+        }
+        return prices;
+    }
+
+    /**
+     * Finds the applicable price with the highest priority of the given key,
+     * the first one in file order winning ties.
+     *
+     * @param brandId         the ID of the brand
+     * @param productId       the ID of the product
+     * @param applicationDate the date to check applicability
+     * @return the winning price, or null if none applies
+     */
+    Price priceAt(int brandId, int productId, LocalDateTime applicationDate) {
+        int key = findKey(brandId, productId);
+        if (key < 0) {
+            return null;
+        }
+        int first = getInt(indexEntry(key), INDEX_FIRST_ROW);
+        int end = first + getInt(indexEntry(key), INDEX_ROW_COUNT);
+        long startedBy = PriceFileFormat.toMicros(applicationDate);
+        long endedBy = PriceFileFormat.toMicrosRoundedUp(applicationDate);
+        int winner = -1;
+        int winnerPriority = Integer.MIN_VALUE;
+        for (int row = first; row < end; row++) {
+            long offset = rowOffset(row);
+            if (getLong(offset, START) <= startedBy && getLong(offset, END) >= endedBy) {
+                int priority = getInt(offset, PRIORITY);
+                if (winner < 0 || priority > winnerPriority) {
+                    winner = row;
+                    winnerPriority = priority;
+                }
+            }
+        }
+        return winner < 0 ? null : toPrice(brandId, productId, winner);
+    }
+
+    /**
+     * Lists the first keys of the file, in file order.
+     *
+     * @param limit the maximum number of keys
+     * @return the brand and product keys
+     */
+    List<PriceKey> keys(int limit) {
+        List<PriceKey> keys = new ArrayList<>(Math.min(limit, keyCount));
+        for (int key = 0; key < Math.min(limit, keyCount); key++) {
+            long entry = indexEntry(key);
+            keys.add(new PriceKey(getInt(entry, INDEX_BRAND), getInt(entry, INDEX_PRODUCT)));
+        }
+        return keys;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    int keyCount() {
+        return keyCount;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    Instant createdAt() {
+        return createdAt;
+    }
+
+    private int findKey(int brandId, int productId) {
+        int low = 0;
+        int high = keyCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long entry = indexEntry(mid);
+            int cmp = Integer.compare(getInt(entry, INDEX_BRAND), brandId);
+            if (cmp == 0) {
+                cmp = Integer.compare(getInt(entry, INDEX_PRODUCT), productId);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private long indexEntry(int key) {
+        return indexOffset + (long) key * INDEX_BYTES;
+    }
+
+    private static long rowOffset(int row) {
+        return HEADER_BYTES + (long) row * ROW_BYTES;
+    }
+
+    /**
+     * Reads an int field of the record starting at the given file offset,
+     * from the chunk the record starts in.
+     */
+    private int getInt(long record, int field) {
+        return chunks[(int) (record / chunkBytes)].getInt((int) (record % chunkBytes) + field);
+    }
+
+    /**
+     * Reads a long field of the record starting at the given file offset,
+     * from the chunk the record starts in.
+     */
+    private long getLong(long record, int field) {
+        return chunks[(int) (record / chunkBytes)].getLong((int) (record % chunkBytes) + field);
+    }
+
+    private Price toPrice(int brandId, int productId, int row) {
+        long offset = rowOffset(row);
+        byte[] currency = new byte[3];
+        chunks[(int) (offset / chunkBytes)].get((int) (offset % chunkBytes) + CURRENCY, currency);
+        long id = getLong(offset, ID);
+        long lastUpdate = getLong(offset, LAST_UPDATE);
+        return new Price(
+            brandId,
+            fromMicros(getLong(offset, START)),
+            fromMicros(getLong(offset, END)),
+            getInt(offset, PRICE_LIST),
+            productId,
+            getInt(offset, PRIORITY),
+            BigDecimal.valueOf(getLong(offset, AMOUNT), 2),
+            new String(currency, StandardCharsets.US_ASCII),
+            id == ABSENT ? null : id,
+            lastUpdate == ABSENT ? null : fromMicros(lastUpdate)
+        );
+    }
+}
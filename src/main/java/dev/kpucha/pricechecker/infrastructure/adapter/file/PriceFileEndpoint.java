@@ -0,0 +1,87 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.file;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import dev.kpucha.pricechecker.infrastructure.config.PriceFileProperties;
+
+/**
+ * Actuator endpoint exporting {@code PRICES} to a price file.
+ *
+ * {@code POST /actuator/pricefile} writes the configured file, or the one
+ * given as {@code file}, and remaps it when the file repository is in use.
+ * With the {@code file} profile there is no database to export from, and the
+ * operation remaps a file exported by another instance instead.
+ * {@code GET /actuator/pricefile} returns the statistics of the mapped file.
+ */
+@Component
+@Endpoint(id = "pricefile")
+public class PriceFileEndpoint {
+
+    /**
+     * Exporter writing the file, when a database is in use.
+     */
+    private final ObjectProvider<PriceFileExporter> exporter;
+
+    /**
+     * Adapter mapping the file, when the file repository is in use.
+     */
+    private final ObjectProvider<FilePriceAdapter> adapter;
+
+    /**
+     * Configuration of the price file.
+     */
+    private final PriceFileProperties properties;
+
+    /**
+     * Constructs a new PriceFileEndpoint.
+     *
+     * @param exporter   the exporter writing the file, if a database is in use
+     * @param adapter    the adapter mapping the file, if any
+     * @param properties the price file configuration
+     */
+    public PriceFileEndpoint(ObjectProvider<PriceFileExporter> exporter, ObjectProvider<FilePriceAdapter> adapter, PriceFileProperties properties) {
+        this.exporter = exporter;
+        this.adapter = adapter;
+        this.properties = properties;
+    }
+
+    /**
+     * Exports the prices and remaps the configured file if it was rewritten,
+     * or only remaps the file without a database.
+     *
+     * @param file the file to write, or to map without a database, the configured one if absent
+     * @return the outcome of the export, or null when the file was only remapped
+     */
+    @WriteOperation
+    public PriceFileExportReport export(@Nullable String file) {
+        Path target = file != null ? Path.of(file) : properties.path();
+        PriceFileExporter fileExporter = exporter.getIfAvailable();
+        if (fileExporter == null) {
+            adapter.ifAvailable(fileAdapter -> fileAdapter.reload(target));
+            return null;
+        }
+        PriceFileExportReport report = fileExporter.export(target);
+        if (target.toAbsolutePath().equals(properties.path().toAbsolutePath())) {
+            adapter.ifAvailable(fileAdapter -> fileAdapter.reload(target));
+        }
+        return report;
+    }
+
+    /**
+     * Returns the statistics of the mapped file.
+     *
+     * @return the file statistics, or null when the file repository is not in use
+     */
+    @ReadOperation
+    public PriceFileStats stats() {
+        FilePriceAdapter fileAdapter = adapter.getIfAvailable();
+        return fileAdapter != null ? fileAdapter.stats() : null;
+    }
+}
@@ -0,0 +1,21 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.file;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a price file export.
+ *
+ * @param file    the path of the written file
+ * @param keys    number of brand and product keys
+ * @param rows    number of prices
+ * @param bytes   size of the file
+ * @param elapsed time taken by the export
+ */
+public record PriceFileExportReport(
+        String file,
+        int keys,
+        int rows,
+        long bytes,
+        Duration elapsed) {
+
+}
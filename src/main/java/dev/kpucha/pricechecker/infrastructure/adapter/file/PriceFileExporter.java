@@ -0,0 +1,99 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.infrastructure.config.ConditionalOnPriceDatabase;
+
+/**
+ * Exports {@code PRICES} to a price file read by the {@link FilePriceAdapter}.
+ *
+ * Rows are streamed in key order straight into the file, which is written
+ * next to the target and moved over it once complete, so readers never see a
+ * partial file.
+ */
+@Component
+@ConditionalOnPriceDatabase
+public class PriceFileExporter {
+
+    private static final String EXPORT_QUERY = """
+            SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY, LAST_UPDATE
+            FROM PRICES
+            ORDER BY BRAND_ID, PRODUCT_ID, ID""";
+
+    /**
+     * Template used to stream the prices.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new PriceFileExporter.
+     *
+     * @param jdbcTemplate the template used to stream the prices
+     */
+    public PriceFileExporter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Writes every price to the given file, replacing it atomically.
+     *
+     * @param file the file to write
+     * @return the outcome of the export
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public PriceFileExportReport export(Path file) {
+        long start = System.nanoTime();
+        Path target = file.toAbsolutePath();
+        try {
+            Files.createDirectories(target.getParent());
+            Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try {
+                PriceFileWriter writer = new PriceFileWriter(temporary);
+                try (writer) {
+                    jdbcTemplate.query(EXPORT_QUERY, (ResultSet rs) -> {
+                        try {
+                            writer.add(toPrice(rs));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return new PriceFileExportReport(target.toString(), writer.keys(), writer.rows(), Files.size(target),
+                    Duration.ofNanos(System.nanoTime() - start));
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot export prices to " + target, e);
+        }
+    }
+
+    private static Price toPrice(ResultSet rs) throws SQLException {
+        Timestamp lastUpdate = rs.getTimestamp("LAST_UPDATE");
+        return new Price(
+            rs.getInt("BRAND_ID"),
+            rs.getTimestamp("START_DATE").toLocalDateTime(),
+            rs.getTimestamp("END_DATE").toLocalDateTime(),
+            rs.getInt("PRICE_LIST"),
+            rs.getInt("PRODUCT_ID"),
+            rs.getInt("PRIORITY"),
+            rs.getBigDecimal("PRICE"),
+            rs.getString("CURRENCY"),
+            rs.getLong("ID"),
+            lastUpdate == null ? null : lastUpdate.toLocalDateTime()
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.file;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Layout of the price file read by the {@link FilePriceAdapter}.
+ *
+ * All values are big-endian. The file starts with a fixed header, followed by
+ * the rows of every (brand, product) key, sorted by brand then product and, within
+ * a key, in {@code PRICES} ID order, followed by the key index.
+ *
+ * <pre>
+ * header (32 bytes)  magic:i32 version:i32 keyCount:i32 rowCount:i32 indexOffset:i64 createdAtMillis:i64
+ * row    (52 bytes)  startMicros:i64 endMicros:i64 amountMinorUnits:i64 id:i64 lastUpdateMicros:i64
+ *                    priceList:i32 priority:i32 currency:3 ASCII bytes, 1 padding byte
+ * index  (16 bytes)  brandId:i32 productId:i32 firstRow:i32 rowCount:i32
+ * </pre>
+ *
+ * Dates are microseconds since the epoch, read as UTC like the rest of the
+ * application; a missing ID or last update is stored as {@link #ABSENT}.
+ * Stored dates come from {@code PRICES} and have no finer precision, so a
+ * lookup date between two microseconds is after the earlier one and before
+ * the later one.
+ */
+final class PriceFileFormat {
+
+    static final int MAGIC = 0x50524346;
+    static final int VERSION = 1;
+
+    static final int HEADER_BYTES = 32;
+    static final int KEY_COUNT_OFFSET = 8;
+    static final int ROW_COUNT_OFFSET = 12;
+    static final int INDEX_OFFSET_OFFSET = 16;
+    static final int CREATED_AT_OFFSET = 24;
+
+    static final int ROW_BYTES = 52;
+    static final int START = 0;
+    static final int END = 8;
+    static final int AMOUNT = 16;
+    static final int ID = 24;
+    static final int LAST_UPDATE = 32;
+    static final int PRICE_LIST = 40;
+    static final int PRIORITY = 44;
+    static final int CURRENCY = 48;
+
+    static final int INDEX_BYTES = 16;
+    static final int INDEX_BRAND = 0;
+    static final int INDEX_PRODUCT = 4;
+    static final int INDEX_FIRST_ROW = 8;
+    static final int INDEX_ROW_COUNT = 12;
+
+    static final long ABSENT = Long.MIN_VALUE;
+
+    private PriceFileFormat() {
+    }
+
+    static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    static long toMicrosRoundedUp(LocalDateTime dateTime) {
+        return toMicros(dateTime) + (dateTime.getNano() % 1_000 != 0 ? 1 : 0);
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000), (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
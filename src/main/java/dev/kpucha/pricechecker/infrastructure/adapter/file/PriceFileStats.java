@@ -0,0 +1,19 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.file;
+
+import java.time.Instant;
+
+/**
+ * Statistics of a price file.
+ *
+ * @param file      the path of the file
+ * @param keys      number of brand and product keys
+ * @param rows      number of prices
+ * @param createdAt when the file was written
+ */
+public record PriceFileStats(
+        String file,
+        int keys,
+        int rows,
+        Instant createdAt) {
+
+}
@@ -0,0 +1,127 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.file;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+
+/**
+ * Writes a price file in the {@link PriceFileFormat} layout.
+ *
+ * Prices must be added grouped by key, keys sorted by brand then product.
+ * Rows are streamed to disk as they are added; only the key index, 16 bytes
+ * per key, is kept in memory until it is appended on close.
+ */
+public final class PriceFileWriter implements Closeable {
+
+    private final Path file;
+    private final DataOutputStream out;
+    private int[] index = new int[4 * 1024];
+    private int keys;
+    private int rows;
+    private int currentBrand;
+    private int currentProduct;
+
+    /**
+     * Creates the given file, replacing any existing one.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be created
+     */
+    public PriceFileWriter(Path file) throws IOException {
+        this.file = file;
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        out.write(new byte[PriceFileFormat.HEADER_BYTES]);
+    }
+
+    /**
+     * Appends a price.
+     *
+     * @param price the price, whose key is the current one or follows it
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if the keys are not sorted
+     */
+    public void add(Price price) throws IOException {
+        int brandId = price.brandId();
+        int productId = price.productId();
+        if (keys == 0 || brandId != currentBrand || productId != currentProduct) {
+            if (keys > 0 && (brandId < currentBrand || brandId == currentBrand && productId < currentProduct)) {
+                throw new IllegalArgumentException("Prices must be sorted by brand and product");
+            }
+            if ((keys + 1) * 4 > index.length) {
+                index = Arrays.copyOf(index, index.length * 2);
+            }
+            index[keys * 4] = brandId;
+            index[keys * 4 + 1] = productId;
+            index[keys * 4 + 2] = rows;
+            keys++;
+            currentBrand = brandId;
+            currentProduct = productId;
+        }
+        index[(keys - 1) * 4 + 3]++;
+
+        out.writeLong(PriceFileFormat.toMicros(price.startDate()));
+        out.writeLong(PriceFileFormat.toMicros(price.endDate()));
+        out.writeLong(price.price().setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        out.writeLong(price.id() != null ? price.id() : PriceFileFormat.ABSENT);
+        out.writeLong(price.lastUpdate() != null ? PriceFileFormat.toMicros(price.lastUpdate()) : PriceFileFormat.ABSENT);
+        out.writeInt(price.priceList());
+        out.writeInt(price.priority());
+        out.write(price.currency().getBytes(StandardCharsets.US_ASCII), 0, 3);
+        out.writeByte(0);
+        rows++;
+    }
+
+    /**
+     * Returns the number of keys written so far.
+     *
+     * @return the number of keys
+     */
+    public int keys() {
+        return keys;
+    }
+
+    /**
+     * Returns the number of rows written so far.
+     *
+     * @return the number of rows
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Appends the key index and completes the header.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        for (int i = 0; i < keys * 4; i++) {
+            out.writeInt(index[i]);
+        }
+        out.close();
+
+        ByteBuffer header = ByteBuffer.allocate(PriceFileFormat.HEADER_BYTES)
+            .putInt(PriceFileFormat.MAGIC)
+            .putInt(PriceFileFormat.VERSION)
+            .putInt(keys)
+            .putInt(rows)
+            .putLong(PriceFileFormat.HEADER_BYTES + (long) rows * PriceFileFormat.ROW_BYTES)
+            .putLong(System.currentTimeMillis())
+            .flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(header, 0);
+        }
+    }
+}
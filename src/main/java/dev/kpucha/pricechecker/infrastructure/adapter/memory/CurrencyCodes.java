@@ -0,0 +1,49 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.memory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interns currency codes as small integers, so that packed prices store a
+ * {@code short} instead of a String reference per row.
+ */
+final class CurrencyCodes {
+
+    private static final Map<String, Short> CODES = new HashMap<>();
+    private static volatile String[] names = new String[0];
+
+    private CurrencyCodes() {
+    }
+
+    /**
+     * Returns the code of the given currency, assigning a new one on first use.
+     *
+     * @param currency the ISO 4217 currency code
+     * @return the interned code
+     */
+    static synchronized short intern(String currency) {
+        Short code = CODES.get(currency);
+        if (code == null) {
+            if (names.length == Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct currencies");
+            }
+            code = (short) names.length;
+            String[] grown = Arrays.copyOf(names, names.length + 1);
+            grown[code] = currency;
+            CODES.put(currency, code);
+            names = grown;
+        }
+        return code;
+    }
+
+    /**
+     * Returns the currency of the given code.
+     *
+     * @param code a code returned by {@link #intern(String)}
+     * @return the ISO 4217 currency code
+     */
+    static String name(short code) {
+        return names[code];
+    }
+}
@@ -0,0 +1,293 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.memory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.kpucha.pricechecker.domain.event.PricesChangedEvent;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.PriceEntityMapper;
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.PriceJpaRepository;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.PriceShards;
+
+/**
+ * In-memory implementation of the PriceRepositoryPort that keeps a
+ * precomputed timeline per brand and product.
+ *
+ * Timelines are packed into primitive arrays and held by a
+ * PriceCatalogSnapshot. When prices change, the timelines of the changed keys
+ * are reloaded from the database on a background thread into a new snapshot
+ * sharing the unchanged timelines, so a change batch costs O(changed keys).
+ * Every snapshot, incremental or rebuilt, is published with a single
+ * reference swap, so lookups never take a lock and a bulk lookup reads all
+ * its keys from one generation. A replaced snapshot is reclaimed as soon as
+ * the lookups still using it finish.
+ *
+ * When the catalog is sharded, only the keys owned by this node are kept.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "pricechecker.repository", name = "type", havingValue = "memory")
+public class InMemoryPriceAdapter implements PriceRepositoryPort, DisposableBean {
+
+    /**
+     * Source of every price of the catalog.
+     */
+    private final Supplier<Collection<Price>> source;
+
+    /**
+     * Source of the prices of given keys.
+     */
+    private final Function<Collection<PriceKey>, Map<PriceKey, List<Price>>> keySource;
+
+    /**
+     * Snapshot answering lookups.
+     */
+    private final AtomicReference<PriceCatalogSnapshot> snapshot;
+
+    /**
+     * Reload queued but not started yet, shared by every caller asking for a
+     * reload in the meantime.
+     */
+    private final AtomicReference<CompletableFuture<PriceCatalogStats>> pendingReload = new AtomicReference<>();
+
+    /**
+     * Keys changed since the last refresh started, guarded by itself.
+     */
+    private final Set<PriceKey> pendingKeys = new HashSet<>();
+
+    /**
+     * Refresh queued but not started yet, guarded by {@link #pendingKeys}.
+     */
+    private CompletableFuture<PriceCatalogStats> pendingRefresh;
+
+    /**
+     * Single thread building snapshots, so that rebuilds never overlap.
+     */
+    private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("price-catalog-reload").daemon().factory());
+
+    /**
+     * Constructs a new InMemoryPriceAdapter loading from the given repository
+     * the prices of the keys owned by this node, or every price when the
+     * catalog is not sharded.
+     *
+     * @param priceJpaRepository the repository to load price data from
+     * @param shards             the assignment of keys to nodes, if sharding is enabled
+     */
+    @Autowired
+    public InMemoryPriceAdapter(PriceJpaRepository priceJpaRepository, ObjectProvider<PriceShards> shards) {
+        this(priceJpaRepository, owned(shards.getIfAvailable()));
+    }
+
+    private InMemoryPriceAdapter(PriceJpaRepository priceJpaRepository, Predicate<PriceKey> owned) {
+        this(() -> priceJpaRepository.findAll().stream()
+                .map(PriceEntityMapper::toDomainModel)
+                .filter(price -> owned.test(new PriceKey(price.brandId(), price.productId())))
+                .toList(),
+            keys -> findByKeys(priceJpaRepository, keys.stream().filter(owned).toList()));
+    }
+
+    /**
+     * Constructs a new InMemoryPriceAdapter and builds the first snapshot
+     * from the given source.
+     *
+     * @param source    the source of every price of the catalog
+     * @param keySource the source of the prices of given keys
+     */
+    InMemoryPriceAdapter(Supplier<Collection<Price>> source,
+            Function<Collection<PriceKey>, Map<PriceKey, List<Price>>> keySource) {
+        this.source = source;
+        this.keySource = keySource;
+        this.snapshot = new AtomicReference<>(PriceCatalogSnapshot.build(1, source.get()));
+    }
+
+    /**
+     * Finds all prices applicable to the given product and brand.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @return list of prices available for the given product and brand
+     */
+    @Override
+    public List<Price> findPricesByProductIdAndBrandId(Integer productId, Integer brandId) {
+        PackedPriceTimeline timeline = snapshot.get().timeline(new PriceKey(brandId, productId));
+        return timeline == null ? List.of() : timeline.prices();
+    }
+
+    /**
+     * Finds the prices of every given key in the same snapshot.
+     *
+     * @param keys the brand and product keys to load
+     * @return prices per requested key; keys without prices map to an empty list
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findPricesByKeys(Collection<PriceKey> keys) {
+        PriceCatalogSnapshot current = snapshot.get();
+        Map<PriceKey, List<Price>> prices = new LinkedHashMap<>();
+        for (PriceKey key : keys) {
+            PackedPriceTimeline timeline = current.timeline(key);
+            prices.put(key, timeline == null ? List.of() : timeline.prices());
+        }
+        return prices;
+    }
+
+    /**
+     * Finds the winning price at the given date with a binary search over the
+     * timeline of the given product and brand.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, if any
+     */
+    @Override
+    public Optional<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        PackedPriceTimeline timeline = snapshot.get().timeline(new PriceKey(brandId, productId));
+        return timeline == null ? Optional.empty() : timeline.priceAt(applicationDate);
+    }
+
+    /**
+     * Returns the statistics of the snapshot currently answering lookups.
+     *
+     * @return the current snapshot statistics
+     */
+    public PriceCatalogStats stats() {
+        return snapshot.get().stats();
+    }
+
+    /**
+     * Rebuilds the snapshot in the background. Requests made while a rebuild
+     * is queued share it; requests made while one is running queue another,
+     * so that the published snapshot always includes changes committed before
+     * the request.
+     *
+     * @return a future completed with the statistics of the published snapshot
+     */
+    public CompletableFuture<PriceCatalogStats> reload() {
+        while (true) {
+            CompletableFuture<PriceCatalogStats> pending = pendingReload.get();
+            if (pending != null) {
+                return pending;
+            }
+            CompletableFuture<PriceCatalogStats> next = new CompletableFuture<>();
+            if (pendingReload.compareAndSet(null, next)) {
+                reloadExecutor.execute(() -> rebuild(next));
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Reloads the timelines of the given keys in the background and publishes
+     * a new snapshot sharing every other timeline with the current one. Keys
+     * changed while a refresh is queued are merged into it.
+     *
+     * @param keys the changed brand and product keys
+     * @return a future completed with the statistics of the published snapshot
+     */
+    public CompletableFuture<PriceCatalogStats> refresh(Collection<PriceKey> keys) {
+        synchronized (pendingKeys) {
+            pendingKeys.addAll(keys);
+            if (pendingRefresh == null) {
+                pendingRefresh = new CompletableFuture<>();
+                reloadExecutor.execute(this::applyChanges);
+            }
+            return pendingRefresh;
+        }
+    }
+
+    /**
+     * Schedules a refresh of the written keys once the transaction writing
+     * them has committed.
+     *
+     * @param event the event carrying the written keys
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesChanged(PricesChangedEvent event) {
+        refresh(event.keys());
+    }
+
+    /**
+     * Stops the reload thread.
+     */
+    @Override
+    public void destroy() {
+        reloadExecutor.shutdownNow();
+    }
+
+    private void applyChanges() {
+        Set<PriceKey> keys;
+        CompletableFuture<PriceCatalogStats> refresh;
+        synchronized (pendingKeys) {
+            keys = Set.copyOf(pendingKeys);
+            pendingKeys.clear();
+            refresh = pendingRefresh;
+            pendingRefresh = null;
+        }
+        try {
+            PriceCatalogSnapshot current = snapshot.get();
+            PriceCatalogSnapshot next = current.withChanges(current.stats().generation() + 1, keySource.apply(keys));
+            snapshot.set(next);
+            refresh.complete(next.stats());
+        } catch (RuntimeException e) {
+            refresh.completeExceptionally(e);
+        }
+    }
+
+    private void rebuild(CompletableFuture<PriceCatalogStats> reload) {
+        pendingReload.compareAndSet(reload, null);
+        try {
+            PriceCatalogSnapshot next = PriceCatalogSnapshot.build(snapshot.get().stats().generation() + 1, source.get());
+            snapshot.set(next);
+            reload.complete(next.stats());
+        } catch (RuntimeException e) {
+            reload.completeExceptionally(e);
+        }
+    }
+
+    private static Predicate<PriceKey> owned(PriceShards shards) {
+        return shards != null ? shards::owns : key -> true;
+    }
+
+    private static Map<PriceKey, List<Price>> findByKeys(PriceJpaRepository priceJpaRepository, Collection<PriceKey> keys) {
+        Map<PriceKey, List<Price>> prices = new LinkedHashMap<>();
+        Set<Integer> productIds = new HashSet<>();
+        Set<Integer> brandIds = new HashSet<>();
+        for (PriceKey key : keys) {
+            prices.put(key, new ArrayList<>());
+            productIds.add(key.productId());
+            brandIds.add(key.brandId());
+        }
+        if (!keys.isEmpty()) {
+            priceJpaRepository.findByProductIdInAndBrandIdIn(productIds, brandIds).forEach(entity -> {
+                List<Price> keyPrices = prices.get(new PriceKey(entity.getBrandId(), entity.getProductId()));
+                if (keyPrices != null) {
+                    keyPrices.add(PriceEntityMapper.toDomainModel(entity));
+                }
+            });
+        }
+        return prices;
+    }
+}
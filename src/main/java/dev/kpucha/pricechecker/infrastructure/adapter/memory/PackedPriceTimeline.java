@@ -0,0 +1,199 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.memory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceSegment;
+import dev.kpucha.pricechecker.domain.model.PriceTimeline;
+
+/**
+ * Compact, immutable form of the prices and timeline of one brand and product.
+ *
+ * Rows are kept in parallel primitive arrays: dates as epoch microseconds,
+ * amounts as unscaled minor units and currencies as interned codes, with the
+ * brand and product held once for the whole key. Price objects are only
+ * created for the rows handed out by a lookup, with the ID and last update of
+ * their row so that they compare equal to the prices read through JPA.
+ *
+ * Dates have microsecond precision, the precision of the {@code TIMESTAMP}
+ * columns of {@code PRICES}; finer digits of prices not read from the table
+ * are dropped. Timeline boundaries are encoded as twice the epoch microsecond,
+ * plus one for instants past that microsecond, so that inclusive end dates
+ * are exact for any lookup instant.
+ */
+final class PackedPriceTimeline {
+
+    /**
+     * Scale of the amounts, as defined by the {@code PRICE} column.
+     */
+    static final int AMOUNT_SCALE = 2;
+
+    /**
+     * Stands for a null ID or last update.
+     */
+    private static final long NONE = Long.MIN_VALUE;
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final int NANOS_PER_MICRO = 1_000;
+
+    private final int brandId;
+    private final int productId;
+
+    private final int[] priceLists;
+    private final int[] priorities;
+    private final long[] startMicros;
+    private final long[] endMicros;
+    private final long[] amounts;
+    private final short[] currencies;
+    private final long[] ids;
+    private final long[] lastUpdateMicros;
+
+    /**
+     * Encoded segment start instants, in ascending order.
+     */
+    private final long[] boundaries;
+
+    /**
+     * Row winning each segment, or -1 for gaps.
+     */
+    private final int[] winners;
+
+    private PackedPriceTimeline(PriceKey key, List<Price> prices, long[] boundaries, int[] winners) {
+        this.brandId = key.brandId();
+        this.productId = key.productId();
+        int rows = prices.size();
+        this.priceLists = new int[rows];
+        this.priorities = new int[rows];
+        this.startMicros = new long[rows];
+        this.endMicros = new long[rows];
+        this.amounts = new long[rows];
+        this.currencies = new short[rows];
+        this.ids = new long[rows];
+        this.lastUpdateMicros = new long[rows];
+        for (int row = 0; row < rows; row++) {
+            Price price = prices.get(row);
+            priceLists[row] = price.priceList();
+            priorities[row] = price.priority();
+            startMicros[row] = toMicros(price.startDate());
+            endMicros[row] = toMicros(price.endDate());
+            amounts[row] = price.price().setScale(AMOUNT_SCALE).unscaledValue().longValueExact();
+            currencies[row] = CurrencyCodes.intern(price.currency());
+            ids[row] = price.id() != null ? price.id() : NONE;
+            lastUpdateMicros[row] = price.lastUpdate() != null ? toMicros(price.lastUpdate()) : NONE;
+        }
+        this.boundaries = boundaries;
+        this.winners = winners;
+    }
+
+    /**
+     * Packs the given prices of a brand and product together with their
+     * flattened timeline.
+     *
+     * @param key    the brand and product of the prices
+     * @param prices the prices to pack
+     * @return the packed timeline
+     * @throws ArithmeticException if an amount has more than
+     *                             {@value #AMOUNT_SCALE} decimals
+     */
+    static PackedPriceTimeline of(PriceKey key, List<Price> prices) {
+        Map<Price, Integer> rows = new IdentityHashMap<>(prices.size());
+        for (int row = 0; row < prices.size(); row++) {
+            rows.put(prices.get(row), row);
+        }
+
+        List<PriceSegment> segments = PriceTimeline.of(prices).segments();
+        long[] boundaries = new long[segments.size() * 2];
+        int[] winners = new int[segments.size() * 2];
+        int size = 0;
+        for (PriceSegment segment : segments) {
+            long from = encode(segment.from());
+            if (size > 0 && boundaries[size - 1] == from) {
+                size--;
+            }
+            boundaries[size] = from;
+            winners[size++] = rows.get(segment.price());
+            if (segment.to() != null) {
+                boundaries[size] = encode(segment.to());
+                winners[size++] = -1;
+            }
+        }
+        return new PackedPriceTimeline(key, prices, Arrays.copyOf(boundaries, size), Arrays.copyOf(winners, size));
+    }
+
+    /**
+     * Finds the winning price at the given instant.
+     *
+     * @param instant the date to check applicability
+     * @return the price with the highest priority at that instant, if any
+     */
+    Optional<Price> priceAt(LocalDateTime instant) {
+        int index = Arrays.binarySearch(boundaries, encode(instant));
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return index < 0 || winners[index] < 0 ? Optional.empty() : Optional.of(toPrice(winners[index]));
+    }
+
+    /**
+     * Creates a Price for every packed row.
+     *
+     * @return the prices of this brand and product
+     */
+    List<Price> prices() {
+        List<Price> prices = new ArrayList<>(priceLists.length);
+        for (int row = 0; row < priceLists.length; row++) {
+            prices.add(toPrice(row));
+        }
+        return prices;
+    }
+
+    /**
+     * Returns the number of packed rows.
+     *
+     * @return the number of rows
+     */
+    int size() {
+        return priceLists.length;
+    }
+
+    private Price toPrice(int row) {
+        return new Price(
+            brandId,
+            fromMicros(startMicros[row]),
+            fromMicros(endMicros[row]),
+            priceLists[row],
+            productId,
+            priorities[row],
+            BigDecimal.valueOf(amounts[row], AMOUNT_SCALE),
+            CurrencyCodes.name(currencies[row]),
+            ids[row] != NONE ? ids[row] : null,
+            lastUpdateMicros[row] != NONE ? fromMicros(lastUpdateMicros[row]) : null
+        );
+    }
+
+    /**
+     * Encodes an instant as twice its epoch microsecond, plus one if it falls
+     * after the start of that microsecond.
+     */
+    private static long encode(LocalDateTime instant) {
+        return toMicros(instant) * 2 + (instant.getNano() % NANOS_PER_MICRO > 0 ? 1 : 0);
+    }
+
+    private static long toMicros(LocalDateTime instant) {
+        return instant.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + instant.getNano() / NANOS_PER_MICRO;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND),
+            (int) Math.floorMod(micros, MICROS_PER_SECOND) * NANOS_PER_MICRO, ZoneOffset.UTC);
+    }
+}
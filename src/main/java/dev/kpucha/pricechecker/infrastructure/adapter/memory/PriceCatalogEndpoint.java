@@ -0,0 +1,53 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.memory;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint exposing the in-memory price catalog.
+ *
+ * {@code GET /actuator/pricecatalog} returns the statistics of the current
+ * snapshot and {@code POST /actuator/pricecatalog} rebuilds it.
+ */
+@Component
+@Endpoint(id = "pricecatalog")
+@ConditionalOnProperty(prefix = "pricechecker.repository", name = "type", havingValue = "memory")
+public class PriceCatalogEndpoint {
+
+    /**
+     * Adapter holding the catalog.
+     */
+    private final InMemoryPriceAdapter adapter;
+
+    /**
+     * Constructs a new PriceCatalogEndpoint for the given adapter.
+     *
+     * @param adapter the adapter holding the catalog
+     */
+    public PriceCatalogEndpoint(InMemoryPriceAdapter adapter) {
+        this.adapter = adapter;
+    }
+
+    /**
+     * Returns the statistics of the current snapshot.
+     *
+     * @return the snapshot statistics
+     */
+    @ReadOperation
+    public PriceCatalogStats stats() {
+        return adapter.stats();
+    }
+
+    /**
+     * Rebuilds the snapshot and waits for it to be published.
+     *
+     * @return the statistics of the new snapshot
+     */
+    @WriteOperation
+    public PriceCatalogStats reload() {
+        return adapter.reload().join();
+    }
+}
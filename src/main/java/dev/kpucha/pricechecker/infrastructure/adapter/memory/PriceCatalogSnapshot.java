@@ -0,0 +1,134 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.memory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Every packed timeline of the catalog, built at once from the whole
+ * {@code PRICES} table, with the statistics of its generation.
+ *
+ * A snapshot is immutable once published. Timelines are spread over a fixed
+ * number of buckets, each an immutable map of a few dozen keys. Applying
+ * changes copies the bucket array and only the buckets of the changed keys,
+ * sharing every other bucket and timeline with the previous snapshot, so it
+ * costs time and allocation proportional to the changed keys and the number
+ * of buckets rather than to the catalog. Each generation is published with a
+ * single reference swap: a bulk lookup reading the snapshot once sees every
+ * key of the same generation, and older snapshots keep their own contents.
+ */
+final class PriceCatalogSnapshot {
+
+    /**
+     * Average number of keys per bucket of a rebuilt snapshot.
+     */
+    private static final int KEYS_PER_BUCKET = 64;
+
+    private static final int MIN_BUCKETS = 16;
+
+    /**
+     * Buckets of timelines, a power of two, indexed by the spread hash of the key.
+     */
+    private final Map<PriceKey, PackedPriceTimeline>[] buckets;
+    private final PriceCatalogStats stats;
+
+    private PriceCatalogSnapshot(Map<PriceKey, PackedPriceTimeline>[] buckets, PriceCatalogStats stats) {
+        this.buckets = buckets;
+        this.stats = stats;
+    }
+
+    /**
+     * Builds a snapshot of the given prices.
+     *
+     * @param generation the number of this snapshot, increasing with every rebuild
+     * @param prices     every price of the catalog
+     * @return the snapshot
+     */
+    static PriceCatalogSnapshot build(long generation, Collection<Price> prices) {
+        long start = System.nanoTime();
+        Map<PriceKey, List<Price>> pricesByKey = prices.stream()
+            .collect(Collectors.groupingBy(p -> new PriceKey(p.brandId(), p.productId())));
+        Map<PriceKey, PackedPriceTimeline>[] buckets = newBuckets(
+            Math.max(MIN_BUCKETS, Integer.highestOneBit(Math.max(1, pricesByKey.size() / KEYS_PER_BUCKET)) * 2));
+        pricesByKey.forEach((key, keyPrices) -> {
+            int index = index(key, buckets.length);
+            if (buckets[index] == null) {
+                buckets[index] = new HashMap<>();
+            }
+            buckets[index].put(key, PackedPriceTimeline.of(key, keyPrices));
+        });
+        PriceCatalogStats stats = new PriceCatalogStats(generation, Instant.now(),
+            Duration.ofNanos(System.nanoTime() - start), pricesByKey.size(), prices.size());
+        return new PriceCatalogSnapshot(buckets, stats);
+    }
+
+    /**
+     * Returns the snapshot of the next generation, with the timelines of the
+     * given keys replaced or removed. This snapshot is left untouched and
+     * shares its unchanged buckets with the new one.
+     *
+     * @param generation the number of the new snapshot
+     * @param changed    the current prices of every changed key, empty for keys
+     *                   without prices any more
+     * @return the new snapshot
+     */
+    PriceCatalogSnapshot withChanges(long generation, Map<PriceKey, List<Price>> changed) {
+        long start = System.nanoTime();
+        Map<PriceKey, PackedPriceTimeline>[] next = buckets.clone();
+        boolean[] copied = new boolean[next.length];
+        int keys = stats.keys();
+        int prices = stats.prices();
+        for (Map.Entry<PriceKey, List<Price>> entry : changed.entrySet()) {
+            int index = index(entry.getKey(), next.length);
+            if (!copied[index]) {
+                next[index] = next[index] != null ? new HashMap<>(next[index]) : new HashMap<>();
+                copied[index] = true;
+            }
+            PackedPriceTimeline previous = entry.getValue().isEmpty()
+                ? next[index].remove(entry.getKey())
+                : next[index].put(entry.getKey(), PackedPriceTimeline.of(entry.getKey(), entry.getValue()));
+            keys += (entry.getValue().isEmpty() ? 0 : 1) - (previous == null ? 0 : 1);
+            prices += entry.getValue().size() - (previous == null ? 0 : previous.size());
+        }
+        PriceCatalogStats nextStats = new PriceCatalogStats(generation, Instant.now(),
+            Duration.ofNanos(System.nanoTime() - start), keys, prices);
+        return new PriceCatalogSnapshot(next, nextStats);
+    }
+
+    /**
+     * Returns the timeline of the given brand and product.
+     *
+     * @param key the brand and product
+     * @return the packed timeline, or null if the key has no prices
+     */
+    PackedPriceTimeline timeline(PriceKey key) {
+        Map<PriceKey, PackedPriceTimeline> bucket = buckets[index(key, buckets.length)];
+        return bucket != null ? bucket.get(key) : null;
+    }
+
+    /**
+     * Returns the statistics of this snapshot.
+     *
+     * @return the snapshot statistics
+     */
+    PriceCatalogStats stats() {
+        return stats;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<PriceKey, PackedPriceTimeline>[] newBuckets(int size) {
+        return (Map<PriceKey, PackedPriceTimeline>[]) new Map[size];
+    }
+
+    private static int index(PriceKey key, int buckets) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (buckets - 1);
+    }
+}
@@ -0,0 +1,17 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.memory;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Statistics of a price catalog snapshot.
+ *
+ * @param generation the number of the snapshot, increasing with every rebuild
+ * @param builtAt    when the snapshot was published
+ * @param buildTime  time taken to build the snapshot, excluding the database read
+ * @param keys       number of brand and product keys
+ * @param prices     number of prices
+ */
+public record PriceCatalogStats(long generation, Instant builtAt, Duration buildTime, int keys, int prices) {
+
+}
@@ -0,0 +1,110 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+
+/**
+ * Implementation of the PriceRepositoryPort answering point lookups from
+ * {@code EFFECTIVE_PRICES}, maintained by the {@link EffectivePriceMaterializer}.
+ *
+ * Since segments never overlap, a lookup reads the single segment of the key
+ * starting at or before the date through the lookup index, without comparing
+ * priorities. Every other query is delegated to the JPA adapter.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "pricechecker.repository", name = "type", havingValue = "materialized")
+public class EffectivePriceAdapter implements PriceRepositoryPort {
+
+    private static final String POINT_QUERY = """
+            SELECT BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY, TO_DATE
+            FROM EFFECTIVE_PRICES
+            WHERE PRODUCT_ID = ? AND BRAND_ID = ? AND FROM_DATE <= ?
+            ORDER BY FROM_DATE DESC
+            LIMIT 1""";
+
+    /**
+     * Template used for point lookups.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adapter answering every other query from {@code PRICES}.
+     */
+    private final H2PriceAdapter delegate;
+
+    /**
+     * Meters recorded for each query.
+     */
+    private final PriceLookupMetrics metrics;
+
+    /**
+     * Constructs a new EffectivePriceAdapter.
+     *
+     * @param jdbcTemplate       the template used for point lookups
+     * @param priceJpaRepository the repository answering every other query
+     * @param metrics            the meters recorded for each query
+     */
+    public EffectivePriceAdapter(JdbcTemplate jdbcTemplate, PriceJpaRepository priceJpaRepository, PriceLookupMetrics metrics) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.delegate = new H2PriceAdapter(priceJpaRepository, metrics);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Finds all prices applicable to the given product and brand.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @return list of prices available for the given product and brand
+     */
+    @Override
+    public List<Price> findPricesByProductIdAndBrandId(Integer productId, Integer brandId) {
+        return delegate.findPricesByProductIdAndBrandId(productId, brandId);
+    }
+
+    /**
+     * Finds all prices of each of the given brand and product keys.
+     *
+     * @param keys the brand and product keys to load
+     * @return prices per requested key; keys without prices map to an empty list
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findPricesByKeys(Collection<PriceKey> keys) {
+        return delegate.findPricesByKeys(keys);
+    }
+
+    /**
+     * Finds the winning price of the given product and brand at the given date
+     * by reading the last segment starting at or before it. The date misses
+     * when that segment has already ended.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, if any
+     */
+    @Override
+    public Optional<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        Timestamp date = Timestamp.valueOf(applicationDate);
+        return metrics.query().record(() -> jdbcTemplate.query(POINT_QUERY, (rs, rowNum) -> {
+                Timestamp to = rs.getTimestamp("TO_DATE");
+                return to == null || to.after(date) ? EffectivePriceMaterializer.toPrice(rs) : null;
+            }, productId, brandId, date))
+            .stream()
+            .filter(price -> price != null)
+            .findFirst();
+    }
+}
@@ -0,0 +1,56 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.EffectivePriceMaterializer.CheckReport;
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.EffectivePriceMaterializer.RebuildReport;
+
+/**
+ * Actuator endpoint operating the {@code EFFECTIVE_PRICES} table.
+ *
+ * {@code GET /actuator/effectiveprices} checks the table against
+ * {@code PRICES} and {@code POST /actuator/effectiveprices} rebuilds it.
+ */
+@Component
+@Endpoint(id = "effectiveprices")
+@ConditionalOnProperty(prefix = "pricechecker.repository", name = "type", havingValue = "materialized")
+public class EffectivePriceEndpoint {
+
+    /**
+     * Materializer maintaining the table.
+     */
+    private final EffectivePriceMaterializer materializer;
+
+    /**
+     * Constructs a new EffectivePriceEndpoint for the given materializer.
+     *
+     * @param materializer the materializer maintaining the table
+     */
+    public EffectivePriceEndpoint(EffectivePriceMaterializer materializer) {
+        this.materializer = materializer;
+    }
+
+    /**
+     * Compares the table with the segments computed from {@code PRICES}.
+     *
+     * @return the outcome of the check
+     */
+    @ReadOperation
+    public CheckReport check() {
+        return materializer.check();
+    }
+
+    /**
+     * Rebuilds the whole table from {@code PRICES}.
+     *
+     * @return the outcome of the rebuild
+     */
+    @WriteOperation
+    public RebuildReport rebuild() {
+        return materializer.rebuild();
+    }
+}
@@ -0,0 +1,411 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.kpucha.pricechecker.domain.event.PricesChangedEvent;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceSegment;
+import dev.kpucha.pricechecker.domain.model.PriceTimeline;
+
+/**
+ * Maintains {@code EFFECTIVE_PRICES}, the flattened timeline of every brand
+ * and product of {@code PRICES} with the priorities already applied.
+ *
+ * The table is rebuilt at startup, in the background so that startup time
+ * does not depend on the catalog size, and the {@code effectivePrices} health
+ * indicator of the readiness group stays out of service until it is done.
+ * Whenever prices change, the segments of the changed keys only are
+ * recomputed, a bounded number of keys per query. Rebuilds and checks stream the
+ * tables ordered by key, holding one key at a time in memory. On
+ * equal priority the row with the lowest ID wins, as in the JPA point lookup.
+ */
+@Component
+@ConditionalOnProperty(prefix = "pricechecker.repository", name = "type", havingValue = "materialized")
+public class EffectivePriceMaterializer implements InitializingBean, DisposableBean {
+
+    private static final String PRICE_COLUMNS = "BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO EFFECTIVE_PRICES (BRAND_ID, PRODUCT_ID, FROM_DATE, TO_DATE, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURRENCY)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    /**
+     * Maximum number of inconsistent keys listed by a check.
+     */
+    private static final int MAX_REPORTED_KEYS = 100;
+
+    /**
+     * Maximum number of keys whose prices are read by one query, bounding the
+     * size of the statement and of its parameters.
+     */
+    static final int MAX_KEYS_PER_QUERY = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Thread running the rebuild at startup.
+     */
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("effective-prices-rebuild").daemon().factory());
+
+    /**
+     * Rebuild started at startup.
+     */
+    private CompletableFuture<RebuildReport> initialRebuild;
+
+    /**
+     * Constructs a new EffectivePriceMaterializer.
+     *
+     * @param jdbcTemplate        the template used to read prices and write segments
+     * @param transactionTemplate the template making each rebuild and refresh atomic
+     */
+    public EffectivePriceMaterializer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Starts rebuilding the table in the background, since it is not
+     * maintained while other repository types are in use.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        initialRebuild = CompletableFuture.supplyAsync(this::rebuild, rebuildExecutor);
+    }
+
+    /**
+     * Returns the rebuild started at startup.
+     *
+     * @return a future completed with the outcome of the rebuild, or
+     *         exceptionally if it failed
+     */
+    public CompletableFuture<RebuildReport> initialRebuild() {
+        return initialRebuild.copy();
+    }
+
+    /**
+     * Stops the rebuild started at startup if it is still running.
+     */
+    @Override
+    public void destroy() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * Replaces the whole table with the segments computed from {@code PRICES}.
+     *
+     * @return the outcome of the rebuild
+     */
+    public synchronized RebuildReport rebuild() {
+        long start = System.nanoTime();
+        long[] counts = new long[2];
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM EFFECTIVE_PRICES");
+            forEachKey(null, (key, prices) -> {
+                counts[0]++;
+                counts[1] += insert(key, PriceTimeline.of(prices).segments());
+            });
+        });
+        return new RebuildReport(counts[0], counts[1], Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Recomputes the segments of the given keys.
+     *
+     * @param keys the brand and product keys whose prices changed
+     */
+    public synchronized void refresh(Collection<PriceKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<PriceKey> distinctKeys = keys.stream().distinct().toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<PriceKey, List<Price>> pricesByKey = new HashMap<>();
+            distinctKeys.forEach(key -> pricesByKey.put(key, List.of()));
+            for (int from = 0; from < distinctKeys.size(); from += MAX_KEYS_PER_QUERY) {
+                forEachKey(distinctKeys.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, distinctKeys.size())), pricesByKey::put);
+            }
+            pricesByKey.forEach((key, prices) -> {
+                jdbcTemplate.update("DELETE FROM EFFECTIVE_PRICES WHERE PRODUCT_ID = ? AND BRAND_ID = ?", key.productId(), key.brandId());
+                insert(key, PriceTimeline.of(prices).segments());
+            });
+        });
+    }
+
+    /**
+     * Compares the table with the segments computed from {@code PRICES}.
+     * Both tables are read ordered by key and merged one key at a time, so
+     * neither is held in memory.
+     *
+     * @return the outcome of the check
+     */
+    public synchronized CheckReport check() {
+        return transactionTemplate.execute(status -> {
+            try (Stream<Row<Price>> priceRows = jdbcTemplate.queryForStream("SELECT " + PRICE_COLUMNS
+                    + " FROM PRICES ORDER BY BRAND_ID, PRODUCT_ID, ID", (rs, rowNum) -> new Row<>(key(rs), toPrice(rs)));
+                 Stream<Row<Segment>> segmentRows = jdbcTemplate.queryForStream("SELECT FROM_DATE, TO_DATE, " + PRICE_COLUMNS
+                    + " FROM EFFECTIVE_PRICES ORDER BY BRAND_ID, PRODUCT_ID, FROM_DATE", (rs, rowNum) -> new Row<>(key(rs), Segment.of(rs)))) {
+                Groups<Price> prices = new Groups<>(priceRows);
+                Groups<Segment> stored = new Groups<>(segmentRows);
+
+                long checked = 0;
+                long inconsistent = 0;
+                List<PriceKey> firstInconsistent = new ArrayList<>();
+                while (prices.key() != null || stored.key() != null) {
+                    int order = prices.key() == null ? 1
+                        : stored.key() == null ? -1
+                        : PriceKeyOrder.INSTANCE.compare(prices.key(), stored.key());
+                    PriceKey key = order <= 0 ? prices.key() : stored.key();
+                    List<Segment> expected = null;
+                    if (order <= 0) {
+                        checked++;
+                        expected = PriceTimeline.of(prices.take()).segments().stream().map(Segment::of).toList();
+                    }
+                    List<Segment> actual = order >= 0 ? stored.take() : null;
+                    if (expected == null || !expected.equals(actual)) {
+                        inconsistent++;
+                        if (firstInconsistent.size() < MAX_REPORTED_KEYS) {
+                            firstInconsistent.add(key);
+                        }
+                    }
+                }
+                return new CheckReport(checked, inconsistent, firstInconsistent);
+            }
+        });
+    }
+
+    /**
+     * Recomputes the segments of the changed keys once their transaction has
+     * committed.
+     *
+     * @param event the event carrying the changed keys
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesChanged(PricesChangedEvent event) {
+        refresh(event.keys());
+    }
+
+    /**
+     * Streams the prices of the given keys, or of every key, grouped by key.
+     * The predicate has one term per key, so callers bound the number of keys.
+     */
+    private void forEachKey(Collection<PriceKey> keys, BiConsumer<PriceKey, List<Price>> consumer) {
+        String sql = "SELECT " + PRICE_COLUMNS + " FROM PRICES";
+        Object[] args = {};
+        if (keys != null) {
+            sql += " WHERE " + String.join(" OR ", keys.stream().map(k -> "(BRAND_ID = ? AND PRODUCT_ID = ?)").toList());
+            args = keys.stream().flatMap(key -> Stream.of(key.brandId(), key.productId())).toArray();
+        }
+        sql += " ORDER BY BRAND_ID, PRODUCT_ID, ID";
+
+        List<Price> group = new ArrayList<>();
+        PriceKey[] current = new PriceKey[1];
+        jdbcTemplate.query(sql, (ResultSet rs) -> {
+            PriceKey key = key(rs);
+            if (!key.equals(current[0])) {
+                if (current[0] != null) {
+                    consumer.accept(current[0], List.copyOf(group));
+                }
+                group.clear();
+                current[0] = key;
+            }
+            group.add(toPrice(rs));
+        }, args);
+        if (current[0] != null) {
+            consumer.accept(current[0], List.copyOf(group));
+        }
+    }
+
+    private int insert(PriceKey key, List<PriceSegment> segments) {
+        if (segments.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, segments, segments.size(), (statement, segment) -> {
+            Price price = segment.price();
+            statement.setInt(1, key.brandId());
+            statement.setInt(2, key.productId());
+            statement.setTimestamp(3, Timestamp.valueOf(segment.from()));
+            statement.setTimestamp(4, segment.to() == null ? null : Timestamp.valueOf(segment.to()));
+            statement.setInt(5, price.priceList());
+            statement.setTimestamp(6, Timestamp.valueOf(price.startDate()));
+            statement.setTimestamp(7, Timestamp.valueOf(price.endDate()));
+            statement.setInt(8, price.priority());
+            statement.setBigDecimal(9, price.price());
+            statement.setString(10, price.currency());
+        });
+        return segments.size();
+    }
+
+    /**
+     * Maps the price columns shared by {@code PRICES} and {@code EFFECTIVE_PRICES}.
+     *
+     * @param rs the result set positioned on a row
+     * @return the price of the row
+     * @throws SQLException if a column cannot be read
+     */
+    static Price toPrice(ResultSet rs) throws SQLException {
+        return new Price(
+            rs.getInt("BRAND_ID"),
+            rs.getTimestamp("START_DATE").toLocalDateTime(),
+            rs.getTimestamp("END_DATE").toLocalDateTime(),
+            rs.getInt("PRICE_LIST"),
+            rs.getInt("PRODUCT_ID"),
+            rs.getInt("PRIORITY"),
+            rs.getBigDecimal("PRICE"),
+            rs.getString("CURRENCY")
+        );
+    }
+
+    private static PriceKey key(ResultSet rs) throws SQLException {
+        return new PriceKey(rs.getInt("BRAND_ID"), rs.getInt("PRODUCT_ID"));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * Outcome of a rebuild.
+     *
+     * @param keys     number of brand and product keys
+     * @param segments number of segments written
+     * @param elapsed  time taken by the rebuild
+     */
+    public record RebuildReport(long keys, long segments, Duration elapsed) {
+    }
+
+    /**
+     * Outcome of a consistency check.
+     *
+     * @param keysChecked       number of keys of {@code PRICES}
+     * @param inconsistentKeys  number of keys whose stored segments differ from the computed ones
+     * @param firstInconsistent the first inconsistent keys
+     */
+    public record CheckReport(long keysChecked, long inconsistentKeys, List<PriceKey> firstInconsistent) {
+
+        /**
+         * Tells whether the table matches {@code PRICES}.
+         *
+         * @return true if no key is inconsistent
+         */
+        public boolean isConsistent() {
+            return inconsistentKeys == 0;
+        }
+    }
+
+    /**
+     * Segment compared by the consistency check. Amounts are compared by value
+     * regardless of scale.
+     */
+    private record Segment(LocalDateTime from, LocalDateTime to, Price price) {
+
+        static Segment of(PriceSegment segment) {
+            return new Segment(segment.from(), segment.to(), segment.price());
+        }
+
+        static Segment of(ResultSet rs) throws SQLException {
+            return new Segment(rs.getTimestamp("FROM_DATE").toLocalDateTime(), toLocalDateTime(rs.getTimestamp("TO_DATE")), toPrice(rs));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Segment that
+                && from.equals(that.from) && Objects.equals(to, that.to)
+                && price.priceList().equals(that.price.priceList())
+                && price.startDate().equals(that.price.startDate())
+                && price.endDate().equals(that.price.endDate())
+                && price.priority().equals(that.price.priority())
+                && price.price().compareTo(that.price.price()) == 0
+                && price.currency().equals(that.price.currency());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, to, price.priceList());
+        }
+    }
+
+    /**
+     * Row of a table read ordered by key.
+     */
+    private record Row<T>(PriceKey key, T value) {
+    }
+
+    /**
+     * Groups the consecutive rows of a key, reading one row ahead.
+     */
+    private static final class Groups<T> {
+
+        private final Iterator<Row<T>> rows;
+        private Row<T> next;
+
+        Groups(Stream<Row<T>> rows) {
+            this.rows = rows.iterator();
+            advance();
+        }
+
+        /**
+         * Returns the key of the next group, or null when the rows are exhausted.
+         */
+        PriceKey key() {
+            return next == null ? null : next.key();
+        }
+
+        /**
+         * Returns the values of the next group and moves past it.
+         */
+        List<T> take() {
+            PriceKey key = next.key();
+            List<T> group = new ArrayList<>();
+            while (next != null && next.key().equals(key)) {
+                group.add(next.value());
+                advance();
+            }
+            return group;
+        }
+
+        private void advance() {
+            next = rows.hasNext() ? rows.next() : null;
+        }
+    }
+
+    /**
+     * Orders keys by brand, then product.
+     */
+    private enum PriceKeyOrder implements Comparator<PriceKey> {
+        INSTANCE;
+
+        @Override
+        public int compare(PriceKey a, PriceKey b) {
+            int byBrand = a.brandId().compareTo(b.brandId());
+            return byBrand != 0 ? byBrand : a.productId().compareTo(b.productId());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.EffectivePriceMaterializer.RebuildReport;
+
+/**
+ * Health indicator of the rebuild of {@code EFFECTIVE_PRICES} at startup,
+ * part of the readiness group: out of service while the rebuild runs, down if
+ * it failed, then up with its outcome.
+ */
+@Component
+public class EffectivePricesHealthIndicator implements HealthIndicator {
+
+    /**
+     * Materializer of the table, when the materialized repository is in use.
+     */
+    private final ObjectProvider<EffectivePriceMaterializer> materializer;
+
+    /**
+     * Constructs a new EffectivePricesHealthIndicator.
+     *
+     * @param materializer the materializer of the table, if in use
+     */
+    public EffectivePricesHealthIndicator(ObjectProvider<EffectivePriceMaterializer> materializer) {
+        this.materializer = materializer;
+    }
+
+    /**
+     * Reports whether the rebuild at startup has completed.
+     *
+     * @return up with the keys, segments and duration of the rebuild once
+     *         completed or when the table is not in use, down if the rebuild
+     *         failed, out of service otherwise
+     */
+    @Override
+    public Health health() {
+        EffectivePriceMaterializer effectivePriceMaterializer = materializer.getIfAvailable();
+        if (effectivePriceMaterializer == null) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        CompletableFuture<RebuildReport> rebuild = effectivePriceMaterializer.initialRebuild();
+        if (!rebuild.isDone()) {
+            return Health.outOfService().build();
+        }
+        try {
+            RebuildReport report = rebuild.join();
+            return Health.up()
+                .withDetail("keys", report.keys())
+                .withDetail("segments", report.segments())
+                .withDetail("duration", report.elapsed().toString())
+                .build();
+        } catch (CompletionException e) {
+            return Health.down(e.getCause()).build();
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
 import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
 import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
 
 /**
@@ -13,6 +25,7 @@ import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
  * PriceJpaRepository to retrieve prices from the database.
  */
 @Repository
+@ConditionalOnProperty(prefix = "pricechecker.repository", name = "type", havingValue = "jpa", matchIfMissing = true)
 public class H2PriceAdapter implements PriceRepositoryPort {
 
     /**
@@ -20,13 +33,20 @@ public class H2PriceAdapter implements PriceRepositoryPort {
      */
     private final PriceJpaRepository priceJpaRepository;
 
+    /**
+     * Meters recorded for each query and mapping.
+     */
+    private final PriceLookupMetrics metrics;
+
     /**
      * Constructs a new H2PriceAdapter with the given PriceJpaRepository.
      *
      * @param priceJpaRepository the repository to access price data
+     * @param metrics            the meters recorded for each query and mapping
      */
-    public H2PriceAdapter(PriceJpaRepository priceJpaRepository) {
+    public H2PriceAdapter(PriceJpaRepository priceJpaRepository, PriceLookupMetrics metrics) {
         this.priceJpaRepository = priceJpaRepository;
+        this.metrics = metrics;
     }
 
     /**
@@ -38,28 +58,64 @@ public class H2PriceAdapter implements PriceRepositoryPort {
      */
     @Override
     public List<Price> findPricesByProductIdAndBrandId(Integer productId, Integer brandId) {
-        return priceJpaRepository.findByProductIdAndBrandId(productId, brandId)
-            .stream()
-            .map(this::toDomainModel)
-            .collect(Collectors.toList());
+        List<PriceEntity> entities = metrics.query().record(() -> priceJpaRepository.findByProductIdAndBrandId(productId, brandId));
+        metrics.recordCandidates(entities.size());
+
+        return metrics.mapping().record(() -> entities.stream()
+            .map(PriceEntityMapper::toDomainModel)
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * Finds all prices of each of the given brand and product keys with a
+     * single IN-list query.
+     *
+     * @param keys the brand and product keys to load
+     * @return prices per requested key; keys without prices map to an empty list
+     */
+    @Override
+    public Map<PriceKey, List<Price>> findPricesByKeys(Collection<PriceKey> keys) {
+        Map<PriceKey, List<Price>> prices = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return prices;
+        }
+
+        Set<Integer> productIds = new HashSet<>();
+        Set<Integer> brandIds = new HashSet<>();
+        for (PriceKey key : keys) {
+            prices.put(key, new ArrayList<>());
+            productIds.add(key.productId());
+            brandIds.add(key.brandId());
+        }
+
+        List<PriceEntity> entities = metrics.query().record(() -> priceJpaRepository.findByProductIdInAndBrandIdIn(productIds, brandIds));
+
+        metrics.mapping().record(() -> {
+            for (PriceEntity entity : entities) {
+                List<Price> keyPrices = prices.get(new PriceKey(entity.getBrandId(), entity.getProductId()));
+                if (keyPrices != null) {
+                    keyPrices.add(PriceEntityMapper.toDomainModel(entity));
+                }
+            }
+        });
+        prices.values().forEach(keyPrices -> metrics.recordCandidates(keyPrices.size()));
+        return prices;
     }
 
     /**
-     * Converts a PriceEntity to a Price domain model.
+     * Finds the price with the highest priority applicable to the given product
+     * and brand at the given date, filtering and ordering in the database so
+     * that at most one row is read.
      *
-     * @param entity the PriceEntity to convert
-     * @return the corresponding Price domain model
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, if any
      */
-    private Price toDomainModel(PriceEntity entity) {
-        return new Price(
-            entity.getBrandId(),
-            entity.getStartDate(),
-            entity.getEndDate(),
-            entity.getPriceList(),
-            entity.getProductId(),
-            entity.getPriority(),
-            entity.getPrice(),
-            entity.getCurrency()
-        );
+    @Override
+    public Optional<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return metrics.query().record(() -> priceJpaRepository.findApplicablePrices(productId, brandId, applicationDate, Limit.of(1)))
+            .stream()
+            .findFirst();
     }
-}
\ No newline at end of file
+}
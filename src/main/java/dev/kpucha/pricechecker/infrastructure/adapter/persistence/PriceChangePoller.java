@@ -0,0 +1,198 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import dev.kpucha.pricechecker.domain.event.PricesChangedEvent;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.infrastructure.config.ConditionalOnPriceDatabase;
+import dev.kpucha.pricechecker.infrastructure.config.PriceChangeProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Polls {@code PRICES} for rows written by any client, including other
+ * instances and direct SQL, and publishes the affected keys as a
+ * PricesChangedEvent so that caches and indexes refresh only those keys.
+ *
+ * Updates are found through {@code LAST_UPDATE} and deletions through
+ * {@code PRICES_TOMBSTONES}, both past a high-water mark persisted in
+ * {@code PRICES_CHANGE_CURSORS}. Rows are read again for a short overlap
+ * before the mark, since a transaction may commit after a later one; rows
+ * already reported with the same {@code LAST_UPDATE} are skipped.
+ */
+@Component
+@ConditionalOnPriceDatabase
+@ConditionalOnProperty(prefix = "pricechecker.changes", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PriceChangePoller {
+
+    /**
+     * Summary of changed rows per poll, tagged by type.
+     */
+    public static final String ROWS_SUMMARY = "pricechecker.changes.rows";
+    /**
+     * Summary of changed keys per poll.
+     */
+    public static final String KEYS_SUMMARY = "pricechecker.changes.keys";
+    /**
+     * Timer of the delay between a write and its publication.
+     */
+    public static final String PROPAGATION_TIMER = "pricechecker.changes.propagation";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriceChangeProperties properties;
+    private final DistributionSummary updatedRows;
+    private final DistributionSummary deletedRows;
+    private final DistributionSummary changedKeys;
+    private final Timer propagation;
+
+    /**
+     * Rows reported within the overlap window, with their {@code LAST_UPDATE}.
+     */
+    private final Map<Long, LocalDateTime> recentRows = new HashMap<>();
+
+    private LocalDateTime lastUpdate;
+    private long lastTombstoneId = -1;
+
+    /**
+     * Constructs a new PriceChangePoller.
+     *
+     * @param jdbcTemplate   the template used to read changes and the high-water mark
+     * @param eventPublisher the publisher used to notify the changed keys
+     * @param properties     the polling configuration
+     * @param meterRegistry  the registry to publish change metrics to
+     */
+    public PriceChangePoller(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+            PriceChangeProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.updatedRows = DistributionSummary.builder(ROWS_SUMMARY).tag("type", "updated").register(meterRegistry);
+        this.deletedRows = DistributionSummary.builder(ROWS_SUMMARY).tag("type", "deleted").register(meterRegistry);
+        this.changedKeys = DistributionSummary.builder(KEYS_SUMMARY).register(meterRegistry);
+        this.propagation = Timer.builder(PROPAGATION_TIMER)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reads the changes made since the previous poll and publishes their keys.
+     *
+     * @return the keys of the changed prices
+     */
+    @Scheduled(fixedDelayString = "${pricechecker.changes.poll-interval:1s}",
+            initialDelayString = "${pricechecker.changes.poll-interval:1s}")
+    public synchronized Set<PriceKey> poll() {
+        if (lastTombstoneId < 0) {
+            loadCursor();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Set<PriceKey> keys = new HashSet<>();
+
+        LocalDateTime from = lastUpdate == null ? EPOCH : lastUpdate.minus(properties.overlap());
+        List<Change> updates = jdbcTemplate.query(
+            "SELECT ID, BRAND_ID, PRODUCT_ID, LAST_UPDATE FROM PRICES WHERE LAST_UPDATE > ? ORDER BY LAST_UPDATE",
+            (rs, row) -> new Change(rs.getLong(1), new PriceKey(rs.getInt(2), rs.getInt(3)), rs.getTimestamp(4).toLocalDateTime()),
+            Timestamp.valueOf(from));
+        int updated = 0;
+        for (Change change : updates) {
+            if (!change.writtenAt().equals(recentRows.put(change.id(), change.writtenAt()))) {
+                updated++;
+                keys.add(change.key());
+                recordPropagation(change, now);
+            }
+            if (lastUpdate == null || change.writtenAt().isAfter(lastUpdate)) {
+                lastUpdate = change.writtenAt();
+            }
+        }
+        if (lastUpdate != null) {
+            LocalDateTime expiry = lastUpdate.minus(properties.overlap());
+            recentRows.values().removeIf(writtenAt -> !writtenAt.isAfter(expiry));
+        }
+
+        List<Change> deletions = jdbcTemplate.query(
+            "SELECT ID, BRAND_ID, PRODUCT_ID, DELETED_AT FROM PRICES_TOMBSTONES WHERE ID > ? ORDER BY ID",
+            (rs, row) -> new Change(rs.getLong(1), new PriceKey(rs.getInt(2), rs.getInt(3)), rs.getTimestamp(4).toLocalDateTime()),
+            lastTombstoneId);
+        for (Change change : deletions) {
+            keys.add(change.key());
+            recordPropagation(change, now);
+            lastTombstoneId = change.id();
+        }
+
+        if (!keys.isEmpty()) {
+            eventPublisher.publishEvent(new PricesChangedEvent(Set.copyOf(keys)));
+            updatedRows.record(updated);
+            deletedRows.record(deletions.size());
+            changedKeys.record(keys.size());
+            jdbcTemplate.update("UPDATE PRICES_CHANGE_CURSORS SET LAST_UPDATE = ?, LAST_TOMBSTONE_ID = ? WHERE CONSUMER = ?",
+                lastUpdate == null ? null : Timestamp.valueOf(lastUpdate), lastTombstoneId, properties.consumer());
+        }
+        return keys;
+    }
+
+    /**
+     * Loads the persisted high-water mark, starting from the current end of
+     * both tables for a new consumer. Rows within the overlap before the mark
+     * are considered reported, since this process has just read them.
+     */
+    private void loadCursor() {
+        List<Cursor> cursors = jdbcTemplate.query(
+            "SELECT LAST_UPDATE, LAST_TOMBSTONE_ID FROM PRICES_CHANGE_CURSORS WHERE CONSUMER = ?",
+            (rs, row) -> new Cursor(rs.getTimestamp(1), rs.getLong(2)), properties.consumer());
+        Cursor cursor;
+        if (cursors.isEmpty()) {
+            cursor = new Cursor(
+                jdbcTemplate.queryForObject("SELECT MAX(LAST_UPDATE) FROM PRICES", Timestamp.class),
+                jdbcTemplate.queryForObject("SELECT COALESCE(MAX(ID), 0) FROM PRICES_TOMBSTONES", Long.class));
+            jdbcTemplate.update("INSERT INTO PRICES_CHANGE_CURSORS (CONSUMER, LAST_UPDATE, LAST_TOMBSTONE_ID) VALUES (?, ?, ?)",
+                properties.consumer(), cursor.lastUpdate(), cursor.lastTombstoneId());
+        } else {
+            cursor = cursors.get(0);
+        }
+        this.lastUpdate = cursor.lastUpdate() == null ? null : cursor.lastUpdate().toLocalDateTime();
+        this.lastTombstoneId = cursor.lastTombstoneId();
+        if (lastUpdate != null) {
+            jdbcTemplate.query("SELECT ID, LAST_UPDATE FROM PRICES WHERE LAST_UPDATE > ?",
+                rs -> {
+                    recentRows.put(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime());
+                },
+                Timestamp.valueOf(lastUpdate.minus(properties.overlap())));
+        }
+    }
+
+    private void recordPropagation(Change change, LocalDateTime now) {
+        Duration latency = Duration.between(change.writtenAt(), now);
+        if (!latency.isNegative()) {
+            propagation.record(latency);
+        }
+    }
+
+    /**
+     * A written or deleted row.
+     */
+    private record Change(long id, PriceKey key, LocalDateTime writtenAt) {
+    }
+
+    /**
+     * A persisted high-water mark.
+     */
+    private record Cursor(Timestamp lastUpdate, long lastTombstoneId) {
+    }
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
@@ -13,6 +14,7 @@ import lombok.Setter;
  * Represents a price entity in the database.
  */
 @Entity
+@EntityListeners(PriceEntityListener.class)
 @Table(name = "PRICES")
 @Getter
 @Setter
@@ -0,0 +1,88 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import dev.kpucha.pricechecker.domain.event.PricesChangedEvent;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.infrastructure.config.ConditionalOnPriceDatabase;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * JPA entity listener that keeps the change tracking columns of every
+ * PriceEntity written through JPA up to date and publishes a
+ * PricesChangedEvent for it.
+ */
+@Component
+@ConditionalOnPriceDatabase
+public class PriceEntityListener {
+
+    private static final String INSERT_TOMBSTONE_SQL =
+            "INSERT INTO PRICES_TOMBSTONES (PRICE_ID, BRAND_ID, PRODUCT_ID, DELETED_AT) VALUES (?, ?, ?, ?)";
+
+    /**
+     * Publisher used to notify the written keys.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Template used to record deletions, within the deleting transaction.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new PriceEntityListener.
+     *
+     * @param eventPublisher the publisher used to notify the written keys
+     * @param jdbcTemplate   the template used to record deletions
+     */
+    public PriceEntityListener(ApplicationEventPublisher eventPublisher, JdbcTemplate jdbcTemplate) {
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Stamps the entity with the time of the write, so that change polling
+     * picks it up.
+     *
+     * @param entity the entity about to be inserted or updated
+     */
+    @PrePersist
+    @PreUpdate
+    public void onPriceWriting(PriceEntity entity) {
+        entity.setLastUpdate(LocalDateTime.now());
+    }
+
+    /**
+     * Records a tombstone for the deleted entity, so that change polling
+     * picks up the deletion.
+     *
+     * @param entity the deleted entity
+     */
+    @PostRemove
+    public void onPriceRemoved(PriceEntity entity) {
+        jdbcTemplate.update(INSERT_TOMBSTONE_SQL, entity.getId(), entity.getBrandId(), entity.getProductId(),
+            Timestamp.valueOf(LocalDateTime.now()));
+        onPriceWritten(entity);
+    }
+
+    /**
+     * Publishes the key of the written entity.
+     *
+     * @param entity the inserted or updated entity
+     */
+    @PostPersist
+    @PostUpdate
+    public void onPriceWritten(PriceEntity entity) {
+        eventPublisher.publishEvent(new PricesChangedEvent(Set.of(new PriceKey(entity.getBrandId(), entity.getProductId()))));
+    }
+}
@@ -0,0 +1,33 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+
+/**
+ * Maps PriceEntity records to the Price domain model.
+ */
+public final class PriceEntityMapper {
+
+    private PriceEntityMapper() {
+    }
+
+    /**
+     * Converts a PriceEntity to a Price domain model.
+     *
+     * @param entity the PriceEntity to convert
+     * @return the corresponding Price domain model
+     */
+    public static Price toDomainModel(PriceEntity entity) {
+        return new Price(
+            entity.getBrandId(),
+            entity.getStartDate(),
+            entity.getEndDate(),
+            entity.getPriceList(),
+            entity.getProductId(),
+            entity.getPriority(),
+            entity.getPrice(),
+            entity.getCurrency(),
+            entity.getId(),
+            entity.getLastUpdate()
+        );
+    }
+}
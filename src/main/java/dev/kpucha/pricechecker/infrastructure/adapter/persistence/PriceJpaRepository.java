@@ -1,8 +1,14 @@
 package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import dev.kpucha.pricechecker.domain.model.Price;
 
 /**
  * Spring Data repository for PriceEntity.
@@ -17,4 +23,40 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
      * @return list of PriceEntity records matching the given product and brand IDs
      */
     List<PriceEntity> findByProductIdAndBrandId(Integer productId, Integer brandId);
+
+    /**
+     * Finds all PriceEntity records whose product ID and brand ID are among the
+     * given ones, in a single IN-list query. The result is the cross product of
+     * both lists, so callers must keep only the pairs they asked for.
+     *
+     * @param productIds the IDs of the products
+     * @param brandIds   the IDs of the brands
+     * @return list of PriceEntity records matching any of the given IDs
+     */
+    List<PriceEntity> findByProductIdInAndBrandIdIn(Collection<Integer> productIds, Collection<Integer> brandIds);
+
+    /**
+     * Finds the prices of a product and brand applicable at the given date,
+     * highest priority first. The date filter and the ordering run in the
+     * database and rows are projected straight into the domain model, so only
+     * {@code limit} rows are transferred whatever the size of the price history.
+     * On equal priority the row inserted first wins.
+     *
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @param applicationDate the date to check applicability
+     * @param limit           the maximum number of rows to return
+     * @return the applicable prices, highest priority first
+     */
+    @Query("""
+        SELECT new dev.kpucha.pricechecker.domain.model.Price(
+            p.brandId, p.startDate, p.endDate, p.priceList, p.productId, p.priority, p.price, p.currency, p.id, p.lastUpdate)
+        FROM PriceEntity p
+        WHERE p.productId = :productId
+          AND p.brandId = :brandId
+          AND p.startDate <= :applicationDate
+          AND p.endDate >= :applicationDate
+        ORDER BY p.priority DESC, p.id ASC
+        """)
+    List<Price> findApplicablePrices(Integer productId, Integer brandId, LocalDateTime applicationDate, Limit limit);
 }
@@ -0,0 +1,135 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.port.output.ReactivePriceRepositoryPort;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC implementation of the ReactivePriceRepositoryPort, reading the same
+ * {@code PRICES} table as H2PriceAdapter without blocking the caller.
+ *
+ * Connections are pooled, so a lookup does not open a connection. The pool is
+ * kept private to the adapter: exposing it as a bean would make Spring Boot
+ * back off from configuring the JDBC datasource. The adapter only exists on
+ * the WebFlux stack, so that the pool is not opened where nothing reads it.
+ */
+@Repository
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class R2dbcPriceAdapter implements ReactivePriceRepositoryPort, DisposableBean {
+
+    private static final String COLUMNS = "BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY, ID, LAST_UPDATE";
+
+    /**
+     * Client used to run the queries.
+     */
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Pool of the connections the queries run on.
+     */
+    private final ConnectionPool connectionPool;
+
+    /**
+     * Constructs a new R2dbcPriceAdapter connecting to the given database with
+     * the credentials of the JDBC datasource.
+     *
+     * @param url         the R2DBC URL of the prices database
+     * @param username    the user of the prices database
+     * @param password    the password of the prices database
+     * @param maxPoolSize the maximum number of pooled connections
+     */
+    public R2dbcPriceAdapter(@Value("${pricechecker.reactive.r2dbc-url}") String url,
+            @Value("${spring.datasource.username:}") String username, @Value("${spring.datasource.password:}") String password,
+            @Value("${pricechecker.reactive.max-pool-size:10}") int maxPoolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .initialSize(1)
+            .maxSize(maxPoolSize)
+            .maxIdleTime(Duration.ofMinutes(30))
+            .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Finds all prices applicable to the given product and brand.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @return the prices available for the given product and brand
+     */
+    @Override
+    public Flux<Price> findPricesByProductIdAndBrandId(Integer productId, Integer brandId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM PRICES WHERE PRODUCT_ID = :productId AND BRAND_ID = :brandId")
+            .bind("productId", productId)
+            .bind("brandId", brandId)
+            .map(R2dbcPriceAdapter::toPrice)
+            .all();
+    }
+
+    /**
+     * Finds the price with the highest priority applicable at the given date,
+     * letting the database filter, order and limit the candidates.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, or empty if none
+     */
+    @Override
+    public Mono<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return databaseClient.sql("SELECT " + COLUMNS + """
+                 FROM PRICES
+                WHERE PRODUCT_ID = :productId AND BRAND_ID = :brandId
+                  AND START_DATE <= :applicationDate AND END_DATE >= :applicationDate
+                ORDER BY PRIORITY DESC, ID ASC
+                LIMIT 1""")
+            .bind("productId", productId)
+            .bind("brandId", brandId)
+            .bind("applicationDate", applicationDate)
+            .map(R2dbcPriceAdapter::toPrice)
+            .one();
+    }
+
+    /**
+     * Closes the pooled connections.
+     */
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static Price toPrice(Readable row) {
+        return new Price(
+            row.get("BRAND_ID", Integer.class),
+            row.get("START_DATE", LocalDateTime.class),
+            row.get("END_DATE", LocalDateTime.class),
+            row.get("PRICE_LIST", Integer.class),
+            row.get("PRODUCT_ID", Integer.class),
+            row.get("PRIORITY", Integer.class),
+            row.get("PRICE", BigDecimal.class),
+            row.get("CURRENCY", String.class),
+            row.get("ID", Long.class),
+            row.get("LAST_UPDATE", LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.rest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import dev.kpucha.pricechecker.application.batch.PriceBatch;
+import dev.kpucha.pricechecker.application.batch.PriceBatchResolver;
+import dev.kpucha.pricechecker.infrastructure.adapter.batch.PriceBatchCsv;
+import dev.kpucha.pricechecker.infrastructure.adapter.batch.PriceBatchTooLargeException;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.PriceShards;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.ShardNotOwnerException;
+import dev.kpucha.pricechecker.infrastructure.config.PriceBatchProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * REST controller resolving very large batches of lookups, read and written
+ * as CSV. The request and response bodies are streamed with Spring MVC, so
+ * the controller is not registered on the WebFlux stack. Batches are resolved
+ * from the local repository, so with sharding every key must be owned by the
+ * node asked.
+ */
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class PriceBatchRestController {
+
+    /**
+     * Resolver of the batches.
+     */
+    private final PriceBatchResolver resolver;
+
+    /**
+     * Assignment of keys to nodes, if sharding is enabled.
+     */
+    private final ObjectProvider<PriceShards> shards;
+
+    /**
+     * Maximum number of tuples of a batch.
+     */
+    private final long maxTuples;
+
+    /**
+     * Constructs a new PriceBatchRestController.
+     *
+     * @param resolver   the resolver of the batches
+     * @param shards     the assignment of keys to nodes, if sharding is enabled
+     * @param properties the batch configuration
+     */
+    public PriceBatchRestController(PriceBatchResolver resolver, ObjectProvider<PriceShards> shards,
+            PriceBatchProperties properties) {
+        this.resolver = resolver;
+        this.shards = shards;
+        this.maxTuples = properties.maxTuples();
+    }
+
+    /**
+     * Endpoint to resolve the prioritized price of every product, brand and date
+     * line of the request body. The whole body is read before answering; the
+     * results are streamed as they are resolved, ordered by brand, product and date.
+     *
+     * @param body the CSV lines of the tuples
+     * @return the streamed CSV results
+     * @throws IOException             if the body cannot be read
+     * @throws ResponseStatusException with status 400 naming the first malformed line,
+     *                                 or 413 if the body holds too many tuples
+     * @throws ShardNotOwnerException  if another node owns one of the keys
+     */
+    @Operation(summary = "Resolve a batch of lookups",
+                description = "Reads productId,brandId,applicationDate CSV lines and streams each tuple with its priceList,price,currency, empty when no price applies")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streamed the results"),
+        @ApiResponse(responseCode = "400", description = "Malformed line"),
+        @ApiResponse(responseCode = "413", description = "More tuples than pricechecker.batch.max-tuples"),
+        @ApiResponse(responseCode = "421", description = "A key is owned by another node")
+    })
+    @PostMapping(path = "/prices/prioritized/batch", consumes = "text/csv", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> resolveBatch(InputStream body) throws IOException {
+        PriceBatch batch;
+        try {
+            batch = PriceBatchCsv.read(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), maxTuples);
+        } catch (PriceBatchTooLargeException e) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        shards.ifAvailable(priceShards -> priceShards.requireOwned(batch.sortedKeys()));
+        StreamingResponseBody results = output -> {
+            output.write(PriceBatchCsv.HEADER.getBytes(StandardCharsets.UTF_8));
+            resolver.resolve(batch, PriceBatchCsv.FORMATTER, output);
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("text/csv")).body(results);
+    }
+}
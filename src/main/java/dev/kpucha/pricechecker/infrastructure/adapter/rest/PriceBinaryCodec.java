@@ -0,0 +1,193 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.rest;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.kpucha.pricechecker.application.dto.BulkPriceRequest;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResponse;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResult;
+import dev.kpucha.pricechecker.application.dto.PriceRequest;
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+
+/**
+ * Fixed-layout binary encoding of the price lookup requests and responses.
+ *
+ * Values are big-endian. Dates are epoch milliseconds of the date taken as
+ * UTC. Prices are exact decimals, written as their scale followed by the
+ * unscaled value, so that {@code scale:i8 unscaled:i64} stands for
+ * {@code unscaled * 10^-scale}. Currencies are ASCII codes preceded by their
+ * length. Layouts:
+ * <ul>
+ * <li>PriceRequest (16 bytes): {@code applicationDate:i64 productId:i32 brandId:i32}</li>
+ * <li>PrioritizedPriceResponse (41 bytes with a three-letter currency):
+ * {@code productId:i32 brandId:i32} followed by the price</li>
+ * <li>price (33 bytes with a three-letter currency): {@code priceList:i32 startDate:i64 endDate:i64
+ * scale:i8 unscaled:i64 currencyLength:u8 currency:u8[currencyLength]}</li>
+ * <li>BulkPriceRequest: {@code count:i32} followed by {@code count} requests</li>
+ * <li>BulkPriceResponse: {@code count:i32} followed by {@code count} results of
+ * {@code applicationDate:i64 productId:i32 brandId:i32 found:u8} and, when
+ * found, the price</li>
+ * </ul>
+ */
+public final class PriceBinaryCodec {
+
+    private static final int REQUEST_BYTES = 16;
+
+    private PriceBinaryCodec() {
+    }
+
+    /**
+     * Checks whether the given type has a binary encoding.
+     *
+     * @param type the type to check
+     * @return true if values of the type can be read or written
+     */
+    public static boolean supports(Class<?> type) {
+        return type == PriceRequest.class || type == BulkPriceRequest.class
+            || type == PrioritizedPriceResponse.class || type == BulkPriceResponse.class;
+    }
+
+    /**
+     * Writes the given value.
+     *
+     * @param value  a PriceRequest, BulkPriceRequest, PrioritizedPriceResponse or BulkPriceResponse
+     * @param output the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    public static void write(Object value, DataOutput output) throws IOException {
+        switch (value) {
+            case PriceRequest request -> writeRequest(request, output);
+            case BulkPriceRequest request -> {
+                output.writeInt(request.items().size());
+                for (PriceRequest item : request.items()) {
+                    writeRequest(item, output);
+                }
+            }
+            case PrioritizedPriceResponse response -> {
+                output.writeInt(response.productId());
+                output.writeInt(response.brandId());
+                writePrice(response, output);
+            }
+            case BulkPriceResponse response -> {
+                output.writeInt(response.results().size());
+                for (BulkPriceResult result : response.results()) {
+                    output.writeLong(toEpochMilli(result.applicationDate()));
+                    output.writeInt(result.productId());
+                    output.writeInt(result.brandId());
+                    output.writeBoolean(result.found());
+                    if (result.found()) {
+                        writePrice(result.price(), output);
+                    }
+                }
+            }
+            default -> throw new IllegalArgumentException("No binary encoding for " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Reads a value of the given type.
+     *
+     * @param type   PriceRequest, BulkPriceRequest, PrioritizedPriceResponse or BulkPriceResponse
+     * @param input  the input to read from
+     * @param length the number of bytes available, or -1 if unknown
+     * @return the value read
+     * @throws IOException if the input is truncated or malformed
+     */
+    public static Object read(Class<?> type, DataInput input, long length) throws IOException {
+        if (type == PriceRequest.class) {
+            return readRequest(input);
+        }
+        if (type == BulkPriceRequest.class) {
+            int count = readCount(input);
+            if (length >= 0 && length != 4 + (long) count * REQUEST_BYTES) {
+                throw new IOException("Expected " + count + " items of " + REQUEST_BYTES + " bytes");
+            }
+            List<PriceRequest> items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                items.add(readRequest(input));
+            }
+            return new BulkPriceRequest(items);
+        }
+        if (type == PrioritizedPriceResponse.class) {
+            return readPrice(input.readInt(), input.readInt(), input);
+        }
+        if (type == BulkPriceResponse.class) {
+            int count = readCount(input);
+            List<BulkPriceResult> results = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                LocalDateTime applicationDate = fromEpochMilli(input.readLong());
+                int productId = input.readInt();
+                int brandId = input.readInt();
+                boolean found = input.readBoolean();
+                PrioritizedPriceResponse price = found ? readPrice(productId, brandId, input) : null;
+                results.add(new BulkPriceResult(applicationDate, productId, brandId, found, price));
+            }
+            return new BulkPriceResponse(results);
+        }
+        throw new IllegalArgumentException("No binary encoding for " + type.getName());
+    }
+
+    private static void writeRequest(PriceRequest request, DataOutput output) throws IOException {
+        output.writeLong(toEpochMilli(request.applicationDate()));
+        output.writeInt(request.productId());
+        output.writeInt(request.brandId());
+    }
+
+    private static PriceRequest readRequest(DataInput input) throws IOException {
+        return new PriceRequest(fromEpochMilli(input.readLong()), input.readInt(), input.readInt());
+    }
+
+    private static void writePrice(PrioritizedPriceResponse price, DataOutput output) throws IOException {
+        output.writeInt(price.priceList());
+        output.writeLong(toEpochMilli(price.startDate()));
+        output.writeLong(toEpochMilli(price.endDate()));
+        BigDecimal amount = BigDecimal.valueOf(price.price());
+        if (amount.scale() != (byte) amount.scale()) {
+            throw new IllegalArgumentException("No binary encoding for the price " + amount);
+        }
+        output.writeByte(amount.scale());
+        output.writeLong(amount.unscaledValue().longValueExact());
+        byte[] currency = price.currency().getBytes(StandardCharsets.US_ASCII);
+        if (currency.length > 0xFF) {
+            throw new IllegalArgumentException("No binary encoding for the currency " + price.currency());
+        }
+        output.writeByte(currency.length);
+        output.write(currency);
+    }
+
+    private static PrioritizedPriceResponse readPrice(int productId, int brandId, DataInput input) throws IOException {
+        int priceList = input.readInt();
+        LocalDateTime startDate = fromEpochMilli(input.readLong());
+        LocalDateTime endDate = fromEpochMilli(input.readLong());
+        int scale = input.readByte();
+        double price = BigDecimal.valueOf(input.readLong(), scale).doubleValue();
+        byte[] currency = new byte[input.readUnsignedByte()];
+        input.readFully(currency);
+        return new PrioritizedPriceResponse(productId, brandId, priceList, startDate, endDate, price,
+            new String(currency, StandardCharsets.US_ASCII));
+    }
+
+    private static int readCount(DataInput input) throws IOException {
+        int count = input.readInt();
+        if (count < 0 || count > BulkPriceRequest.MAX_ITEMS) {
+            throw new IOException("Invalid item count " + count);
+        }
+        return count;
+    }
+
+    private static long toEpochMilli(LocalDateTime date) {
+        return date.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromEpochMilli(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,75 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.rest;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+
+/**
+ * Message converter reading and writing the price lookup requests and
+ * responses in the fixed-layout encoding of PriceBinaryCodec, negotiated
+ * with the {@value #MEDIA_TYPE_VALUE} media type.
+ */
+public class PriceBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    /**
+     * Media type of the binary encoding.
+     */
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.pricechecker+binary";
+
+    /**
+     * Media type of the binary encoding.
+     */
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    /**
+     * Meters receiving the serialization time.
+     */
+    private final PriceLookupMetrics metrics;
+
+    /**
+     * Constructs a new PriceBinaryHttpMessageConverter.
+     *
+     * @param metrics the meters receiving the serialization time
+     */
+    public PriceBinaryHttpMessageConverter(PriceLookupMetrics metrics) {
+        super(MEDIA_TYPE);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PriceBinaryCodec.supports(clazz);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return PriceBinaryCodec.read(clazz, new DataInputStream(inputMessage.getBody()),
+                inputMessage.getHeaders().getContentLength());
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Invalid binary price payload: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputMessage.getBody()));
+            PriceBinaryCodec.write(object, output);
+            output.flush();
+        } finally {
+            metrics.serialization().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
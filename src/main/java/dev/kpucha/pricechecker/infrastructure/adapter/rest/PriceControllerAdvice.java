@@ -1,16 +1,22 @@
 package dev.kpucha.pricechecker.infrastructure.adapter.rest;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import dev.kpucha.pricechecker.domain.exception.PriceNotFoundException;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.ShardNotOwnerException;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.ShardUnavailableException;
 
 /**
  * Global exception handler for price-related controllers.
@@ -19,6 +25,21 @@ import dev.kpucha.pricechecker.domain.exception.PriceNotFoundException;
 @RestControllerAdvice
 public class PriceControllerAdvice {
 
+    /**
+     * Status of a query sent to a node that does not own its key, not defined
+     * by HttpStatus.
+     */
+    private static final HttpStatusCode MISDIRECTED_REQUEST = HttpStatusCode.valueOf(421);
+
+    /**
+     * Pre-serialized response returned whenever no prioritized price is found.
+     */
+    private static final ResponseEntity<byte[]> PRICE_NOT_FOUND = ResponseEntity.status(HttpStatus.NOT_FOUND)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body("""
+            {"status":404,"error":"Not Found","message":"Prioritized price not found for the given parameters"}"""
+            .getBytes(StandardCharsets.UTF_8));
+
     /**
      * Handles MethodArgumentNotValidException and returns a 400 Bad Request response.
      *
@@ -45,14 +66,71 @@ public class PriceControllerAdvice {
      * @return ResponseEntity with error details
      */
     @ExceptionHandler(PriceNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handlePriceNotFound() {
-        Map<String, Object> error = Map.of(
-            "timestamp", LocalDateTime.now(),
-            "status", HttpStatus.NOT_FOUND.value(),
-            "error", "Not Found",
-            "message", "Prioritized price not found for the given parameters"
-        );
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    public ResponseEntity<byte[]> handlePriceNotFound() {
+        return priceNotFound();
+    }
+
+    /**
+     * Handles ShardUnavailableException and returns a 503 Service Unavailable response.
+     *
+     * @param ex the exception naming the node that failed
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(ShardUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleShardUnavailable(ShardUnavailableException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    /**
+     * Handles ShardNotOwnerException and returns a 421 Misdirected Request
+     * response naming the node to ask. It depends on the node that was asked,
+     * so it must not be stored by shared caches. The body is JSON even for
+     * endpoints producing another type, such as the transition stream.
+     *
+     * @param ex the exception naming the node owning the key
+     * @return ResponseEntity with error details
+     */
+    @ExceptionHandler(ShardNotOwnerException.class)
+    public ResponseEntity<Map<String, Object>> handleShardNotOwner(ShardNotOwnerException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", MISDIRECTED_REQUEST.value());
+        errorResponse.put("error", "Misdirected Request");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("owner", ex.owner().toString());
+
+        return ResponseEntity.status(MISDIRECTED_REQUEST).cacheControl(CacheControl.noStore())
+            .contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    /**
+     * Returns the 404 Not Found response for a missing prioritized price.
+     * The response and its JSON body are built once and shared, so a miss costs
+     * no more than a hit; the time of the response is given by the Date header.
+     *
+     * @return ResponseEntity with error details
+     */
+    public static ResponseEntity<byte[]> priceNotFound() {
+        return PRICE_NOT_FOUND;
+    }
+
+    /**
+     * Returns the 404 Not Found response for a missing prioritized price,
+     * cacheable as given.
+     *
+     * @param cacheControl the cache directives of the response
+     * @return ResponseEntity with error details
+     */
+    public static ResponseEntity<byte[]> priceNotFound(CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .headers(PRICE_NOT_FOUND.getHeaders())
+            .cacheControl(cacheControl)
+            .body(PRICE_NOT_FOUND.getBody());
     }
 }
@@ -0,0 +1,32 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+
+/**
+ * Computes the entity tags of prioritized price responses.
+ */
+final class PriceETags {
+
+    private PriceETags() {
+    }
+
+    /**
+     * Computes the strong entity tag of the given response, a digest of its
+     * fields. It depends on nothing but the representation, so every node
+     * tags a response the same way, whether it read the price or a forwarded
+     * response of the owner of the key, and a conditional request sent to any
+     * node behind a load balancer can be answered with 304.
+     *
+     * @param response the prioritized price response
+     * @return the quoted entity tag
+     */
+    static String of(PrioritizedPriceResponse response) {
+        var fields = String.join("|", String.valueOf(response.productId()), String.valueOf(response.brandId()),
+            String.valueOf(response.priceList()), String.valueOf(response.startDate()), String.valueOf(response.endDate()),
+            String.valueOf(response.price()), response.currency());
+        return "\"" + UUID.nameUUIDFromBytes(fields.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -1,11 +1,27 @@
 package dev.kpucha.pricechecker.infrastructure.adapter.rest;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.web.bind.annotation.RestController;
 
+import dev.kpucha.pricechecker.application.dto.BulkPriceRequest;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResponse;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResult;
 import dev.kpucha.pricechecker.application.dto.PriceRequest;
+import dev.kpucha.pricechecker.application.dto.PriceTimelineRequest;
+import dev.kpucha.pricechecker.application.dto.PriceTimelineResponse;
+import dev.kpucha.pricechecker.application.dto.PriceTimelineSegment;
 import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
-import dev.kpucha.pricechecker.domain.exception.PriceNotFoundException;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceQuery;
+import dev.kpucha.pricechecker.domain.port.input.GetPriceTimelineUseCase;
 import dev.kpucha.pricechecker.domain.port.input.GetPrioritizedPriceUseCase;
+import dev.kpucha.pricechecker.infrastructure.adapter.warmup.HotPriceKeys;
+import dev.kpucha.pricechecker.infrastructure.config.PriceHttpCacheProperties;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -14,15 +30,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * REST controller for handling price-related requests.
- * Provides an endpoint to retrieve the prioritized price for a product and brand at a specific date.
+ * Provides endpoints to retrieve the prioritized price for a product and brand at a specific date
+ * or over a date range.
+ * Lookups block on the repository, so the controller is not registered on the
+ * WebFlux stack, where they would hold an event loop; ReactivePriceRestController
+ * serves prices there.
  */
 @RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class PriceRestController {
     
     /**
@@ -31,25 +59,50 @@ public class PriceRestController {
     private final GetPrioritizedPriceUseCase useCase;
 
     /**
-     * Constructs a new PriceRestController with the given use case.
+     * Use case for retrieving the price timeline.
+     */
+    private final GetPriceTimelineUseCase timelineUseCase;
+
+    /**
+     * Longest time a cacheable lookup response may be reused.
+     */
+    private final Duration maxAge;
+
+    /**
+     * Lookups of each key, preloaded at the next start, or null without a
+     * database to save them to.
+     */
+    private final HotPriceKeys hotPriceKeys;
+
+    /**
+     * Constructs a new PriceRestController with the given use cases.
      *
-     * @param useCase the use case for retrieving the prioritized price
+     * @param useCase             the use case for retrieving the prioritized price
+     * @param timelineUseCase     the use case for retrieving the price timeline
+     * @param httpCacheProperties the HTTP caching configuration of lookups
+     * @param hotPriceKeys        the lookups of each key, preloaded at the next start, if a database is in use
      */
-    public PriceRestController(GetPrioritizedPriceUseCase useCase) {
+    public PriceRestController(GetPrioritizedPriceUseCase useCase, GetPriceTimelineUseCase timelineUseCase,
+            PriceHttpCacheProperties httpCacheProperties, ObjectProvider<HotPriceKeys> hotPriceKeys) {
         this.useCase = useCase;
+        this.timelineUseCase = timelineUseCase;
+        this.maxAge = httpCacheProperties.maxAge();
+        this.hotPriceKeys = hotPriceKeys.getIfAvailable();
     }
 
     /**
      * Endpoint to retrieve the prioritized price for a product and brand at a specific date.
+     * A missing price is answered with the shared not found response, without raising an exception.
+     * Requests and responses are JSON by default, or binary with the {@code application/vnd.pricechecker+binary} media type.
      * 
      * @param request the request containing application date, product ID, and brand ID
-     * @return the prioritized price response
-     * @throws PriceNotFoundException if no applicable price is found
+     * @return the prioritized price response, or a 404 response if no applicable price is found
      */
     @Operation(summary = "Get prioritized price for product and brand at given date",
                 description = "Returns the applicable price with highest priority for a product and brand at a specific date")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Found the prioritized price"),
+        @ApiResponse(responseCode = "200", description = "Found the prioritized price",
+                     content = @Content(schema = @Schema(implementation = PrioritizedPriceResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid input parameters",
                      content = @Content(schema = @Schema(implementation = String.class),
                                         examples = @ExampleObject(value = "400 BAD_REQUEST Required request parameter 'brandId' is not present"))),
@@ -57,22 +110,155 @@ public class PriceRestController {
                      content = @Content(schema = @Schema(implementation = String.class),
                                         examples = @ExampleObject(value = "404 NOT_FOUND 'Prioritized price not found'")))
     })
-    @PostMapping(path = "/prices/prioritized", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public PrioritizedPriceResponse getPrioritizedPrice(@Valid @RequestBody PriceRequest request) {
-        var result = useCase.getPrioritizedPrice(
+    @PostMapping(path = "/prices/prioritized",
+                 consumes = {MediaType.APPLICATION_JSON_VALUE, PriceBinaryHttpMessageConverter.MEDIA_TYPE_VALUE},
+                 produces = {MediaType.APPLICATION_JSON_VALUE, PriceBinaryHttpMessageConverter.MEDIA_TYPE_VALUE})
+    public ResponseEntity<?> getPrioritizedPrice(@Valid @RequestBody PriceRequest request) {
+        recordLookup(request.productId(), request.brandId());
+        var result = useCase.findPrioritizedPrice(
             request.applicationDate(),
             request.productId(),
             request.brandId()
         );
-        return new PrioritizedPriceResponse(
-            result.productId(),
-            result.brandId(),
-            result.priceList(),
-            result.startDate(),
-            result.endDate(),
-            result.price().doubleValue(),
-            result.currency()
+        if (result.isEmpty()) {
+            return PriceControllerAdvice.priceNotFound();
+        }
+        return ResponseEntity.ok(PrioritizedPriceResponse.from(result.get()));
+    }
+
+    /**
+     * Cacheable endpoint to retrieve the prioritized price for a product and brand, at the given date or now.
+     * The response carries a strong ETag of the winning price, so that a request whose {@code If-None-Match}
+     * matches it is answered with 304 Not Modified and no body. Without a date, the price is resolved now and
+     * may be reused until the winning price ends or the next one starts, within the configured max-age.
+     *
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @param applicationDate the date to check applicability, now if absent
+     * @return the prioritized price response, or a 404 response if no applicable price is found
+     */
+    @Operation(summary = "Get prioritized price for product and brand, cacheable",
+                description = "Returns the applicable price with highest priority for a product and brand at a specific date or now, with ETag and Cache-Control headers")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Found the prioritized price",
+                     content = @Content(schema = @Schema(implementation = PrioritizedPriceResponse.class))),
+        @ApiResponse(responseCode = "304", description = "The prioritized price matches If-None-Match"),
+        @ApiResponse(responseCode = "400", description = "Invalid input parameters"),
+        @ApiResponse(responseCode = "404", description = "No applicable price found")
+    })
+    @GetMapping(path = "/prices/prioritized", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getPrioritizedPrice(@RequestParam Integer productId, @RequestParam Integer brandId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate) {
+        recordLookup(productId, brandId);
+        if (applicationDate != null) {
+            return cacheable(useCase.findPrioritizedPrice(applicationDate, productId, brandId), maxAge);
+        }
+
+        var now = LocalDateTime.now();
+        var horizon = now.plus(maxAge);
+        var segments = timelineUseCase.getPriceTimeline(productId, brandId, now, horizon, 1);
+        if (segments.isEmpty()) {
+            return cacheable(Optional.empty(), maxAge);
+        }
+        var segment = segments.get(0);
+        if (segment.from().isAfter(now)) {
+            return cacheable(Optional.empty(), Duration.between(now, segment.from()));
+        }
+        return cacheable(Optional.of(segment.price()), Duration.between(now, segment.to()));
+    }
+
+    /**
+     * Endpoint to retrieve the prioritized prices of several products and brands at once.
+     * Items without an applicable price are reported as not found instead of failing the request.
+     * Requests and responses are JSON by default, or binary with the {@code application/vnd.pricechecker+binary} media type.
+     *
+     * @param request the request containing the application date, product ID, and brand ID of each item
+     * @return the result of each item, in the same order
+     */
+    @Operation(summary = "Get prioritized prices for several products and brands",
+                description = "Returns, for each item, the applicable price with highest priority or a not found marker")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resolved every item"),
+        @ApiResponse(responseCode = "400", description = "Invalid input parameters",
+                     content = @Content(schema = @Schema(implementation = String.class),
+                                        examples = @ExampleObject(value = "400 BAD_REQUEST At least one item is required")))
+    })
+    @PostMapping(path = "/prices/prioritized/bulk",
+                 consumes = {MediaType.APPLICATION_JSON_VALUE, PriceBinaryHttpMessageConverter.MEDIA_TYPE_VALUE},
+                 produces = {MediaType.APPLICATION_JSON_VALUE, PriceBinaryHttpMessageConverter.MEDIA_TYPE_VALUE})
+    public BulkPriceResponse getPrioritizedPrices(@Valid @RequestBody BulkPriceRequest request) {
+        var queries = request.items().stream()
+            .map(item -> new PriceQuery(item.applicationDate(), item.productId(), item.brandId()))
+            .toList();
+        queries.forEach(query -> recordLookup(query.productId(), query.brandId()));
+        var prices = useCase.getPrioritizedPrices(queries);
+
+        var results = new ArrayList<BulkPriceResult>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            var query = queries.get(i);
+            var price = prices.get(i).map(PrioritizedPriceResponse::from).orElse(null);
+            results.add(new BulkPriceResult(query.applicationDate(), query.productId(), query.brandId(), price != null, price));
+        }
+        return new BulkPriceResponse(results);
+    }
+
+    /**
+     * Endpoint to retrieve the prioritized price of a product and brand over a date range.
+     * Long ranges are paged: when more segments remain, the response carries the start of the next page.
+     *
+     * @param request the request containing the product ID, brand ID, range and page size
+     * @return the segments of the range during which a price applies, with the winning price of each
+     */
+    @Operation(summary = "Get the price timeline of a product and brand over a date range",
+                description = "Returns the periods of the range during which a price applies, with the applicable price with highest priority in each")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resolved the timeline"),
+        @ApiResponse(responseCode = "400", description = "Invalid input parameters",
+                     content = @Content(schema = @Schema(implementation = String.class),
+                                        examples = @ExampleObject(value = "400 BAD_REQUEST End of the range must be after its start")))
+    })
+    @PostMapping(path = "/prices/timeline", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public PriceTimelineResponse getPriceTimeline(@Valid @RequestBody PriceTimelineRequest request) {
+        int limit = request.limitOrDefault();
+        var segments = timelineUseCase.getPriceTimeline(
+            request.productId(),
+            request.brandId(),
+            request.from(),
+            request.to(),
+            limit + 1
         );
+        var next = segments.size() > limit ? segments.get(limit).from() : null;
+        var page = segments.stream().limit(limit).map(PriceTimelineSegment::from).toList();
+        return new PriceTimelineResponse(request.productId(), request.brandId(), page, next);
+    }
+
+    /**
+     * Builds the response of a cacheable lookup. Conditional requests are
+     * answered by Spring MVC, which turns a 200 response whose ETag matches
+     * {@code If-None-Match} into a 304 response.
+     *
+     * @param price    the prioritized price, if any
+     * @param lifetime the time the response may be reused
+     * @return the lookup response with its cache headers
+     */
+    private static ResponseEntity<?> cacheable(Optional<Price> price, Duration lifetime) {
+        var cacheControl = CacheControl.maxAge(lifetime).cachePublic();
+        if (price.isEmpty()) {
+            return PriceControllerAdvice.priceNotFound(cacheControl);
+        }
+        var response = PrioritizedPriceResponse.from(price.get());
+        return ResponseEntity.ok()
+            .eTag(PriceETags.of(response))
+            .cacheControl(cacheControl)
+            .body(response);
+    }
+
+    /**
+     * Counts a lookup of the key, unless no database keeps hot keys.
+     */
+    private void recordLookup(Integer productId, Integer brandId) {
+        if (hotPriceKeys != null) {
+            hotPriceKeys.record(productId, brandId);
+        }
     }
-    
 }
@@ -0,0 +1,243 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.rest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import dev.kpucha.pricechecker.application.dto.PriceTransitionResponse;
+import dev.kpucha.pricechecker.domain.event.PriceTransitionEvent;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.PriceShards;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.ShardNotOwnerException;
+import dev.kpucha.pricechecker.infrastructure.config.PriceTransitionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * REST controller pushing price transitions to subscribers as server-sent
+ * events, so that clients learn when a price starts or ends without polling.
+ * Streams are Spring MVC emitters, so the controller is not registered on the
+ * WebFlux stack.
+ *
+ * Each subscriber has its own bounded queue of transitions, drained by its
+ * own virtual thread while it has any, so a slow client only delays itself.
+ * A subscriber whose queue is full is closed rather than allowed to hold
+ * memory; clients reconnect.
+ *
+ * With sharding, a node only schedules the keys it owns, so a subscription to
+ * a product and brand owned by another node is rejected with the node to
+ * subscribe to instead, and broader subscriptions only receive the
+ * transitions of the keys owned by this node.
+ */
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class PriceTransitionRestController implements DisposableBean {
+
+    /**
+     * Gauge of the open subscriptions.
+     */
+    public static final String SUBSCRIBERS_GAUGE = "pricechecker.transitions.subscribers";
+    /**
+     * Counter of the subscriptions closed for falling behind.
+     */
+    public static final String LAGGARDS_COUNTER = "pricechecker.transitions.laggards";
+
+    /**
+     * Open subscriptions.
+     */
+    private final Set<Subscription> subscriptions = new CopyOnWriteArraySet<>();
+
+    /**
+     * Threads sending the events, so that a slow client never delays the
+     * scheduling of the next boundaries nor the other clients.
+     */
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("price-transitions-push-", 0).factory());
+
+    /**
+     * Longest time a subscription stays open.
+     */
+    private final long timeoutMillis;
+
+    /**
+     * Number of transitions waiting to be sent to one subscriber.
+     */
+    private final int queueCapacity;
+
+    private final Counter laggards;
+
+    /**
+     * Assignment of keys to nodes, if sharding is enabled.
+     */
+    private final ObjectProvider<PriceShards> shards;
+
+    /**
+     * Constructs a new PriceTransitionRestController.
+     *
+     * @param properties    the transition configuration
+     * @param shards        the assignment of keys to nodes, if sharding is enabled
+     * @param meterRegistry the registry to publish the number of subscribers to
+     */
+    public PriceTransitionRestController(PriceTransitionProperties properties, ObjectProvider<PriceShards> shards,
+            MeterRegistry meterRegistry) {
+        this.shards = shards;
+        this.timeoutMillis = properties.subscriptionTimeout().toMillis();
+        this.queueCapacity = properties.subscriberQueue();
+        this.laggards = Counter.builder(LAGGARDS_COUNTER).register(meterRegistry);
+        Gauge.builder(SUBSCRIBERS_GAUGE, subscriptions, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * Endpoint to subscribe to the price transitions of every key, of a product
+     * or of a product and brand. Each transition is sent as a {@code price} event
+     * whose data holds the key, the instant and the new price, null when none applies.
+     * The stream is closed after the configured subscription timeout, or when the
+     * client falls too far behind; clients reconnect.
+     *
+     * @param productId the ID of the product, all products if absent
+     * @param brandId   the ID of the brand, all brands if absent
+     * @return the stream of transitions
+     * @throws ShardNotOwnerException if another node owns the given product and brand
+     */
+    @Operation(summary = "Subscribe to price transitions",
+                description = "Streams a server-sent event each time the prioritized price of a product and brand changes because a price starts or ends")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streaming the transitions"),
+        @ApiResponse(responseCode = "421", description = "Another node owns the product and brand")
+    })
+    @GetMapping(path = "/prices/transitions", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(required = false) Integer productId,
+            @RequestParam(required = false) Integer brandId) {
+        if (productId != null && brandId != null) {
+            shards.ifAvailable(priceShards -> priceShards.requireOwned(List.of(new PriceKey(brandId, productId))));
+        }
+        return subscribe(new SseEmitter(timeoutMillis), productId, brandId);
+    }
+
+    /**
+     * Sends a transition to the matching subscribers.
+     *
+     * @param event the transition
+     */
+    @EventListener
+    public void onPriceTransition(PriceTransitionEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        PriceTransitionResponse response = PriceTransitionResponse.from(event);
+        for (Subscription subscription : subscriptions) {
+            if (subscription.matches(event.key())) {
+                enqueue(subscription, response);
+            }
+        }
+    }
+
+    /**
+     * Closes the open subscriptions.
+     */
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter().complete());
+    }
+
+    /**
+     * Registers a subscription streaming to the given emitter.
+     */
+    SseEmitter subscribe(SseEmitter emitter, Integer productId, Integer brandId) {
+        Subscription subscription = new Subscription(emitter, productId, brandId, new ArrayBlockingQueue<>(queueCapacity));
+        subscriptions.add(subscription);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(error -> subscriptions.remove(subscription));
+        return emitter;
+    }
+
+    /**
+     * Queues a transition for the subscriber, starting a drain unless one is
+     * running, or closes the subscriber if its queue is full. The emitter is
+     * completed by the sender, since it may be blocked in a write.
+     */
+    private void enqueue(Subscription subscription, PriceTransitionResponse response) {
+        if (!subscription.pending().offer(response)) {
+            if (subscriptions.remove(subscription)) {
+                laggards.increment();
+                sender.execute(() -> subscription.emitter().complete());
+            }
+            return;
+        }
+        if (subscription.draining().compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscription));
+        }
+    }
+
+    /**
+     * Sends the queued transitions of the subscriber until none is left, the
+     * check after clearing the flag picking up transitions queued meanwhile.
+     */
+    private void drain(Subscription subscription) {
+        do {
+            PriceTransitionResponse response;
+            while ((response = subscription.pending().poll()) != null) {
+                if (!subscriptions.contains(subscription) || !send(subscription, response)) {
+                    return;
+                }
+            }
+            subscription.draining().set(false);
+        } while (!subscription.pending().isEmpty() && subscription.draining().compareAndSet(false, true));
+    }
+
+    private boolean send(Subscription subscription, PriceTransitionResponse response) {
+        try {
+            subscription.emitter().send(SseEmitter.event().name("price").data(response, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscriptions.remove(subscription);
+            subscription.emitter().completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * An open stream, the keys it follows and the transitions waiting to be
+     * sent to it.
+     *
+     * @param emitter   the stream of the subscriber
+     * @param productId the followed product, all if null
+     * @param brandId   the followed brand, all if null
+     * @param pending   the transitions not sent yet
+     * @param draining  whether a thread is sending the pending transitions
+     */
+    private record Subscription(SseEmitter emitter, Integer productId, Integer brandId,
+            BlockingQueue<PriceTransitionResponse> pending, AtomicBoolean draining) {
+
+        Subscription(SseEmitter emitter, Integer productId, Integer brandId, BlockingQueue<PriceTransitionResponse> pending) {
+            this(emitter, productId, brandId, pending, new AtomicBoolean());
+        }
+
+        boolean matches(PriceKey key) {
+            return (productId == null || productId.equals(key.productId()))
+                && (brandId == null || brandId.equals(key.brandId()));
+        }
+    }
+}
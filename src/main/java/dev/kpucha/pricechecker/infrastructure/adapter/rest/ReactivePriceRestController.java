@@ -0,0 +1,95 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.rest;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.kpucha.pricechecker.application.dto.BulkPriceRequest;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResult;
+import dev.kpucha.pricechecker.application.dto.PriceRequest;
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+import dev.kpucha.pricechecker.domain.model.PriceQuery;
+import dev.kpucha.pricechecker.domain.port.input.ReactiveGetPrioritizedPriceUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST controller for non-blocking price requests.
+ * Mirrors PriceRestController under {@code /reactive}, answering from R2DBC
+ * without holding a server thread while a lookup is pending. Only registered
+ * on the WebFlux stack.
+ */
+@RestController
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactivePriceRestController {
+
+    /**
+     * Use case for retrieving the prioritized price without blocking.
+     */
+    private final ReactiveGetPrioritizedPriceUseCase useCase;
+
+    /**
+     * Constructs a new ReactivePriceRestController with the given use case.
+     *
+     * @param useCase the use case for retrieving the prioritized price without blocking
+     */
+    public ReactivePriceRestController(ReactiveGetPrioritizedPriceUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    /**
+     * Endpoint to retrieve the prioritized price for a product and brand at a specific date.
+     *
+     * @param request the request containing application date, product ID, and brand ID
+     * @return the prioritized price response, or a 404 response if no applicable price is found
+     */
+    @Operation(summary = "Get prioritized price for product and brand at given date, without blocking",
+                description = "Returns the applicable price with highest priority for a product and brand at a specific date")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Found the prioritized price",
+                     content = @Content(schema = @Schema(implementation = PrioritizedPriceResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input parameters"),
+        @ApiResponse(responseCode = "404", description = "No applicable price found")
+    })
+    @PostMapping(path = "/reactive/prices/prioritized", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<?>> getPrioritizedPrice(@Valid @RequestBody PriceRequest request) {
+        return useCase.findPrioritizedPrice(request.applicationDate(), request.productId(), request.brandId())
+            .<ResponseEntity<?>>map(price -> ResponseEntity.ok(PrioritizedPriceResponse.from(price)))
+            .defaultIfEmpty(PriceControllerAdvice.priceNotFound());
+    }
+
+    /**
+     * Endpoint to retrieve the prioritized prices of several products and brands at once.
+     * Results are streamed as newline-delimited JSON in request order, each one written as soon as it
+     * and the ones before it are resolved; lookups are only started as fast as the client reads.
+     *
+     * @param request the request containing the application date, product ID, and brand ID of each item
+     * @return the result of each item, in the same order
+     */
+    @Operation(summary = "Stream prioritized prices for several products and brands",
+                description = "Streams, for each item, the applicable price with highest priority or a not found marker")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streaming the result of every item"),
+        @ApiResponse(responseCode = "400", description = "Invalid input parameters")
+    })
+    @PostMapping(path = "/reactive/prices/prioritized/bulk", consumes = MediaType.APPLICATION_JSON_VALUE,
+                 produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<BulkPriceResult> getPrioritizedPrices(@Valid @RequestBody BulkPriceRequest request) {
+        var queries = Flux.fromIterable(request.items())
+            .map(item -> new PriceQuery(item.applicationDate(), item.productId(), item.brandId()));
+        return queries.zipWith(useCase.getPrioritizedPrices(queries), (query, price) -> {
+            var response = price.map(PrioritizedPriceResponse::from).orElse(null);
+            return new BulkPriceResult(query.applicationDate(), query.productId(), query.brandId(), response != null, response);
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.rest;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+
+/**
+ * JSON message converter that records the serialization time of the price
+ * lookup responses. Other payloads, such as actuator responses, are written
+ * without being timed.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    /**
+     * Package of the response types whose serialization is timed.
+     */
+    private static final String DTO_PACKAGE = PrioritizedPriceResponse.class.getPackageName();
+
+    /**
+     * Meters receiving the serialization time.
+     */
+    private final PriceLookupMetrics metrics;
+
+    /**
+     * Constructs a new TimedJacksonHttpMessageConverter.
+     *
+     * @param objectMapper the object mapper used to write JSON
+     * @param metrics      the meters receiving the serialization time
+     */
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, PriceLookupMetrics metrics) {
+        super(objectMapper);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!object.getClass().getPackageName().equals(DTO_PACKAGE)) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            metrics.serialization().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
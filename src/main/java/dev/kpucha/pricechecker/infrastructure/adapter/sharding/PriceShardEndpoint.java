@@ -0,0 +1,65 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.sharding;
+
+import java.net.URI;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Actuator endpoint exposing the nodes serving the catalog.
+ *
+ * {@code GET /actuator/priceshards} returns the nodes and the position of this
+ * one, and {@code GET /actuator/priceshards?productId=35455&brandId=1} also
+ * returns the owner of the given key, when sharding is enabled.
+ */
+@Component
+@Endpoint(id = "priceshards")
+public class PriceShardEndpoint {
+
+    /**
+     * Assignment of keys to nodes, when sharding is enabled.
+     */
+    private final ObjectProvider<PriceShards> shards;
+
+    /**
+     * Constructs a new PriceShardEndpoint.
+     *
+     * @param shards the assignment of keys to nodes, if any
+     */
+    public PriceShardEndpoint(ObjectProvider<PriceShards> shards) {
+        this.shards = shards;
+    }
+
+    /**
+     * Returns the nodes serving the catalog and, given a key, its owner.
+     *
+     * @param productId the ID of the product, or null
+     * @param brandId   the ID of the brand, or null
+     * @return the nodes and owner, or null when sharding is not enabled
+     */
+    @ReadOperation
+    public ShardAssignment assignment(@Nullable Integer productId, @Nullable Integer brandId) {
+        PriceShards priceShards = shards.getIfAvailable();
+        if (priceShards == null) {
+            return null;
+        }
+        Integer owner = productId != null && brandId != null ? priceShards.ownerOf(new PriceKey(brandId, productId)) : null;
+        return new ShardAssignment(priceShards.nodes(), priceShards.nodeIndex(), owner);
+    }
+
+    /**
+     * Nodes serving the catalog.
+     *
+     * @param nodes     base URL of every node
+     * @param nodeIndex position of this node
+     * @param owner     position of the owner of the requested key, if any
+     */
+    public record ShardAssignment(List<URI> nodes, int nodeIndex, Integer owner) {
+    }
+}
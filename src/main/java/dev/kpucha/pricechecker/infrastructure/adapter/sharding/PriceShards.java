@@ -0,0 +1,82 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.sharding;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Assignment of brand and product keys to the nodes serving the catalog.
+ *
+ * Keys are hashed onto 32 bits and node {@code i} of {@code n} owns the
+ * contiguous range starting at {@code i * 2^32 / n}, so that every node
+ * computes the same owner for a key from the same ordered list of nodes.
+ *
+ * @param nodes     base URL of every node
+ * @param nodeIndex position of this node in {@code nodes}
+ */
+public record PriceShards(List<URI> nodes, int nodeIndex) {
+
+    /**
+     * Validates and copies the list of nodes.
+     *
+     * @param nodes     base URL of every node
+     * @param nodeIndex position of this node in {@code nodes}
+     */
+    public PriceShards {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("At least one node is required");
+        }
+        if (nodeIndex < 0 || nodeIndex >= nodes.size()) {
+            throw new IllegalArgumentException("Node index " + nodeIndex + " is not in [0, " + nodes.size() + ")");
+        }
+        nodes = List.copyOf(nodes);
+    }
+
+    /**
+     * Returns the position of the node owning the given key.
+     *
+     * @param key the brand and product key
+     * @return the position of its owner in {@link #nodes()}
+     */
+    public int ownerOf(PriceKey key) {
+        long hash = mix(((long) key.brandId() << 32) | (key.productId() & 0xFFFFFFFFL)) >>> 32;
+        return (int) ((hash * nodes.size()) >>> 32);
+    }
+
+    /**
+     * Tells whether this node owns the given key.
+     *
+     * @param key the brand and product key
+     * @return true if this node serves the key from its own index
+     */
+    public boolean owns(PriceKey key) {
+        return ownerOf(key) == nodeIndex;
+    }
+
+    /**
+     * Checks that this node owns every given key.
+     *
+     * @param keys the brand and product keys
+     * @throws ShardNotOwnerException naming the owner of the first key owned by another node
+     */
+    public void requireOwned(Collection<PriceKey> keys) {
+        for (PriceKey key : keys) {
+            int owner = ownerOf(key);
+            if (owner != nodeIndex) {
+                throw new ShardNotOwnerException(nodes.get(owner));
+            }
+        }
+    }
+
+    /**
+     * Spreads the bits of the given value, so that consecutive product IDs
+     * land on different nodes (finalizer of MurmurHash3).
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
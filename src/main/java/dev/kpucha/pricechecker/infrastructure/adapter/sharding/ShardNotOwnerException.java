@@ -0,0 +1,34 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.sharding;
+
+import java.net.URI;
+
+/**
+ * Exception thrown when a query that is only answered from local data is sent
+ * to a node that does not own its key.
+ */
+public class ShardNotOwnerException extends RuntimeException {
+
+    /**
+     * Base URL of the node owning the key.
+     */
+    private final URI owner;
+
+    /**
+     * Constructs a new ShardNotOwnerException.
+     *
+     * @param owner the base URL of the node owning the key
+     */
+    public ShardNotOwnerException(URI owner) {
+        super("Key is owned by price node " + owner);
+        this.owner = owner;
+    }
+
+    /**
+     * Returns the node the query must be sent to.
+     *
+     * @return the base URL of the node owning the key
+     */
+    public URI owner() {
+        return owner;
+    }
+}
@@ -0,0 +1,310 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.sharding;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import dev.kpucha.pricechecker.application.dto.BulkPriceRequest;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResponse;
+import dev.kpucha.pricechecker.application.dto.PriceRequest;
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+import dev.kpucha.pricechecker.domain.exception.PriceNotFoundException;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceQuery;
+import dev.kpucha.pricechecker.domain.model.PriceSegment;
+import dev.kpucha.pricechecker.domain.port.input.GetPriceTimelineUseCase;
+import dev.kpucha.pricechecker.domain.port.input.GetPrioritizedPriceUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decorator of the GetPrioritizedPriceUseCase that answers the keys owned by
+ * this node locally and forwards the others to their owner over HTTP.
+ * Timelines are answered for owned keys only: the REST API does not expose
+ * the priorities and row IDs of their prices, so a forwarded timeline could
+ * not be rebuilt exactly, and the other keys are rejected with the node to
+ * ask instead.
+ *
+ * Bulk lookups are split per owner: the share of every other node is sent to
+ * it as one bulk request, all of them in parallel, while the local share is
+ * resolved on the calling thread; results are put back in request order.
+ * Forwarded lookups are owned by the node receiving them, which answers them
+ * locally, so that a lookup is never forwarded twice.
+ *
+ * Prices answered by another node carry what the REST API exposes: their
+ * priority, ID and last update are not known here.
+ *
+ * Lookups run unrecorded, such as the startup warm-up, are left out of the
+ * routing statistics.
+ */
+public class ShardRoutingPriceService implements GetPrioritizedPriceUseCase, GetPriceTimelineUseCase, DisposableBean {
+
+    /**
+     * Counter of routed queries, tagged by route.
+     */
+    public static final String QUERIES_COUNTER = "pricechecker.sharding.queries";
+
+    /**
+     * Use case answering the keys owned by this node.
+     */
+    private final GetPrioritizedPriceUseCase local;
+
+    /**
+     * Use case answering the timelines of the keys owned by this node.
+     */
+    private final GetPriceTimelineUseCase localTimeline;
+
+    /**
+     * Assignment of keys to nodes.
+     */
+    private final PriceShards shards;
+
+    /**
+     * HTTP client shared by the REST clients of every node.
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * REST client of each node, by position.
+     */
+    private final List<RestClient> clients;
+
+    /**
+     * Threads sending the requests of a bulk lookup to the other nodes.
+     */
+    private final ExecutorService fanOutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter localQueries;
+    private final Counter remoteQueries;
+
+    /**
+     * Constructs a new ShardRoutingPriceService.
+     *
+     * @param local             the use case answering the keys owned by this node
+     * @param localTimeline     the use case answering the timelines of the keys owned by this node
+     * @param shards            the assignment of keys to nodes
+     * @param restClientBuilder the builder of the REST clients of the other nodes
+     * @param timeout           the longest time to connect to, or wait for, another node
+     * @param meterRegistry     the registry to publish routing statistics to
+     */
+    public ShardRoutingPriceService(GetPrioritizedPriceUseCase local, GetPriceTimelineUseCase localTimeline, PriceShards shards,
+            RestClient.Builder restClientBuilder, Duration timeout, MeterRegistry meterRegistry) {
+        this.local = local;
+        this.localTimeline = localTimeline;
+        this.shards = shards;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(timeout);
+        this.clients = shards.nodes().stream()
+            .map(node -> restClientBuilder.clone().baseUrl(node.toString()).requestFactory(requestFactory).build())
+            .toList();
+        this.localQueries = Counter.builder(QUERIES_COUNTER).tag("route", "local").register(meterRegistry);
+        this.remoteQueries = Counter.builder(QUERIES_COUNTER).tag("route", "remote").register(meterRegistry);
+    }
+
+    /**
+     * Retrieves the prioritized price from the node owning the given key.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority
+     * @throws PriceNotFoundException    if no applicable price is found
+     * @throws ShardUnavailableException if the owner of the key cannot answer
+     */
+    @Override
+    public Price getPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        return findPrioritizedPrice(applicationDate, productId, brandId)
+                .orElseThrow(() -> new PriceNotFoundException("No applicable price found for the given parameters"));
+    }
+
+    /**
+     * Finds the prioritized price locally when this node owns the given key,
+     * or asks its owner otherwise.
+     *
+     * @param applicationDate the date to check applicability
+     * @param productId       the ID of the product
+     * @param brandId         the ID of the brand
+     * @return the applicable price with the highest priority, or empty if no
+     *         applicable price is found
+     * @throws ShardUnavailableException if the owner of the key cannot answer
+     */
+    @Override
+    public Optional<Price> findPrioritizedPrice(LocalDateTime applicationDate, Integer productId, Integer brandId) {
+        int owner = shards.ownerOf(new PriceKey(brandId, productId));
+        if (owner == shards.nodeIndex()) {
+            count(localQueries, 1);
+            return local.findPrioritizedPrice(applicationDate, productId, brandId);
+        }
+        count(remoteQueries, 1);
+        return findRemote(owner, new PriceRequest(applicationDate, productId, brandId));
+    }
+
+    /**
+     * Retrieves the prioritized prices of the given queries, splitting them
+     * per owner and asking every other owner in parallel.
+     *
+     * @param queries the product, brand and date of each lookup
+     * @return the price of each query, in the same order, or empty if no
+     *         applicable price is found for it
+     * @throws ShardUnavailableException if the owner of some key cannot answer
+     */
+    @Override
+    public List<Optional<Price>> getPrioritizedPrices(List<PriceQuery> queries) {
+        Map<Integer, List<Integer>> positionsByOwner = new TreeMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            PriceQuery query = queries.get(i);
+            positionsByOwner.computeIfAbsent(shards.ownerOf(new PriceKey(query.brandId(), query.productId())),
+                owner -> new ArrayList<>()).add(i);
+        }
+
+        Map<Integer, CompletableFuture<List<Optional<Price>>>> remote = new HashMap<>();
+        positionsByOwner.forEach((owner, positions) -> {
+            if (owner != shards.nodeIndex()) {
+                count(remoteQueries, positions.size());
+                List<PriceQuery> share = select(queries, positions);
+                remote.put(owner, CompletableFuture.supplyAsync(() -> findRemote(owner, share), fanOutExecutor));
+            }
+        });
+
+        List<Optional<Price>> results = new ArrayList<>(Collections.nCopies(queries.size(), Optional.<Price>empty()));
+        List<Integer> localPositions = positionsByOwner.get(shards.nodeIndex());
+        if (localPositions != null) {
+            count(localQueries, localPositions.size());
+            place(results, localPositions, local.getPrioritizedPrices(select(queries, localPositions)));
+        }
+        remote.forEach((owner, future) -> place(results, positionsByOwner.get(owner), join(future)));
+        return results;
+    }
+
+    /**
+     * Retrieves the timeline of the given key when this node owns it.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     * @param from      the start of the range, inclusive
+     * @param to        the end of the range, exclusive
+     * @param limit     the maximum number of segments returned
+     * @return the first {@code limit} segments of the range
+     * @throws ShardNotOwnerException if another node owns the key
+     */
+    @Override
+    public List<PriceSegment> getPriceTimeline(Integer productId, Integer brandId, LocalDateTime from, LocalDateTime to, int limit) {
+        int owner = shards.ownerOf(new PriceKey(brandId, productId));
+        if (owner != shards.nodeIndex()) {
+            throw new ShardNotOwnerException(shards.nodes().get(owner));
+        }
+        return localTimeline.getPriceTimeline(productId, brandId, from, to, limit);
+    }
+
+    /**
+     * Stops the fan-out threads and releases the connections to the other nodes.
+     */
+    @Override
+    public void destroy() {
+        fanOutExecutor.shutdownNow();
+        httpClient.close();
+    }
+
+    private Optional<Price> findRemote(int owner, PriceRequest request) {
+        URI node = shards.nodes().get(owner);
+        try {
+            return clients.get(owner).post()
+                .uri("/prices/prioritized")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(request)
+                .exchange((clientRequest, response) -> {
+                    if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                        return Optional.<Price>empty();
+                    }
+                    if (response.getStatusCode().isError()) {
+                        throw new ShardUnavailableException(node,
+                            new IllegalStateException("Unexpected status " + response.getStatusCode()));
+                    }
+                    return Optional.of(toPrice(response.bodyTo(PrioritizedPriceResponse.class)));
+                });
+        } catch (RestClientException e) {
+            throw new ShardUnavailableException(node, e);
+        }
+    }
+
+    private List<Optional<Price>> findRemote(int owner, List<PriceQuery> queries) {
+        URI node = shards.nodes().get(owner);
+        List<Optional<Price>> prices = new ArrayList<>(queries.size());
+        for (int from = 0; from < queries.size(); from += BulkPriceRequest.MAX_ITEMS) {
+            List<PriceRequest> items = queries.subList(from, Math.min(from + BulkPriceRequest.MAX_ITEMS, queries.size()))
+                .stream()
+                .map(query -> new PriceRequest(query.applicationDate(), query.productId(), query.brandId()))
+                .toList();
+            try {
+                BulkPriceResponse response = clients.get(owner).post()
+                    .uri("/prices/prioritized/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .body(new BulkPriceRequest(items))
+                    .retrieve()
+                    .body(BulkPriceResponse.class);
+                response.results().forEach(result ->
+                    prices.add(result.found() ? Optional.of(toPrice(result.price())) : Optional.empty()));
+            } catch (RestClientException e) {
+                throw new ShardUnavailableException(node, e);
+            }
+        }
+        return prices;
+    }
+
+    private static void count(Counter counter, int queries) {
+        if (!PriceLookupMetrics.isUnrecorded()) {
+            counter.increment(queries);
+        }
+    }
+
+    private static Price toPrice(PrioritizedPriceResponse response) {
+        return new Price(response.brandId(), response.startDate(), response.endDate(), response.priceList(),
+            response.productId(), 0, BigDecimal.valueOf(response.price()), response.currency());
+    }
+
+    private static List<PriceQuery> select(List<PriceQuery> queries, List<Integer> positions) {
+        return positions.stream().map(queries::get).toList();
+    }
+
+    private static void place(List<Optional<Price>> results, List<Integer> positions, List<Optional<Price>> prices) {
+        for (int i = 0; i < positions.size(); i++) {
+            results.set(positions.get(i), prices.get(i));
+        }
+    }
+
+    private static List<Optional<Price>> join(CompletableFuture<List<Optional<Price>>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
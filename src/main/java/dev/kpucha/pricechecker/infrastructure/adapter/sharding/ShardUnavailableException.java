@@ -0,0 +1,19 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.sharding;
+
+import java.net.URI;
+
+/**
+ * Exception thrown when the node owning a key cannot answer a routed lookup.
+ */
+public class ShardUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new ShardUnavailableException.
+     *
+     * @param node  the base URL of the node that failed
+     * @param cause the failure of the call
+     */
+    public ShardUnavailableException(URI node, Throwable cause) {
+        super("Price node " + node + " is unavailable", cause);
+    }
+}
@@ -0,0 +1,58 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.transition;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Instant at which a price of a key starts or stops applying, ordered by time
+ * in the queue of the PriceTransitionScheduler.
+ *
+ * @param key the brand and product of the price
+ * @param at  the start date of a starting price, or the inclusive end date of
+ *            an ending one
+ * @param end whether the price ends at {@code at} rather than starts
+ */
+public record PriceBoundary(
+        PriceKey key,
+        LocalDateTime at,
+        boolean end) implements Delayed {
+
+    /**
+     * Returns the first instant of the new state.
+     *
+     * @return the start date of a starting price, or the instant just after
+     *         the end date of an ending one
+     */
+    public LocalDateTime effective() {
+        return end ? at.plusNanos(1) : at;
+    }
+
+    /**
+     * Returns the time left until the boundary.
+     *
+     * @param unit the unit of the result
+     * @return the delay until the boundary, negative once past
+     */
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(Duration.between(LocalDateTime.now(), effective()));
+    }
+
+    /**
+     * Orders boundaries by the first instant of their new state.
+     *
+     * @param other the boundary to compare with
+     * @return a negative value if this boundary comes first
+     */
+    @Override
+    public int compareTo(Delayed other) {
+        if (other instanceof PriceBoundary boundary) {
+            return effective().compareTo(boundary.effective());
+        }
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
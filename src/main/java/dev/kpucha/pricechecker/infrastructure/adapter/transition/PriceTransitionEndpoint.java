@@ -0,0 +1,51 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.transition;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the next scheduled price boundaries.
+ *
+ * {@code GET /actuator/pricetransitions?limit=20} returns the earliest
+ * boundaries, each with its key and instant.
+ */
+@Component
+@Endpoint(id = "pricetransitions")
+public class PriceTransitionEndpoint {
+
+    /**
+     * Default number of boundaries returned.
+     */
+    private static final int DEFAULT_LIMIT = 20;
+
+    /**
+     * Scheduler of the boundaries, when enabled.
+     */
+    private final ObjectProvider<PriceTransitionScheduler> scheduler;
+
+    /**
+     * Constructs a new PriceTransitionEndpoint.
+     *
+     * @param scheduler the scheduler of the boundaries, if enabled
+     */
+    public PriceTransitionEndpoint(ObjectProvider<PriceTransitionScheduler> scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Returns the next scheduled boundaries.
+     *
+     * @param limit the maximum number of boundaries returned, 20 if absent
+     * @return the earliest boundaries, or null when transitions are disabled
+     */
+    @ReadOperation
+    public List<PriceBoundary> upcoming(@Nullable Integer limit) {
+        PriceTransitionScheduler transitionScheduler = scheduler.getIfAvailable();
+        return transitionScheduler != null ? transitionScheduler.upcoming(limit != null ? limit : DEFAULT_LIMIT) : null;
+    }
+}
@@ -0,0 +1,320 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.transition;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.kpucha.pricechecker.domain.event.PriceTransitionEvent;
+import dev.kpucha.pricechecker.domain.event.PricesChangedEvent;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.PriceShards;
+import dev.kpucha.pricechecker.infrastructure.config.ConditionalOnPriceDatabase;
+import dev.kpucha.pricechecker.infrastructure.config.PriceTransitionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Schedules every upcoming start and end of a price and publishes a
+ * PriceTransitionEvent when the winning price of the key changes there, so
+ * that clients are pushed changes instead of polling for them.
+ *
+ * Boundaries within {@code pricechecker.transitions.horizon} are read from
+ * {@code PRICES} at startup and every {@code refresh-interval}, and kept in a
+ * DelayQueue ordered by instant. A single thread takes each boundary when it
+ * is due, resolves the winner just before and just after the boundary
+ * through the repository in use, and publishes an event only when they
+ * differ, so a price hidden by one with a higher priority pushes nothing.
+ * Events carry the start date of a starting price and the end date of an
+ * ending one, as stored in {@code PRICES}. The work done is
+ * proportional to the number of boundaries, not to the number of clients or
+ * keys. When prices change, the changed keys are handed to the same thread,
+ * which reads their boundaries again with one query per
+ * {@value #MAX_KEYS_PER_QUERY} keys, so that the thread publishing the change
+ * never waits for it. With sharding, only the keys owned by this node are
+ * scheduled.
+ */
+@Component
+@ConditionalOnPriceDatabase
+@ConditionalOnProperty(prefix = "pricechecker.transitions", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PriceTransitionScheduler implements ApplicationRunner, DisposableBean {
+
+    /**
+     * Counter of the due boundaries, tagged by outcome.
+     */
+    public static final String BOUNDARIES_COUNTER = "pricechecker.transitions.boundaries";
+    /**
+     * Gauge of the scheduled boundaries.
+     */
+    public static final String PENDING_GAUGE = "pricechecker.transitions.pending";
+
+    /**
+     * Maximum number of changed keys whose boundaries are read by one query.
+     */
+    static final int MAX_KEYS_PER_QUERY = 100;
+
+    /**
+     * Due element waking the dispatcher up to reschedule the changed keys.
+     */
+    private static final PriceBoundary RESCHEDULE = new PriceBoundary(new PriceKey(0, 0), LocalDateTime.MIN, false);
+
+    private static final String BOUNDARIES_SQL = """
+        SELECT BRAND_ID, PRODUCT_ID, START_DATE, END_DATE FROM PRICES
+        WHERE ((START_DATE > ? AND START_DATE <= ?) OR (END_DATE >= ? AND END_DATE < ?))""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceRepositoryPort priceRepositoryPort;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<PriceShards> shards;
+    private final PriceTransitionProperties properties;
+    private final Counter published;
+    private final Counter unchanged;
+    private final Counter failed;
+
+    /**
+     * Boundaries up to {@link #loadedUntil}, the earliest first.
+     */
+    private final DelayQueue<PriceBoundary> queue = new DelayQueue<>();
+
+    /**
+     * Keys written since the dispatcher last rescheduled them.
+     */
+    private final Set<PriceKey> changedKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Whether {@link #RESCHEDULE} is queued.
+     */
+    private final AtomicBoolean rescheduling = new AtomicBoolean();
+
+    /**
+     * End of the period whose boundaries are scheduled, null before startup.
+     */
+    private volatile LocalDateTime loadedUntil;
+
+    private Thread dispatcher;
+
+    /**
+     * Constructs a new PriceTransitionScheduler.
+     *
+     * @param jdbcTemplate        the template to read the boundaries with
+     * @param priceRepositoryPort the port in use, resolving the winners at each boundary
+     * @param eventPublisher      the publisher of the transitions
+     * @param shards              the assignment of keys to nodes, if sharding is enabled
+     * @param properties          the transition configuration
+     * @param meterRegistry       the registry to publish the transition metrics to
+     */
+    public PriceTransitionScheduler(JdbcTemplate jdbcTemplate, PriceRepositoryPort priceRepositoryPort,
+            ApplicationEventPublisher eventPublisher, ObjectProvider<PriceShards> shards,
+            PriceTransitionProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.priceRepositoryPort = priceRepositoryPort;
+        this.eventPublisher = eventPublisher;
+        this.shards = shards;
+        this.properties = properties;
+        this.published = Counter.builder(BOUNDARIES_COUNTER).tag("outcome", "published").register(meterRegistry);
+        this.unchanged = Counter.builder(BOUNDARIES_COUNTER).tag("outcome", "unchanged").register(meterRegistry);
+        this.failed = Counter.builder(BOUNDARIES_COUNTER).tag("outcome", "failed").register(meterRegistry);
+        Gauge.builder(PENDING_GAUGE, queue, DelayQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * Schedules the boundaries within the horizon and starts dispatching them.
+     *
+     * @param args the application arguments, not used
+     */
+    @Override
+    public synchronized void run(ApplicationArguments args) {
+        LocalDateTime now = LocalDateTime.now();
+        loadedUntil = now;
+        extend(now.plus(properties.horizon()));
+        dispatcher = Thread.ofPlatform().name("price-transitions").daemon().start(this::dispatch);
+    }
+
+    /**
+     * Schedules the boundaries between the end of the scheduled period and
+     * the horizon.
+     *
+     * @return the number of boundaries added
+     */
+    @Scheduled(fixedDelayString = "${pricechecker.transitions.refresh-interval:1h}",
+            initialDelayString = "${pricechecker.transitions.refresh-interval:1h}")
+    public synchronized int refresh() {
+        if (loadedUntil == null) {
+            return 0;
+        }
+        return extend(LocalDateTime.now().plus(properties.horizon()));
+    }
+
+    /**
+     * Hands the written keys to the dispatcher, which reschedules their
+     * boundaries.
+     *
+     * @param event the event carrying the written keys
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricesChanged(PricesChangedEvent event) {
+        if (loadedUntil == null) {
+            return;
+        }
+        Predicate<PriceKey> owned = owned();
+        event.keys().stream().filter(owned).forEach(changedKeys::add);
+        if (!changedKeys.isEmpty() && rescheduling.compareAndSet(false, true)) {
+            queue.add(RESCHEDULE);
+        }
+    }
+
+    /**
+     * Returns the next scheduled boundaries.
+     *
+     * @param limit the maximum number of boundaries returned
+     * @return the earliest boundaries, in chronological order
+     */
+    public List<PriceBoundary> upcoming(int limit) {
+        return queue.stream().filter(boundary -> !RESCHEDULE.equals(boundary)).sorted().limit(limit).toList();
+    }
+
+    /**
+     * Stops dispatching boundaries.
+     */
+    @Override
+    public void destroy() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    private int extend(LocalDateTime until) {
+        if (!until.isAfter(loadedUntil)) {
+            return 0;
+        }
+        int added = load(loadedUntil, until, "");
+        loadedUntil = until;
+        return added;
+    }
+
+    /**
+     * Schedules the boundaries after {@code from} and up to {@code until} of
+     * the prices matching the given condition.
+     */
+    private int load(LocalDateTime from, LocalDateTime until, String condition, Object... conditionArgs) {
+        Timestamp start = Timestamp.valueOf(from);
+        Timestamp end = Timestamp.valueOf(until);
+        Object[] args = new Object[4 + conditionArgs.length];
+        args[0] = start;
+        args[1] = end;
+        args[2] = start;
+        args[3] = end;
+        System.arraycopy(conditionArgs, 0, args, 4, conditionArgs.length);
+
+        Predicate<PriceKey> owned = owned();
+        int[] added = {0};
+        jdbcTemplate.query(BOUNDARIES_SQL + condition, rs -> {
+            PriceKey key = new PriceKey(rs.getInt(1), rs.getInt(2));
+            if (!owned.test(key)) {
+                return;
+            }
+            PriceBoundary starting = new PriceBoundary(key, rs.getTimestamp(3).toLocalDateTime(), false);
+            PriceBoundary ending = new PriceBoundary(key, rs.getTimestamp(4).toLocalDateTime(), true);
+            for (PriceBoundary boundary : new PriceBoundary[] {starting, ending}) {
+                LocalDateTime effective = boundary.effective();
+                if (effective.isAfter(from) && !effective.isAfter(until)) {
+                    queue.add(boundary);
+                    added[0]++;
+                }
+            }
+        }, args);
+        return added[0];
+    }
+
+    /**
+     * Replaces the boundaries of the keys written since the last call with
+     * the ones read again. Keys whose boundaries cannot be read are kept for
+     * the next change.
+     */
+    private synchronized void reschedule() {
+        rescheduling.set(false);
+        List<PriceKey> keys = new ArrayList<>();
+        for (Iterator<PriceKey> iterator = changedKeys.iterator(); iterator.hasNext();) {
+            keys.add(iterator.next());
+            iterator.remove();
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        Set<PriceKey> changed = Set.copyOf(keys);
+        queue.removeIf(boundary -> changed.contains(boundary.key()));
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_QUERY) {
+                List<PriceKey> chunk = keys.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, keys.size()));
+                load(now, loadedUntil, " AND (" + String.join(" OR ", chunk.stream().map(k -> "(BRAND_ID = ? AND PRODUCT_ID = ?)").toList()) + ")",
+                    chunk.stream().flatMap(key -> Stream.of(key.brandId(), key.productId())).toArray());
+            }
+        } catch (RuntimeException e) {
+            changedKeys.addAll(keys);
+        }
+    }
+
+    private Predicate<PriceKey> owned() {
+        PriceShards priceShards = shards.getIfAvailable();
+        return priceShards != null ? priceShards::owns : key -> true;
+    }
+
+    private void dispatch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Set<PriceBoundary> due = new LinkedHashSet<>();
+            try {
+                due.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(due);
+            if (due.remove(RESCHEDULE)) {
+                reschedule();
+            }
+            for (PriceBoundary boundary : due) {
+                try {
+                    publish(boundary);
+                } catch (RuntimeException e) {
+                    failed.increment();
+                }
+            }
+        }
+    }
+
+    private void publish(PriceBoundary boundary) {
+        PriceKey key = boundary.key();
+        LocalDateTime lastBefore = boundary.end() ? boundary.at() : boundary.at().minusNanos(1);
+        Optional<Price> before = priceRepositoryPort.findPrioritizedPrice(lastBefore, key.productId(), key.brandId());
+        Optional<Price> after = priceRepositoryPort.findPrioritizedPrice(boundary.effective(), key.productId(), key.brandId());
+        if (before.equals(after)) {
+            unchanged.increment();
+            return;
+        }
+        eventPublisher.publishEvent(new PriceTransitionEvent(key, boundary.at(), after.orElse(null)));
+        published.increment();
+    }
+}
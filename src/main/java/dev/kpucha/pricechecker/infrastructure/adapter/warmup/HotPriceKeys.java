@@ -0,0 +1,167 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.warmup;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.infrastructure.config.ConditionalOnPriceDatabase;
+import dev.kpucha.pricechecker.infrastructure.config.PriceWarmupProperties;
+
+/**
+ * Counts the lookups of each (brand, product) key served by the REST adapter
+ * and periodically saves the hottest ones to {@code HOT_PRICE_KEYS}, so that
+ * the next start can preload them.
+ *
+ * Counting is bounded by {@code pricechecker.warmup.max-tracked-keys}. After
+ * each save only the saved keys are kept, counting again from zero, so that
+ * keys that cool down make room for new ones. Every instance adds the lookups
+ * of its hottest keys since its last save to the shared table, with an update
+ * or an insert that any database runs, and keys not seen for
+ * {@code pricechecker.warmup.retention} are removed.
+ */
+@Component
+@ConditionalOnPriceDatabase
+public class HotPriceKeys implements DisposableBean {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceWarmupProperties properties;
+
+    private static final String ADD_SQL =
+        "UPDATE HOT_PRICE_KEYS SET LOOKUPS = LOOKUPS + ?, LAST_SEEN = ? WHERE BRAND_ID = ? AND PRODUCT_ID = ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO HOT_PRICE_KEYS (BRAND_ID, PRODUCT_ID, LOOKUPS, LAST_SEEN) VALUES (?, ?, ?, ?)";
+
+    /**
+     * Lookups of each key since it was last saved.
+     */
+    private final Map<PriceKey, LongAdder> lookups = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new HotPriceKeys.
+     *
+     * @param jdbcTemplate the template to read and write the hot keys with
+     * @param properties   the warm-up configuration
+     */
+    public HotPriceKeys(JdbcTemplate jdbcTemplate, PriceWarmupProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Counts a lookup of the given product and brand.
+     *
+     * @param productId the ID of the product
+     * @param brandId   the ID of the brand
+     */
+    public void record(Integer productId, Integer brandId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        PriceKey key = new PriceKey(brandId, productId);
+        LongAdder counter = lookups.get(key);
+        if (counter == null) {
+            if (lookups.size() >= properties.maxTrackedKeys()) {
+                return;
+            }
+            counter = lookups.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Adds the lookups of the hottest keys counted since the last save to the
+     * saved ones, and forgets the other keys.
+     *
+     * @return the number of saved keys
+     */
+    @Scheduled(fixedDelayString = "${pricechecker.warmup.persist-interval:1m}",
+               initialDelayString = "${pricechecker.warmup.persist-interval:1m}")
+    public synchronized int persist() {
+        if (!properties.enabled()) {
+            return 0;
+        }
+        List<Map.Entry<PriceKey, Long>> hottest = lookups.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+            .filter(entry -> entry.getValue() > 0)
+            .sorted(Map.Entry.<PriceKey, Long>comparingByValue(Comparator.reverseOrder()))
+            .limit(properties.keys())
+            .toList();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] added = jdbcTemplate.batchUpdate(ADD_SQL, hottest.stream()
+            .map(entry -> new Object[] {entry.getValue(), now, entry.getKey().brandId(), entry.getKey().productId()})
+            .toList());
+        for (int i = 0; i < hottest.size(); i++) {
+            PriceKey key = hottest.get(i).getKey();
+            if (!updated(added[i], key)) {
+                insert(key, hottest.get(i).getValue(), now);
+            }
+        }
+        jdbcTemplate.update("DELETE FROM HOT_PRICE_KEYS WHERE LAST_SEEN < ?",
+            Timestamp.valueOf(now.toLocalDateTime().minus(properties.retention())));
+
+        Set<PriceKey> saved = hottest.stream().map(Map.Entry::getKey).collect(Collectors.toSet());
+        lookups.keySet().retainAll(saved);
+        hottest.forEach(entry -> lookups.get(entry.getKey()).add(-entry.getValue()));
+        return hottest.size();
+    }
+
+    /**
+     * Tells whether the update of the given key matched its row, from the
+     * count reported by the driver, or by looking the row up when the driver
+     * ran the update without reporting how many rows it matched.
+     */
+    private boolean updated(int count, PriceKey key) {
+        if (count == Statement.SUCCESS_NO_INFO) {
+            return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM HOT_PRICE_KEYS WHERE BRAND_ID = ? AND PRODUCT_ID = ?",
+                Integer.class, key.brandId(), key.productId()) > 0;
+        }
+        return count > 0;
+    }
+
+    /**
+     * Saves a key not saved yet, or adds to it when another instance saved it
+     * in the meantime.
+     */
+    private void insert(PriceKey key, long count, Timestamp now) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, key.brandId(), key.productId(), count, now);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(ADD_SQL, count, now, key.brandId(), key.productId());
+        }
+    }
+
+    /**
+     * Returns the hottest saved keys, by all instances.
+     *
+     * @param limit the maximum number of keys returned
+     * @return the keys with the most lookups first
+     */
+    public List<PriceKey> hottest(int limit) {
+        return jdbcTemplate.query(
+            "SELECT BRAND_ID, PRODUCT_ID FROM HOT_PRICE_KEYS ORDER BY LOOKUPS DESC, LAST_SEEN DESC LIMIT ?",
+            (rs, row) -> new PriceKey(rs.getInt(1), rs.getInt(2)), limit);
+    }
+
+    /**
+     * Saves the keys counted since the last save.
+     */
+    @Override
+    public void destroy() {
+        persist();
+    }
+}
@@ -0,0 +1,204 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.warmup;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.kpucha.pricechecker.application.dto.BulkPriceRequest;
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceQuery;
+import dev.kpucha.pricechecker.domain.port.input.GetPrioritizedPriceUseCase;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import dev.kpucha.pricechecker.infrastructure.adapter.file.FilePriceAdapter;
+import dev.kpucha.pricechecker.infrastructure.adapter.rest.PriceBinaryCodec;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.PriceShards;
+import dev.kpucha.pricechecker.infrastructure.config.PriceWarmupProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+/**
+ * Warms the service up at startup, before it reports ready.
+ *
+ * The hottest keys saved by HotPriceKeys, or any keys of {@code PRICES} on a
+ * first start, or the first keys of the price file with the {@code file}
+ * profile, where there is no database, are loaded through the PriceRepositoryPort in use, which fills
+ * the cache or pages in the in-memory index or price file. Single and bulk
+ * lookups of those keys are then run and their responses serialized to JSON
+ * and to the binary format, until {@code pricechecker.warmup.lookups} lookups
+ * or {@code pricechecker.warmup.max-duration}, so that the JIT compiles the
+ * lookup and serialization paths before traffic arrives. These lookups are
+ * run through PriceLookupMetrics#unrecorded, so they do not show in the
+ * lookup metrics.
+ *
+ * Spring Boot only reports the application as accepting traffic once every
+ * ApplicationRunner has returned, and the {@code priceWarmup} health
+ * indicator of the readiness group stays out of service until then.
+ */
+@Component
+@ConditionalOnProperty(prefix = "pricechecker.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PriceWarmup implements ApplicationRunner {
+
+    /**
+     * Gauge of the time spent warming up.
+     */
+    public static final String DURATION_GAUGE = "pricechecker.warmup.duration";
+
+    /**
+     * Number of queries of each bulk lookup.
+     */
+    private static final int BULK_SIZE = 100;
+
+    private final ObjectProvider<HotPriceKeys> hotPriceKeys;
+    private final PriceRepositoryPort priceRepositoryPort;
+    private final GetPrioritizedPriceUseCase useCase;
+    private final PriceLookupMetrics metrics;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<JdbcTemplate> jdbcTemplate;
+    private final ObjectProvider<FilePriceAdapter> file;
+    private final ObjectProvider<PriceShards> shards;
+    private final PriceWarmupProperties properties;
+
+    /**
+     * Outcome of the warm-up, once completed.
+     */
+    private volatile PriceWarmupReport report;
+
+    /**
+     * Constructs a new PriceWarmup.
+     *
+     * @param hotPriceKeys        the saved hot keys, if a database is in use
+     * @param priceRepositoryPort the port in use, preloaded with the hot keys
+     * @param useCase             the use case whose lookups are warmed
+     * @param metrics             the lookup meters, left out of the warm-up
+     * @param objectMapper        the object mapper serializing JSON responses
+     * @param jdbcTemplate        the template to find keys with on a first start, if a database is in use
+     * @param file                the price file to find keys in, if the file repository is in use
+     * @param shards              the assignment of keys to nodes, if sharding is enabled
+     * @param properties          the warm-up configuration
+     * @param meterRegistry       the registry to publish the warm-up duration to
+     */
+    public PriceWarmup(ObjectProvider<HotPriceKeys> hotPriceKeys, PriceRepositoryPort priceRepositoryPort, GetPrioritizedPriceUseCase useCase,
+            PriceLookupMetrics metrics, ObjectMapper objectMapper, ObjectProvider<JdbcTemplate> jdbcTemplate,
+            ObjectProvider<FilePriceAdapter> file, ObjectProvider<PriceShards> shards,
+            PriceWarmupProperties properties, MeterRegistry meterRegistry) {
+        this.hotPriceKeys = hotPriceKeys;
+        this.priceRepositoryPort = priceRepositoryPort;
+        this.useCase = useCase;
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.file = file;
+        this.shards = shards;
+        this.properties = properties;
+        TimeGauge.builder(DURATION_GAUGE, this, TimeUnit.MILLISECONDS,
+                warmup -> warmup.report == null ? 0 : warmup.report.duration().toMillis())
+            .description("Time spent warming up at startup")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Preloads the hottest keys and runs lookups of them.
+     *
+     * @param args the application arguments, not used
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + properties.maxDuration().toNanos();
+
+        List<PriceKey> keys = keys();
+        int lookups = metrics.unrecorded(() -> warm(keys, deadline));
+
+        report = new PriceWarmupReport(keys.size(), lookups, Duration.ofNanos(System.nanoTime() - start), Instant.now());
+    }
+
+    /**
+     * Returns the outcome of the warm-up.
+     *
+     * @return the report of the completed warm-up, or null while it runs
+     */
+    public PriceWarmupReport report() {
+        return report;
+    }
+
+    /**
+     * Returns the keys to warm up: the hottest saved ones, or the first keys
+     * of the price file or of {@code PRICES} when none were saved yet, owned
+     * by this node.
+     */
+    private List<PriceKey> keys() {
+        HotPriceKeys savedKeys = hotPriceKeys.getIfAvailable();
+        List<PriceKey> keys = savedKeys != null ? savedKeys.hottest(properties.keys()) : List.of();
+        if (keys.isEmpty()) {
+            FilePriceAdapter fileAdapter = file.getIfAvailable();
+            keys = fileAdapter != null ? fileAdapter.keys(properties.keys())
+                : jdbcTemplate.getObject().query("SELECT DISTINCT BRAND_ID, PRODUCT_ID FROM PRICES LIMIT ?",
+                    (rs, row) -> new PriceKey(rs.getInt(1), rs.getInt(2)), properties.keys());
+        }
+        PriceShards priceShards = shards.getIfAvailable();
+        Predicate<PriceKey> owned = priceShards != null ? priceShards::owns : key -> true;
+        return keys.stream().filter(owned).toList();
+    }
+
+    /**
+     * Preloads the given keys and looks them up until the configured number
+     * of lookups or the deadline.
+     *
+     * @return the number of lookups run
+     */
+    private int warm(List<PriceKey> keys, long deadline) {
+        for (int from = 0; from < keys.size(); from += BulkPriceRequest.MAX_ITEMS) {
+            priceRepositoryPort.findPricesByKeys(keys.subList(from, Math.min(from + BulkPriceRequest.MAX_ITEMS, keys.size())));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int lookups = 0;
+        while (!keys.isEmpty() && lookups < properties.lookups() && System.nanoTime() < deadline) {
+            for (int i = 0; i < keys.size() && lookups < properties.lookups() && System.nanoTime() < deadline; i++) {
+                PriceKey key = keys.get(i);
+                serialize(useCase.findPrioritizedPrice(now, key.productId(), key.brandId()));
+                lookups++;
+            }
+            List<PriceQuery> queries = keys.stream()
+                .limit(BULK_SIZE)
+                .map(key -> new PriceQuery(now, key.productId(), key.brandId()))
+                .toList();
+            useCase.getPrioritizedPrices(queries).forEach(this::serialize);
+            lookups += queries.size();
+        }
+        return lookups;
+    }
+
+    private void serialize(Optional<Price> price) {
+        if (price.isEmpty()) {
+            return;
+        }
+        PrioritizedPriceResponse response = PrioritizedPriceResponse.from(price.get());
+        try {
+            objectMapper.writeValueAsBytes(response);
+            PriceBinaryCodec.write(response, new DataOutputStream(OutputStream.nullOutputStream()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
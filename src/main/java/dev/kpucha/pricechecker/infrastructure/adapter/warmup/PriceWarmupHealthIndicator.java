@@ -0,0 +1,52 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.warmup;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator of the warm-up, part of the readiness group: out of
+ * service while the warm-up runs, then up with its outcome.
+ */
+@Component
+public class PriceWarmupHealthIndicator implements HealthIndicator {
+
+    /**
+     * Warm-up run at startup, when enabled.
+     */
+    private final ObjectProvider<PriceWarmup> warmup;
+
+    /**
+     * Constructs a new PriceWarmupHealthIndicator.
+     *
+     * @param warmup the warm-up run at startup, if enabled
+     */
+    public PriceWarmupHealthIndicator(ObjectProvider<PriceWarmup> warmup) {
+        this.warmup = warmup;
+    }
+
+    /**
+     * Reports whether the warm-up has completed.
+     *
+     * @return up with the keys, lookups and duration of the warm-up once
+     *         completed or when disabled, out of service otherwise
+     */
+    @Override
+    public Health health() {
+        PriceWarmup priceWarmup = warmup.getIfAvailable();
+        if (priceWarmup == null) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        PriceWarmupReport report = priceWarmup.report();
+        if (report == null) {
+            return Health.outOfService().build();
+        }
+        return Health.up()
+            .withDetail("keys", report.keys())
+            .withDetail("lookups", report.lookups())
+            .withDetail("duration", report.duration().toString())
+            .withDetail("completedAt", report.completedAt().toString())
+            .build();
+    }
+}
@@ -0,0 +1,16 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Outcome of the warm-up run at startup.
+ *
+ * @param keys        number of keys preloaded
+ * @param lookups     number of lookups run to warm the lookup paths
+ * @param duration    time spent warming up
+ * @param completedAt when the warm-up completed
+ */
+public record PriceWarmupReport(int keys, int lookups, Duration duration, Instant completedAt) {
+
+}
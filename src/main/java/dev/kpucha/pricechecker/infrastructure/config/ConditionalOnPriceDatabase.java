@@ -0,0 +1,22 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+
+/**
+ * Registers the annotated bean only when prices are read from the database,
+ * that is with any repository type but {@code file}. The {@code file} profile
+ * leaves the datasource, Flyway and JPA out, so beans reading or writing
+ * {@code PRICES} or the other tables must not exist in that mode.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ConditionalOnExpression("'${pricechecker.repository.type:jpa}' != 'file'")
+public @interface ConditionalOnPriceDatabase {
+}
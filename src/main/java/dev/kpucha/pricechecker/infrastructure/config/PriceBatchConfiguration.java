@@ -0,0 +1,40 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.kpucha.pricechecker.application.batch.PriceBatchResolver;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import dev.kpucha.pricechecker.infrastructure.adapter.cache.CachingPriceRepositoryAdapter;
+import dev.kpucha.pricechecker.infrastructure.adapter.coalescing.CoalescingPriceRepositoryAdapter;
+
+/**
+ * Configuration of the resolution of large batches of lookups.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceBatchProperties.class)
+public class PriceBatchConfiguration {
+
+    /**
+     * Resolves batches over the adapter selected by configuration, with its
+     * own fork-join pool, shut down with the context. The decorators of
+     * PriceRepositoryConfiguration are bypassed: a batch loads each of its
+     * keys once, so caching them would only evict the keys of the serving
+     * traffic, and there are no concurrent lookups of a key to coalesce.
+     *
+     * @param priceRepositoryPorts the adapter selected by configuration and its decorators
+     * @param properties           the batch configuration
+     * @return the batch resolver
+     */
+    @Bean
+    public PriceBatchResolver priceBatchResolver(ObjectProvider<PriceRepositoryPort> priceRepositoryPorts, PriceBatchProperties properties) {
+        PriceRepositoryPort priceRepositoryPort = priceRepositoryPorts.stream()
+            .filter(port -> !(port instanceof CachingPriceRepositoryAdapter) && !(port instanceof CoalescingPriceRepositoryAdapter))
+            .findFirst()
+            .orElseThrow();
+        int parallelism = properties.parallelism() > 0 ? properties.parallelism() : Runtime.getRuntime().availableProcessors();
+        return new PriceBatchResolver(priceRepositoryPort, parallelism, properties.leafKeys(), properties.windowKeys());
+    }
+}
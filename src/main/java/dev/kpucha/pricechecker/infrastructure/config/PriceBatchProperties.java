@@ -0,0 +1,21 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the resolution of large batches of lookups.
+ *
+ * @param parallelism number of threads resolving keys, the number of processors if 0
+ * @param leafKeys    number of keys loaded with one repository call and resolved by one task
+ * @param windowKeys  number of keys resolved ahead of the output being written
+ * @param maxTuples   number of tuples above which a batch is rejected
+ */
+@ConfigurationProperties(prefix = "pricechecker.batch")
+public record PriceBatchProperties(
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("64") int leafKeys,
+        @DefaultValue("4096") int windowKeys,
+        @DefaultValue("10000000") long maxTuples) {
+
+}
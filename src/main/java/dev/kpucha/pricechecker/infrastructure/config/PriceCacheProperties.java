@@ -0,0 +1,23 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the price resolution cache.
+ *
+ * @param enabled      whether lookups go through the cache
+ * @param maximumSize  maximum number of brand and product keys kept
+ * @param ttl          time to live of keys with prices
+ * @param negativeTtl  time to live of keys without any price
+ */
+@ConfigurationProperties(prefix = "pricechecker.cache")
+public record PriceCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("30s") Duration negativeTtl) {
+
+}
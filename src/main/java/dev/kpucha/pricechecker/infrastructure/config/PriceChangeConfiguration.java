@@ -0,0 +1,15 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration of the polling of changes made to {@code PRICES}.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PriceChangeProperties.class)
+public class PriceChangeConfiguration {
+
+}
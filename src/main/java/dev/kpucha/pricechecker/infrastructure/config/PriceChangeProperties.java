@@ -0,0 +1,24 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the polling of changes made to {@code PRICES}.
+ *
+ * @param enabled      whether changes are polled
+ * @param pollInterval delay between the end of a poll and the start of the next
+ * @param overlap      how far before the high-water mark rows are read again, to
+ *                     catch transactions that committed after later ones
+ * @param consumer     name under which the high-water mark is persisted
+ */
+@ConfigurationProperties(prefix = "pricechecker.changes")
+public record PriceChangeProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("5s") Duration overlap,
+        @DefaultValue("pricechecker") String consumer) {
+
+}
@@ -0,0 +1,17 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the coalescing of concurrent lookups of the same key.
+ *
+ * @param enabled        whether uncached JPA lookups are coalesced
+ * @param maxTrackedKeys maximum number of keys whose collapsed lookups are counted
+ */
+@ConfigurationProperties(prefix = "pricechecker.coalescing")
+public record PriceCoalescingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int maxTrackedKeys) {
+
+}
@@ -0,0 +1,13 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the price file export and of the file repository.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceFileProperties.class)
+public class PriceFileConfiguration {
+
+}
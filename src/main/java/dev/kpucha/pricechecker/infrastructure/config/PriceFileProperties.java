@@ -0,0 +1,17 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the price file.
+ *
+ * @param path file written by the export and mapped by the file repository
+ */
+@ConfigurationProperties(prefix = "pricechecker.file")
+public record PriceFileProperties(
+        @DefaultValue("data/prices.bin") Path path) {
+
+}
@@ -0,0 +1,18 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the HTTP caching of price lookups.
+ *
+ * @param maxAge longest time clients and shared caches may reuse a lookup
+ *               response; shorter when the price changes sooner
+ */
+@ConfigurationProperties(prefix = "pricechecker.http-cache")
+public record PriceHttpCacheProperties(
+        @DefaultValue("60s") Duration maxAge) {
+
+}
@@ -0,0 +1,19 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the bulk price import.
+ *
+ * @param chunkSize               number of rows written per JDBC batch and transaction
+ * @param maxReportedRejections   maximum number of rejected rows detailed in the report
+ * @param lastUpdateBy            value written to {@code LAST_UPDATE_BY} for imported rows
+ */
+@ConfigurationProperties(prefix = "pricechecker.import")
+public record PriceImportProperties(
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("100") int maxReportedRejections,
+        @DefaultValue("import") String lastUpdateBy) {
+
+}
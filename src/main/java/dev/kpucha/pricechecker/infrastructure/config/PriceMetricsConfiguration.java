@@ -0,0 +1,28 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration of the lookup metrics.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceMetricsProperties.class)
+public class PriceMetricsConfiguration {
+
+    /**
+     * Meters recorded along each lookup, with result counters for the known brands.
+     *
+     * @param meterRegistry the registry to publish the meters to
+     * @param properties    the metrics configuration
+     * @return the lookup meters
+     */
+    @Bean
+    public PriceLookupMetrics priceLookupMetrics(MeterRegistry meterRegistry, PriceMetricsProperties properties) {
+        return new PriceLookupMetrics(meterRegistry, properties.knownBrands());
+    }
+}
@@ -0,0 +1,17 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the lookup metrics.
+ *
+ * @param knownBrands brands whose lookups are counted under their own tag, the others under {@code other}
+ */
+@ConfigurationProperties(prefix = "pricechecker.metrics")
+public record PriceMetricsProperties(
+        @DefaultValue("1") List<Integer> knownBrands) {
+
+}
@@ -0,0 +1,74 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import dev.kpucha.pricechecker.infrastructure.adapter.cache.CachingPriceRepositoryAdapter;
+import dev.kpucha.pricechecker.infrastructure.adapter.coalescing.CoalescingPriceRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration of the decorators applied on top of the PriceRepositoryPort
+ * adapter selected by {@code pricechecker.repository.type}.
+ */
+@Configuration
+@EnableConfigurationProperties({PriceCacheProperties.class, PriceCoalescingProperties.class})
+public class PriceRepositoryConfiguration {
+
+    /**
+     * Decorates the selected adapter with the price resolution cache. The
+     * parameter resolves to the adapter because a bean never autowires itself.
+     * Only the JPA adapter is cached: the in-memory adapter already answers from
+     * memory and publishes rebuilt snapshots asynchronously, after cache
+     * invalidation, and the materialized adapter answers with a single indexed
+     * read of segments recomputed after the same invalidation.
+     * With virtual threads enabled, cache loads run on the application task
+     * executor so that callers park on a future instead of pinning their carrier
+     * thread; otherwise they run on the calling thread.
+     *
+     * @param priceRepositoryPort the adapter selected by configuration
+     * @param properties          the cache configuration
+     * @param taskExecutor        the application task executor
+     * @param environment         the environment telling whether virtual threads are enabled
+     * @param meterRegistry       the registry to publish cache statistics to
+     * @return the caching port used by the application
+     */
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${pricechecker.cache.enabled:true} and '${pricechecker.repository.type:jpa}' == 'jpa'")
+    public CachingPriceRepositoryAdapter cachingPriceRepositoryAdapter(PriceRepositoryPort priceRepositoryPort,
+            PriceCacheProperties properties, @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor taskExecutor,
+            Environment environment, MeterRegistry meterRegistry) {
+        Executor loadExecutor = Threading.VIRTUAL.isActive(environment) ? taskExecutor : Runnable::run;
+        return new CachingPriceRepositoryAdapter(priceRepositoryPort, properties.maximumSize(), properties.ttl(),
+                properties.negativeTtl(), loadExecutor, meterRegistry);
+    }
+
+    /**
+     * Decorates the JPA adapter with request coalescing when it is not cached,
+     * so that concurrent lookups of the same key share one query. The cache
+     * already loads each key once for all concurrent callers.
+     *
+     * @param priceRepositoryPort the adapter selected by configuration
+     * @param properties          the coalescing configuration
+     * @param meterRegistry       the registry to publish coalescing statistics to
+     * @return the coalescing port used by the application
+     */
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${pricechecker.coalescing.enabled:true} and !${pricechecker.cache.enabled:true} and '${pricechecker.repository.type:jpa}' == 'jpa'")
+    public CoalescingPriceRepositoryAdapter coalescingPriceRepositoryAdapter(PriceRepositoryPort priceRepositoryPort,
+            PriceCoalescingProperties properties, MeterRegistry meterRegistry) {
+        return new CoalescingPriceRepositoryAdapter(priceRepositoryPort, properties.maxTrackedKeys(), meterRegistry);
+    }
+}
@@ -0,0 +1,57 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import dev.kpucha.pricechecker.application.dto.BulkPriceRequest;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResponse;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResult;
+import dev.kpucha.pricechecker.application.dto.PriceRequest;
+import dev.kpucha.pricechecker.application.dto.PriceTimelineRequest;
+import dev.kpucha.pricechecker.application.dto.PriceTimelineResponse;
+import dev.kpucha.pricechecker.application.dto.PriceTimelineSegment;
+import dev.kpucha.pricechecker.application.dto.PriceTransitionResponse;
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.PriceEntity;
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.PriceEntityListener;
+
+/**
+ * Runtime hints needed by an AOT-processed application or a native image,
+ * beyond those Spring infers from the bean definitions.
+ *
+ * The request and response records are bound by Jackson and introspected by
+ * springdoc, and some are only known as {@code ResponseEntity<?>} bodies or
+ * as bodies read from other nodes. The entity and its listener are
+ * instantiated by Hibernate, and the Flyway migrations are scanned on the
+ * classpath.
+ */
+public class PriceRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * Records bound from and to JSON.
+     */
+    private static final Class<?>[] BOUND_TYPES = {
+        PriceRequest.class, BulkPriceRequest.class, PrioritizedPriceResponse.class, BulkPriceResponse.class,
+        BulkPriceResult.class, PriceTimelineRequest.class, PriceTimelineResponse.class, PriceTimelineSegment.class,
+        PriceTransitionResponse.class
+    };
+
+    /**
+     * Registers reflection on the bound records and the entity, and the
+     * migrations as resources.
+     *
+     * @param hints       the hints to contribute to
+     * @param classLoader the class loader of the application
+     */
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), BOUND_TYPES);
+        hints.reflection().registerType(PriceEntity.class, MemberCategory.DECLARED_FIELDS,
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        hints.reflection().registerType(PriceEntityListener.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+            MemberCategory.INVOKE_DECLARED_METHODS);
+        hints.resources().registerPattern("db/migration/*.sql");
+    }
+}
@@ -0,0 +1,55 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.client.RestClient;
+
+import dev.kpucha.pricechecker.application.service.PriceService;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.PriceShards;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.ShardRoutingPriceService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration of the partitioning of the catalog across several nodes.
+ * Only active when {@code pricechecker.sharding.enabled} is true.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceShardingProperties.class)
+@ConditionalOnProperty(prefix = "pricechecker.sharding", name = "enabled", havingValue = "true")
+public class PriceShardingConfiguration {
+
+    /**
+     * Assigns keys to the configured nodes.
+     *
+     * @param properties the sharding configuration
+     * @return the assignment of keys to nodes
+     */
+    @Bean
+    public PriceShards priceShards(PriceShardingProperties properties) {
+        return new PriceShards(properties.nodes(), properties.nodeIndex());
+    }
+
+    /**
+     * Routes prioritized price lookups to the node owning their key, and
+     * rejects timelines of keys owned by other nodes, on top of the local
+     * price service answering the keys owned by this node.
+     *
+     * @param priceService      the local price service
+     * @param shards            the assignment of keys to nodes
+     * @param restClientBuilder the builder configured by Spring Boot, absent on the reactive stack
+     * @param properties        the sharding configuration
+     * @param meterRegistry     the registry to publish routing statistics to
+     * @return the use case used by the REST adapter
+     */
+    @Bean
+    @Primary
+    public ShardRoutingPriceService shardRoutingPriceService(PriceService priceService, PriceShards shards,
+            ObjectProvider<RestClient.Builder> restClientBuilder, PriceShardingProperties properties, MeterRegistry meterRegistry) {
+        return new ShardRoutingPriceService(priceService, priceService, shards, restClientBuilder.getIfAvailable(RestClient::builder),
+            properties.timeout(), meterRegistry);
+    }
+}
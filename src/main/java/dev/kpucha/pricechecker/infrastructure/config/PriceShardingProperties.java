@@ -0,0 +1,25 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the partitioning of the catalog across several nodes.
+ *
+ * @param enabled   whether lookups are routed to the node owning their key
+ * @param nodes     base URL of every node, in the same order on every node
+ * @param nodeIndex position of this node in {@code nodes}
+ * @param timeout   longest time to connect to, or wait for, another node
+ */
+@ConfigurationProperties(prefix = "pricechecker.sharding")
+public record PriceShardingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<URI> nodes,
+        @DefaultValue("0") int nodeIndex,
+        @DefaultValue("2s") Duration timeout) {
+
+}
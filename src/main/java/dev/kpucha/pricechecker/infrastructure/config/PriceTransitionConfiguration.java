@@ -0,0 +1,13 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the scheduling and push of price transitions.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceTransitionProperties.class)
+public class PriceTransitionConfiguration {
+
+}
@@ -0,0 +1,26 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the scheduling and push of price transitions.
+ *
+ * @param enabled             whether upcoming price boundaries are scheduled and pushed
+ * @param horizon             how far ahead boundaries are read from {@code PRICES}
+ * @param refreshInterval     delay between two reads extending the scheduled boundaries
+ * @param subscriptionTimeout longest time a subscription stays open
+ * @param subscriberQueue     transitions waiting to be sent to one subscriber
+ *                            before it is closed as too slow
+ */
+@ConfigurationProperties(prefix = "pricechecker.transitions")
+public record PriceTransitionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1d") Duration horizon,
+        @DefaultValue("1h") Duration refreshInterval,
+        @DefaultValue("30m") Duration subscriptionTimeout,
+        @DefaultValue("256") int subscriberQueue) {
+
+}
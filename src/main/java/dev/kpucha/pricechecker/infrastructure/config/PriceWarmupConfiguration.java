@@ -0,0 +1,15 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration of the recording of hot keys and of the warm-up at startup.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PriceWarmupProperties.class)
+public class PriceWarmupConfiguration {
+
+}
@@ -0,0 +1,29 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the recording of hot keys and of the warm-up run at startup.
+ *
+ * @param enabled         whether hot keys are recorded and preloaded at startup
+ * @param keys            number of hottest keys persisted and preloaded
+ * @param lookups         number of lookups run to warm the lookup and serialization paths
+ * @param maxDuration     longest time the warm-up may delay readiness
+ * @param persistInterval delay between two saves of the hot keys
+ * @param retention       how long a key not seen since is kept in the hot keys
+ * @param maxTrackedKeys  maximum number of keys counted between two saves
+ */
+@ConfigurationProperties(prefix = "pricechecker.warmup")
+public record PriceWarmupProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int keys,
+        @DefaultValue("10000") int lookups,
+        @DefaultValue("10s") Duration maxDuration,
+        @DefaultValue("1m") Duration persistInterval,
+        @DefaultValue("7d") Duration retention,
+        @DefaultValue("100000") int maxTrackedKeys) {
+
+}
@@ -0,0 +1,32 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+
+/**
+ * Configuration of the server of the {@code reactive} profile.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveServerConfiguration {
+
+    /**
+     * Serves WebFlux from Netty. Spring Boot prefers Tomcat when it is on the
+     * classpath, as it is for the Spring MVC stack, so Netty is declared here
+     * and the auto-configured Tomcat factory backs off.
+     *
+     * @param resourceFactory the event loops and connection provider shared with the reactive clients
+     * @return the Netty server factory
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(ObjectProvider<ReactorResourceFactory> resourceFactory) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        resourceFactory.ifAvailable(factory::setResourceFactory);
+        return factory;
+    }
+}
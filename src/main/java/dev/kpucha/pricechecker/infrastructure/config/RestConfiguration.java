@@ -0,0 +1,61 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+import dev.kpucha.pricechecker.infrastructure.adapter.rest.PriceBinaryHttpMessageConverter;
+import dev.kpucha.pricechecker.infrastructure.adapter.rest.TimedJacksonHttpMessageConverter;
+
+/**
+ * Configuration of the HTTP message conversion and caching of the REST adapter.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceHttpCacheProperties.class)
+public class RestConfiguration implements WebMvcConfigurer {
+
+    /**
+     * Meters receiving the serialization time.
+     */
+    private final PriceLookupMetrics metrics;
+
+    /**
+     * Constructs a new RestConfiguration.
+     *
+     * @param metrics the meters receiving the serialization time
+     */
+    public RestConfiguration(PriceLookupMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Replaces the JSON converter auto-configured by Spring Boot with one that
+     * times the serialization of price responses.
+     *
+     * @param objectMapper the object mapper configured by Spring Boot
+     * @return the JSON message converter
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, metrics);
+    }
+
+    /**
+     * Appends the binary price converter after the default ones, so that it is
+     * only used when requested and JSON stays the default.
+     *
+     * @param converters the converters configured so far
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new PriceBinaryHttpMessageConverter(metrics));
+    }
+}
@@ -0,0 +1,59 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Configuration of the {@code virtual-threads} profile.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+
+    /**
+     * Property overriding the computed size of the connection pool.
+     */
+    static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+
+    /**
+     * Sizes the connection pool one below the number of carrier threads, one
+     * per CPU, unless {@code spring.datasource.hikari.maximum-pool-size} is
+     * set. The H2 driver guards its session with synchronized blocks, which
+     * pin the carrier while a query runs, so a smaller pool leaves a carrier
+     * free for the other virtual threads; requests beyond the pool size park
+     * in Hikari without pinning. The pool keeps at least the two connections
+     * Flyway holds while migrating, so on hosts with three CPUs or fewer every
+     * carrier may still be pinned while queries run.
+     *
+     * @param environment the environment holding the datasource properties
+     * @return the post-processor sizing the pool before it starts
+     */
+    @Bean
+    public static BeanPostProcessor carrierSizedPoolPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+                    dataSource.setMaximumPoolSize(poolSize(Runtime.getRuntime().availableProcessors()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of connections leaving one carrier thread unpinned.
+     *
+     * @param processors the number of carrier threads
+     * @return one less than the carriers, at least two
+     */
+    static int poolSize(int processors) {
+        return Math.max(2, processors - 1);
+    }
+}
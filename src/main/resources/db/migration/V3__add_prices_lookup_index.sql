@@ -0,0 +1 @@
+CREATE INDEX IDX_PRICES_LOOKUP ON PRICES (PRODUCT_ID, BRAND_ID, START_DATE, END_DATE, PRIORITY);
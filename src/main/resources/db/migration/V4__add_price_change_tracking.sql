@@ -0,0 +1,17 @@
+-- Deleted prices, so that change polling can detect deletions.
+CREATE TABLE PRICES_TOMBSTONES (
+    ID BIGINT PRIMARY KEY AUTO_INCREMENT,
+    PRICE_ID BIGINT NOT NULL,
+    BRAND_ID INTEGER NOT NULL,
+    PRODUCT_ID INTEGER NOT NULL,
+    DELETED_AT TIMESTAMP NOT NULL
+);
+
+-- High-water marks of each change poller.
+CREATE TABLE PRICES_CHANGE_CURSORS (
+    CONSUMER VARCHAR(50) PRIMARY KEY,
+    LAST_UPDATE TIMESTAMP,
+    LAST_TOMBSTONE_ID BIGINT NOT NULL
+);
+
+CREATE INDEX IDX_PRICES_LAST_UPDATE ON PRICES (LAST_UPDATE);
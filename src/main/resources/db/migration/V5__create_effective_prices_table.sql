@@ -0,0 +1,18 @@
+-- Non-overlapping winning price of each (brand, product) period, derived from PRICES.
+-- FROM_DATE is inclusive and TO_DATE exclusive (null when the period never ends);
+-- nanosecond precision keeps TO_DATE exact for the inclusive END_DATE of PRICES.
+CREATE TABLE EFFECTIVE_PRICES (
+    ID BIGINT PRIMARY KEY AUTO_INCREMENT,
+    BRAND_ID INTEGER NOT NULL,
+    PRODUCT_ID INTEGER NOT NULL,
+    FROM_DATE TIMESTAMP(9) NOT NULL,
+    TO_DATE TIMESTAMP(9),
+    PRICE_LIST INTEGER NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRIORITY INTEGER NOT NULL,
+    PRICE DECIMAL(10,2) NOT NULL,
+    CURRENCY VARCHAR(3) NOT NULL
+);
+
+CREATE UNIQUE INDEX IDX_EFFECTIVE_PRICES_LOOKUP ON EFFECTIVE_PRICES (PRODUCT_ID, BRAND_ID, FROM_DATE);
@@ -0,0 +1,10 @@
+-- Most looked up (brand, product) keys, recorded at runtime and preloaded at startup.
+CREATE TABLE HOT_PRICE_KEYS (
+    BRAND_ID INTEGER NOT NULL,
+    PRODUCT_ID INTEGER NOT NULL,
+    LOOKUPS BIGINT NOT NULL,
+    LAST_SEEN TIMESTAMP NOT NULL,
+    PRIMARY KEY (BRAND_ID, PRODUCT_ID)
+);
+
+CREATE INDEX IDX_HOT_PRICE_KEYS_LOOKUPS ON HOT_PRICE_KEYS (LOOKUPS DESC);
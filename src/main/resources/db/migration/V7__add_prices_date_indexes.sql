@@ -0,0 +1,3 @@
+-- Starts and ends of prices read by date range when scheduling price transitions.
+CREATE INDEX IDX_PRICES_START_DATE ON PRICES (START_DATE);
+CREATE INDEX IDX_PRICES_END_DATE ON PRICES (END_DATE);
@@ -0,0 +1,84 @@
+package dev.kpucha.pricechecker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import dev.kpucha.pricechecker.application.dto.PriceRequest;
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.infrastructure.adapter.file.PriceFileWriter;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("file")
+class PricecheckerApplicationFileTests {
+
+	private static Path file;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ApplicationContext context;
+
+	@DynamicPropertySource
+	static void priceFile(DynamicPropertyRegistry registry) throws IOException {
+		file = Files.createTempFile("prices", ".bin");
+		try (PriceFileWriter writer = new PriceFileWriter(file)) {
+			writer.add(new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, 35455, 0,
+					new BigDecimal("35.50"), "EUR"));
+			writer.add(new Price(1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 2, 35455, 1,
+					new BigDecimal("25.45"), "EUR"));
+		}
+		registry.add("pricechecker.file.path", file::toString);
+	}
+
+	@AfterAll
+	static void deleteFile() {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Test
+	void startsWithoutDatabase() {
+		assertTrue(context.getBeansOfType(DataSource.class).isEmpty());
+		assertTrue(context.getBeansOfType(Flyway.class).isEmpty());
+		assertTrue(context.getBeansOfType(EntityManagerFactory.class).isEmpty());
+	}
+
+	@Test
+	void servesPricesFromFile() {
+		var request = new PriceRequest(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1);
+
+		var response = restTemplate.postForEntity("/prices/prioritized", request, PrioritizedPriceResponse.class);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(2, response.getBody().priceList());
+	}
+
+}
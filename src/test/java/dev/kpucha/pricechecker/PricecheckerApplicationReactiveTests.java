@@ -0,0 +1,87 @@
+package dev.kpucha.pricechecker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import dev.kpucha.pricechecker.application.dto.BulkPriceRequest;
+import dev.kpucha.pricechecker.application.dto.PriceRequest;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class PricecheckerApplicationReactiveTests {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private ReactiveWebServerApplicationContext context;
+
+	@Test
+	void runsOnNetty() {
+		assertThat(context.getWebServer()).isInstanceOf(NettyWebServer.class);
+	}
+
+	@Test
+	void leavesOutSpringMvcEndpoints() {
+		webTestClient.get().uri("/prices/transitions?brandId=1")
+				.exchange()
+				.expectStatus().isNotFound();
+
+		webTestClient.post().uri("/prices/prioritized/batch")
+				.contentType(MediaType.parseMediaType("text/csv"))
+				.bodyValue("brandId,productId,applicationDate\n1,35455,2020-06-14T10:00:00\n")
+				.exchange()
+				.expectStatus().isNotFound();
+
+		webTestClient.post().uri("/prices/prioritized")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(new PriceRequest(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1))
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	void servesPricesOnWebFlux() {
+		webTestClient.post().uri("/reactive/prices/prioritized")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(new PriceRequest(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1))
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody().jsonPath("$.priceList").isEqualTo(2);
+
+		webTestClient.post().uri("/reactive/prices/prioritized")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(new PriceRequest(LocalDateTime.of(2020, 6, 13, 16, 0), 35455, 1))
+				.exchange()
+				.expectStatus().isNotFound();
+
+		var lines = webTestClient.post().uri("/reactive/prices/prioritized/bulk")
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_NDJSON)
+				.bodyValue(new BulkPriceRequest(List.of(
+						new PriceRequest(LocalDateTime.of(2020, 6, 14, 10, 0), 35455, 1),
+						new PriceRequest(LocalDateTime.of(2020, 6, 16, 22, 0), 35455, 1),
+						new PriceRequest(LocalDateTime.of(2020, 6, 14, 10, 0), 12345, 1))))
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.expectBody(String.class).returnResult().getResponseBody().lines().toList();
+
+		assertThat(lines).hasSize(3);
+		assertThat(lines.get(1)).contains("\"priceList\":4");
+		assertThat(lines.get(2)).contains("\"found\":false");
+	}
+
+}
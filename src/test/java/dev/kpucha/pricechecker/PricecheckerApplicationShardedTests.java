@@ -0,0 +1,250 @@
+package dev.kpucha.pricechecker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.infrastructure.adapter.memory.InMemoryPriceAdapter;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.PriceShards;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.ShardRoutingPriceService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs several nodes, each with its own Spring context and port, serving a
+ * sharded in-memory catalog backed by the shared test database.
+ */
+class PricecheckerApplicationShardedTests {
+
+	private static final int NODES = 3;
+	private static final int FIRST_PRODUCT_ID = 92000;
+	private static final int PRODUCTS = 90;
+	private static final int CURRENT_PRODUCT_ID = FIRST_PRODUCT_ID + PRODUCTS + 1;
+
+	private static final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+	private static final List<String> baseUrls = new ArrayList<>();
+
+	@BeforeAll
+	static void startNodes() throws IOException {
+		for (int i = 0; i < NODES; i++) {
+			try (ServerSocket socket = new ServerSocket(0)) {
+				baseUrls.add("http://localhost:" + socket.getLocalPort());
+			}
+		}
+		for (int i = 0; i < NODES; i++) {
+			nodes.add(new SpringApplicationBuilder(PricecheckerApplication.class).run(
+					"--server.port=" + baseUrls.get(i).substring(baseUrls.get(i).lastIndexOf(':') + 1),
+					"--pricechecker.repository.type=memory",
+					"--pricechecker.changes.enabled=false",
+					"--pricechecker.sharding.enabled=true",
+					"--pricechecker.sharding.nodes=" + String.join(",", baseUrls),
+					"--pricechecker.sharding.node-index=" + i,
+					"--pricechecker.batch.max-tuples=2",
+					"--spring.jpa.show-sql=false"));
+		}
+
+		JdbcTemplate jdbcTemplate = nodes.get(0).getBean(JdbcTemplate.class);
+		for (int i = 0; i < PRODUCTS; i++) {
+			jdbcTemplate.update("""
+					INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY)
+					VALUES (1, TIMESTAMP '2020-01-01 00:00:00', TIMESTAMP '2020-12-31 23:59:59', ?, ?, 0, ?, 'EUR')""",
+					i, FIRST_PRODUCT_ID + i, i + 0.5);
+		}
+		jdbcTemplate.update("""
+				INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY)
+				VALUES (1, TIMESTAMP '2020-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 1, ?, 0, 9.99, 'EUR')""",
+				CURRENT_PRODUCT_ID);
+		for (ConfigurableApplicationContext node : nodes) {
+			node.getBean(InMemoryPriceAdapter.class).reload().join();
+		}
+	}
+
+	@AfterAll
+	static void stopNodes() {
+		if (!nodes.isEmpty()) {
+			nodes.get(0).getBean(JdbcTemplate.class).update("DELETE FROM PRICES WHERE PRODUCT_ID BETWEEN ? AND ?",
+					FIRST_PRODUCT_ID, CURRENT_PRODUCT_ID);
+		}
+		nodes.forEach(ConfigurableApplicationContext::close);
+	}
+
+	@Test
+	void eachNodeHoldsOnlyItsShareOfTheCatalog() {
+		List<PriceKey> keys = nodes.get(0).getBean(JdbcTemplate.class).query(
+				"SELECT DISTINCT BRAND_ID, PRODUCT_ID FROM PRICES",
+				(rs, rowNum) -> new PriceKey(rs.getInt("BRAND_ID"), rs.getInt("PRODUCT_ID")));
+
+		int held = 0;
+		for (ConfigurableApplicationContext node : nodes) {
+			PriceShards shards = node.getBean(PriceShards.class);
+			int owned = (int) keys.stream().filter(shards::owns).count();
+			int nodeKeys = node.getBean(InMemoryPriceAdapter.class).stats().keys();
+			assertEquals(owned, nodeKeys);
+			assertTrue(nodeKeys < keys.size());
+			held += nodeKeys;
+		}
+		assertEquals(keys.size(), held);
+	}
+
+	@Test
+	void anyNodeAnswersEveryKey() {
+		for (String baseUrl : baseUrls) {
+			RestClient client = RestClient.create(baseUrl);
+			StringJoiner items = new StringJoiner(",", "{\"items\":[", "]}");
+			for (int i = 0; i < PRODUCTS; i++) {
+				items.add("{\"applicationDate\":\"2020-06-14T10:00:00\",\"productId\":" + (FIRST_PRODUCT_ID + i) + ",\"brandId\":1}");
+			}
+			items.add("{\"applicationDate\":\"2020-06-14T10:00:00\",\"productId\":" + (FIRST_PRODUCT_ID + PRODUCTS) + ",\"brandId\":1}");
+
+			JsonNode results = client.post().uri("/prices/prioritized/bulk")
+					.contentType(MediaType.APPLICATION_JSON)
+					.body(items.toString())
+					.retrieve()
+					.body(JsonNode.class)
+					.get("results");
+
+			assertEquals(PRODUCTS + 1, results.size());
+			for (int i = 0; i < PRODUCTS; i++) {
+				assertEquals(FIRST_PRODUCT_ID + i, results.get(i).get("productId").asInt());
+				assertEquals(i + 0.5, results.get(i).get("price").get("price").asDouble());
+			}
+			assertFalse(results.get(PRODUCTS).get("found").asBoolean());
+
+			JsonNode single = client.post().uri("/prices/prioritized")
+					.contentType(MediaType.APPLICATION_JSON)
+					.body("{\"applicationDate\":\"2020-06-14T10:00:00\",\"productId\":35455,\"brandId\":1}")
+					.retrieve()
+					.body(JsonNode.class);
+			assertEquals(35.50, single.get("price").asDouble());
+		}
+
+		for (ConfigurableApplicationContext node : nodes) {
+			double remote = node.getBean(MeterRegistry.class).get(ShardRoutingPriceService.QUERIES_COUNTER)
+					.tag("route", "remote").counter().count();
+			assertTrue(remote > 0);
+		}
+	}
+
+	@Test
+	void everyNodeTagsAPriceAlike() {
+		List<ResponseEntity<String>> responses = new ArrayList<>();
+		for (String baseUrl : baseUrls) {
+			responses.add(RestClient.create(baseUrl).get()
+					.uri("/prices/prioritized?productId=35455&brandId=1&applicationDate=2020-06-14T16:00:00")
+					.retrieve()
+					.toEntity(String.class));
+		}
+
+		String eTag = responses.get(0).getHeaders().getETag();
+		for (ResponseEntity<String> response : responses) {
+			assertEquals(eTag, response.getHeaders().getETag());
+			assertEquals(responses.get(0).getHeaders().getCacheControl(), response.getHeaders().getCacheControl());
+		}
+		for (String baseUrl : baseUrls) {
+			ResponseEntity<Void> revalidated = RestClient.create(baseUrl).get()
+					.uri("/prices/prioritized?productId=35455&brandId=1&applicationDate=2020-06-14T16:00:00")
+					.header("If-None-Match", eTag)
+					.retrieve()
+					.toBodilessEntity();
+			assertEquals(304, revalidated.getStatusCode().value());
+		}
+	}
+
+	@Test
+	void onlyTheOwnerAnswersLocalQueries() {
+		PriceKey key = new PriceKey(1, CURRENT_PRODUCT_ID);
+		int owner = nodes.get(0).getBean(PriceShards.class).ownerOf(key);
+		for (int i = 0; i < NODES; i++) {
+			RestClient client = RestClient.create(baseUrls.get(i));
+			ResponseEntity<JsonNode> current = client.get()
+					.uri("/prices/prioritized?productId={productId}&brandId=1", CURRENT_PRODUCT_ID)
+					.exchange((request, response) -> ResponseEntity.status(response.getStatusCode())
+							.headers(response.getHeaders()).body(response.bodyTo(JsonNode.class)));
+			ResponseEntity<JsonNode> timeline = client.post().uri("/prices/timeline")
+					.contentType(MediaType.APPLICATION_JSON)
+					.body("{\"productId\":" + CURRENT_PRODUCT_ID + ",\"brandId\":1,"
+							+ "\"from\":\"2020-06-01T00:00:00\",\"to\":\"2020-07-01T00:00:00\"}")
+					.exchange((request, response) -> ResponseEntity.status(response.getStatusCode())
+							.body(response.bodyTo(JsonNode.class)));
+
+			if (i == owner) {
+				assertEquals(200, current.getStatusCode().value());
+				assertEquals(9.99, current.getBody().get("price").asDouble());
+				assertTrue(current.getHeaders().getCacheControl().contains("public"));
+				assertEquals(200, timeline.getStatusCode().value());
+				assertEquals(1, timeline.getBody().get("segments").size());
+			} else {
+				assertEquals(421, current.getStatusCode().value());
+				assertEquals(baseUrls.get(owner), current.getBody().get("owner").asText());
+				assertEquals("no-store", current.getHeaders().getCacheControl());
+				assertEquals(421, timeline.getStatusCode().value());
+			}
+		}
+	}
+
+	@Test
+	void onlyTheOwnerResolvesBatches() {
+		PriceKey key = new PriceKey(1, CURRENT_PRODUCT_ID);
+		int owner = nodes.get(0).getBean(PriceShards.class).ownerOf(key);
+		String tuple = CURRENT_PRODUCT_ID + ",1,2020-06-14T10:00:00\n";
+		for (int i = 0; i < NODES; i++) {
+			ResponseEntity<String> batch = postBatch(baseUrls.get(i), tuple + tuple);
+
+			if (i == owner) {
+				assertEquals(200, batch.getStatusCode().value());
+				assertEquals(3, batch.getBody().lines().count());
+				assertTrue(batch.getBody().endsWith(CURRENT_PRODUCT_ID + ",1,2020-06-14T10:00:00,1,9.99,EUR\n"));
+				assertEquals(413, postBatch(baseUrls.get(i), tuple + tuple + tuple).getStatusCode().value());
+			} else {
+				assertEquals(421, batch.getStatusCode().value());
+				assertTrue(batch.getBody().contains(baseUrls.get(owner)));
+			}
+		}
+	}
+
+	@Test
+	void onlyTheOwnerStreamsTransitionsOfAKey() {
+		PriceKey key = new PriceKey(1, CURRENT_PRODUCT_ID);
+		int owner = nodes.get(0).getBean(PriceShards.class).ownerOf(key);
+		for (int i = 0; i < NODES; i++) {
+			if (i == owner) {
+				continue;
+			}
+			ResponseEntity<String> subscription = RestClient.create(baseUrls.get(i)).get()
+					.uri("/prices/transitions?productId={productId}&brandId=1", CURRENT_PRODUCT_ID)
+					.accept(MediaType.TEXT_EVENT_STREAM)
+					.exchange((request, response) -> ResponseEntity.status(response.getStatusCode())
+							.body(response.bodyTo(String.class)));
+
+			assertEquals(421, subscription.getStatusCode().value());
+			assertTrue(subscription.getBody().contains(baseUrls.get(owner)));
+		}
+	}
+
+	private static ResponseEntity<String> postBatch(String baseUrl, String tuples) {
+		return RestClient.create(baseUrl).post().uri("/prices/prioritized/batch")
+				.contentType(MediaType.parseMediaType("text/csv"))
+				.body(tuples)
+				.exchange((request, response) -> ResponseEntity.status(response.getStatusCode())
+						.body(response.bodyTo(String.class)));
+	}
+
+}
@@ -1,13 +1,48 @@
 package dev.kpucha.pricechecker;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import dev.kpucha.pricechecker.application.batch.PriceBatch;
+import dev.kpucha.pricechecker.application.batch.PriceBatchResolver;
+import dev.kpucha.pricechecker.infrastructure.adapter.batch.PriceBatchCsv;
+import dev.kpucha.pricechecker.infrastructure.adapter.cache.CachingPriceRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 @SpringBootTest
 class PricecheckerApplicationTests {
 
+	@Autowired
+	private PriceBatchResolver priceBatchResolver;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void batchesBypassTheCache() throws Exception {
+		double gets = cacheGets();
+		PriceBatch batch = new PriceBatch();
+		batch.add(35455, 1, LocalDateTime.of(2020, 6, 14, 16, 0));
+		batch.add(35455, 1, LocalDateTime.of(2020, 6, 15, 10, 0));
+
+		assertEquals(2, priceBatchResolver.resolve(batch, PriceBatchCsv.FORMATTER, OutputStream.nullOutputStream()).tuples());
+		assertEquals(gets, cacheGets());
+	}
+
+	private double cacheGets() {
+		return meterRegistry.get("cache.gets").tag("cache", CachingPriceRepositoryAdapter.CACHE_NAME).functionCounters().stream()
+				.mapToDouble(counter -> counter.count())
+				.sum();
+	}
+
 }
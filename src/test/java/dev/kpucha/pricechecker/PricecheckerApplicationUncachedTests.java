@@ -0,0 +1,31 @@
+package dev.kpucha.pricechecker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import dev.kpucha.pricechecker.domain.port.input.GetPrioritizedPriceUseCase;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import dev.kpucha.pricechecker.infrastructure.adapter.coalescing.CoalescingPriceRepositoryAdapter;
+
+@SpringBootTest(properties = "pricechecker.cache.enabled=false")
+class PricecheckerApplicationUncachedTests {
+
+	@Autowired
+	private PriceRepositoryPort priceRepositoryPort;
+
+	@Autowired
+	private GetPrioritizedPriceUseCase useCase;
+
+	@Test
+	void coalescesLookupsWithoutCache() {
+		assertInstanceOf(CoalescingPriceRepositoryAdapter.class, priceRepositoryPort);
+		assertEquals(2, useCase.getPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1).priceList());
+	}
+
+}
@@ -0,0 +1,45 @@
+package dev.kpucha.pricechecker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import dev.kpucha.pricechecker.application.dto.PriceRequest;
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual-threads")
+class PricecheckerApplicationVirtualThreadsTests {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private HikariDataSource dataSource;
+
+	@Test
+	void servesPricesOnVirtualThreads() {
+		var request = new PriceRequest(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1);
+
+		var response = restTemplate.postForEntity("/prices/prioritized", request, PrioritizedPriceResponse.class);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(2, response.getBody().priceList());
+	}
+
+	@Test
+	void sizesThePoolFromTheCarriers() {
+		assertEquals(Math.max(2, Runtime.getRuntime().availableProcessors() - 1), dataSource.getMaximumPoolSize());
+	}
+
+}
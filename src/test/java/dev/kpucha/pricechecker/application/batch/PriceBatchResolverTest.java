@@ -0,0 +1,136 @@
+package dev.kpucha.pricechecker.application.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceTimeline;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+
+/**
+ * Unit tests for the PriceBatchResolver class.
+ * Tests that the sweep over sorted dates resolves the same winner as a lookup
+ * per tuple, in key and date order, whatever the parallelism.
+ */
+public class PriceBatchResolverTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    /**
+     * Formats a tuple with the price list of its winner.
+     */
+    private static final PriceBatchFormatter FORMATTER = (output, key, applicationDate, price) -> output
+        .append(key.brandId()).append(',').append(key.productId()).append(',').append(applicationDate)
+        .append(',').append(price != null ? price.priceList() : "-").append('\n');
+
+    /**
+     * Tests random batches against a lookup per tuple, with windows and leaves
+     * smaller than the batch so that several of each are resolved.
+     * Verifies that each key is loaded once and that the output is ordered.
+     */
+    @Test
+    void test_resolve_withRandomBatch_matchesLookupPerTuple() throws Exception {
+        Random random = new Random(11);
+        Map<PriceKey, List<Price>> catalog = new HashMap<>();
+        for (int brandId = 1; brandId <= 3; brandId++) {
+            for (int productId = 1; productId <= 40; productId++) {
+                catalog.put(new PriceKey(brandId, productId), randomPrices(random, brandId, productId));
+            }
+        }
+        AtomicInteger loadedKeys = new AtomicInteger();
+        PriceRepositoryPort port = new PriceRepositoryPort() {
+            @Override
+            public List<Price> findPricesByProductIdAndBrandId(Integer productId, Integer brandId) {
+                loadedKeys.incrementAndGet();
+                return catalog.getOrDefault(new PriceKey(brandId, productId), List.of());
+            }
+        };
+
+        PriceBatch batch = new PriceBatch();
+        List<String> expected = new ArrayList<>();
+        List<Object[]> tuples = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int brandId = 1 + random.nextInt(3);
+            int productId = 1 + random.nextInt(45);
+            LocalDateTime date = ORIGIN.plusMinutes(random.nextInt(400 * 24 * 60)).plusNanos(random.nextInt(2) * 500);
+            batch.add(productId, brandId, date);
+            tuples.add(new Object[] {brandId, productId, date});
+            Integer priceList = PriceTimeline.resolve(catalog.getOrDefault(new PriceKey(brandId, productId), List.of()), date)
+                .map(Price::priceList).orElse(null);
+            expected.add(brandId + "," + productId + "," + date + "," + (priceList != null ? priceList : "-"));
+        }
+        tuples.sort(Comparator.<Object[], Integer>comparing(t -> (Integer) t[0])
+            .thenComparing(t -> (Integer) t[1]).thenComparing(t -> (LocalDateTime) t[2]));
+
+        for (int parallelism : new int[] {1, 4}) {
+            loadedKeys.set(0);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            PriceBatchReport report;
+            try (PriceBatchResolver resolver = new PriceBatchResolver(port, parallelism, 5, 16)) {
+                report = resolver.resolve(batch, FORMATTER, output);
+            }
+
+            List<String> lines = List.of(output.toString(StandardCharsets.UTF_8).split("\n"));
+            assertEquals(5000, report.tuples());
+            assertEquals(batch.keys(), report.keys());
+            assertEquals(batch.keys(), loadedKeys.get());
+            assertEquals(expected.stream().filter(line -> !line.endsWith(",-")).count(), report.found());
+            assertEquals(expected.stream().sorted().toList(), lines.stream().sorted().toList());
+            assertEquals(tuples.stream().map(t -> t[0] + "," + t[1] + "," + t[2]).toList(),
+                lines.stream().map(line -> line.substring(0, line.lastIndexOf(','))).toList());
+        }
+    }
+
+    /**
+     * Tests an empty batch.
+     * Verifies that nothing is written.
+     */
+    @Test
+    void test_resolve_withEmptyBatch_writesNothing() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (PriceBatchResolver resolver = new PriceBatchResolver((productId, brandId) -> List.of(), 2, 4, 8)) {
+            PriceBatchReport report = resolver.resolve(new PriceBatch(), FORMATTER, output);
+
+            assertEquals(0, report.tuples());
+            assertEquals(0, output.size());
+        }
+    }
+
+    /**
+     * Tests a date that does not fit the encoding of the batch.
+     * Verifies that it is rejected when added.
+     */
+    @Test
+    void test_add_withDateOutOfRange_throwsIllegalArgument() {
+        PriceBatch batch = new PriceBatch();
+
+        assertThrows(IllegalArgumentException.class, () -> batch.add(1, 1, LocalDateTime.of(3000, 1, 1, 0, 0)));
+    }
+
+    private static List<Price> randomPrices(Random random, int brandId, int productId) {
+        List<Price> prices = new ArrayList<>();
+        int count = random.nextInt(6);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = ORIGIN.plusDays(random.nextInt(360));
+            LocalDateTime end = i == 0 ? LocalDateTime.of(9999, 12, 31, 23, 59, 59) : start.plusHours(1 + random.nextInt(2000));
+            prices.add(new Price(brandId, start, end, i + 1, productId, random.nextInt(3),
+                BigDecimal.valueOf(10 + i), "EUR"));
+        }
+        return prices;
+    }
+}
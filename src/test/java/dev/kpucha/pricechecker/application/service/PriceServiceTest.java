@@ -3,19 +3,30 @@ package dev.kpucha.pricechecker.application.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
 import dev.kpucha.pricechecker.domain.exception.PriceNotFoundException;
 import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceQuery;
 import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Unit tests for the PriceService class.
@@ -31,6 +42,14 @@ public class PriceServiceTest {
      * Service under test that retrieves the prioritized price.
      */
     private PriceService priceService;
+    /**
+     * Registry receiving the lookup metrics.
+     */
+    private SimpleMeterRegistry meterRegistry;
+    /**
+     * Meters recorded by the service under test.
+     */
+    private PriceLookupMetrics metrics;
 
     /**
      * Sets up the test environment before each test.
@@ -38,8 +57,10 @@ public class PriceServiceTest {
      */
     @BeforeEach
     void setUp() {
-        priceRepositoryPort = mock(PriceRepositoryPort.class);
-        priceService = new PriceService(priceRepositoryPort);
+        priceRepositoryPort = mock(PriceRepositoryPort.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new PriceLookupMetrics(meterRegistry, List.of(1));
+        priceService = new PriceService(priceRepositoryPort, metrics);
     }
 
     /**
@@ -118,4 +139,111 @@ public class PriceServiceTest {
         });
     }
 
+    /**
+     * Tests the lookup of a prioritized price when there are no matching prices.
+     * Verifies that an empty result is returned instead of an exception.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenNoMatches_returnsEmpty() {
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 5, 14, 10, 0);
+
+        List<Price> prices = List.of(
+                new Price(1,
+                        LocalDateTime.of(2020, 6, 14, 0, 0),
+                        LocalDateTime.of(2020, 12, 31, 23, 59),
+                        1, 35455, 0,
+                        BigDecimal.valueOf(35.50), "EUR"));
+
+        when(priceRepositoryPort.findPricesByProductIdAndBrandId(35455, 1)).thenReturn(prices);
+
+        assertTrue(priceService.findPrioritizedPrice(applicationDate, 35455, 1).isEmpty());
+    }
+
+    /**
+     * Tests the metering of single lookups of a known and of an unknown brand.
+     * Verifies that the resolve stage and the applicable rows are recorded and
+     * that unknown brands share the other tag instead of creating series.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenUnknownBrand_countsUnderOtherBrand() {
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+        doReturn(Optional.of(new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59),
+                        1, 35455, 0, BigDecimal.valueOf(35.50), "EUR")))
+                .when(priceRepositoryPort).findPrioritizedPrice(applicationDate, 35455, 1);
+        doReturn(Optional.empty()).when(priceRepositoryPort).findPrioritizedPrice(applicationDate, 35455, 777);
+
+        priceService.findPrioritizedPrice(applicationDate, 35455, 1);
+        priceService.findPrioritizedPrice(applicationDate, 35455, 777);
+
+        assertEquals(2, meterRegistry.get(PriceLookupMetrics.STAGE_TIMER).tag("stage", "resolve").timer().count());
+        assertEquals(2, meterRegistry.get(PriceLookupMetrics.APPLICABLE_SUMMARY).summary().count());
+        assertEquals(1, meterRegistry.get(PriceLookupMetrics.RESULTS_COUNTER).tags("brand", "1", "result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get(PriceLookupMetrics.RESULTS_COUNTER)
+                .tags("brand", PriceLookupMetrics.OTHER_BRAND, "result", "miss").counter().count());
+        assertTrue(meterRegistry.find(PriceLookupMetrics.RESULTS_COUNTER).tag("brand", "777").counters().isEmpty());
+    }
+
+    /**
+     * Tests lookups run without publishing their meters, as the warm-up does.
+     * Verifies that the published meters are left untouched, and recorded
+     * again once the lookups return.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenUnrecorded_leavesMetersUntouched() {
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+        doReturn(Optional.empty()).when(priceRepositoryPort).findPrioritizedPrice(applicationDate, 35455, 1);
+
+        metrics.unrecorded(() -> priceService.findPrioritizedPrice(applicationDate, 35455, 1));
+
+        assertEquals(0, meterRegistry.get(PriceLookupMetrics.STAGE_TIMER).tag("stage", "resolve").timer().count());
+        assertEquals(0, meterRegistry.get(PriceLookupMetrics.RESULTS_COUNTER).tags("brand", "1", "result", "miss").counter().count());
+
+        priceService.findPrioritizedPrice(applicationDate, 35455, 1);
+
+        assertEquals(1, meterRegistry.get(PriceLookupMetrics.STAGE_TIMER).tag("stage", "resolve").timer().count());
+    }
+
+    /**
+     * Tests the bulk retrieval of prioritized prices.
+     * Verifies that queries are grouped by key, that misses are reported as empty results
+     * and that applicable rows and outcomes are metered.
+     */
+    @Test
+    void test_getPrioritizedPrices_whenMixedHitsAndMisses_returnsResultPerQuery() {
+        List<Price> prices = List.of(
+                new Price(1,
+                        LocalDateTime.of(2020, 6, 14, 0, 0),
+                        LocalDateTime.of(2020, 12, 31, 23, 59),
+                        1, 35455, 0,
+                        BigDecimal.valueOf(35.50), "EUR"),
+
+                new Price(1,
+                        LocalDateTime.of(2020, 6, 14, 15, 0),
+                        LocalDateTime.of(2020, 6, 14, 18, 30),
+                        2, 35455, 1,
+                        BigDecimal.valueOf(25.45), "EUR"));
+
+        PriceKey key = new PriceKey(1, 35455);
+        PriceKey unknownKey = new PriceKey(1, 99999);
+        when(priceRepositoryPort.findPricesByKeys(Set.of(key, unknownKey)))
+                .thenReturn(Map.of(key, prices, unknownKey, List.of()));
+
+        List<Optional<Price>> results = priceService.getPrioritizedPrices(List.of(
+                new PriceQuery(LocalDateTime.of(2020, 6, 14, 10, 0), 35455, 1),
+                new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1),
+                new PriceQuery(LocalDateTime.of(2020, 5, 14, 10, 0), 35455, 1),
+                new PriceQuery(LocalDateTime.of(2020, 6, 14, 10, 0), 99999, 1)));
+
+        assertEquals(4, results.size());
+        assertEquals(1, results.get(0).orElseThrow().priceList());
+        assertEquals(2, results.get(1).orElseThrow().priceList());
+        assertTrue(results.get(2).isEmpty());
+        assertTrue(results.get(3).isEmpty());
+
+        assertEquals(4, meterRegistry.get(PriceLookupMetrics.APPLICABLE_SUMMARY).summary().count());
+        assertEquals(3, meterRegistry.get(PriceLookupMetrics.APPLICABLE_SUMMARY).summary().totalAmount());
+        assertEquals(2, meterRegistry.get(PriceLookupMetrics.RESULTS_COUNTER).tags("brand", "1", "result", "miss").counter().count());
+    }
+
 }
@@ -0,0 +1,113 @@
+package dev.kpucha.pricechecker.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceQuery;
+import dev.kpucha.pricechecker.domain.port.output.ReactivePriceRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for the ReactivePriceService class.
+ * Tests the non-blocking retrieval of prioritized prices, alone and in bulk.
+ */
+public class ReactivePriceServiceTest {
+
+    /**
+     * Prices for product 35455 and brand 1.
+     */
+    private static final Flux<Price> PRICES = Flux.just(
+            new Price(1,
+                    LocalDateTime.of(2020, 6, 14, 0, 0),
+                    LocalDateTime.of(2020, 12, 31, 23, 59),
+                    1, 35455, 0,
+                    BigDecimal.valueOf(35.50), "EUR"),
+            new Price(1,
+                    LocalDateTime.of(2020, 6, 14, 15, 0),
+                    LocalDateTime.of(2020, 6, 14, 18, 30),
+                    2, 35455, 1,
+                    BigDecimal.valueOf(25.45), "EUR"));
+
+    /**
+     * Number of lookups made against the port.
+     */
+    private AtomicInteger lookups;
+    /**
+     * Service under test that retrieves the prioritized price.
+     */
+    private ReactivePriceService priceService;
+    /**
+     * Registry receiving the lookup metrics.
+     */
+    private SimpleMeterRegistry meterRegistry;
+
+    /**
+     * Sets up the test environment before each test.
+     * Initializes a port answering from PRICES for product 35455 and nothing otherwise.
+     */
+    @BeforeEach
+    void setUp() {
+        lookups = new AtomicInteger();
+        ReactivePriceRepositoryPort port = (productId, brandId) -> {
+            lookups.incrementAndGet();
+            return productId == 35455 ? PRICES : Flux.empty();
+        };
+        meterRegistry = new SimpleMeterRegistry();
+        priceService = new ReactivePriceService(port, new PriceLookupMetrics(meterRegistry, List.of(1)));
+    }
+
+    /**
+     * Tests the lookup of a prioritized price when there are multiple matching prices.
+     * Verifies that the price with the highest priority is emitted.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenMultipleMatches_emitsHighestPriority() {
+        StepVerifier.create(priceService.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1))
+                .assertNext(price -> assertEquals(2, price.priceList()))
+                .verifyComplete();
+    }
+
+    /**
+     * Tests the lookup of a prioritized price when there are no matching prices.
+     * Verifies that the result completes empty and is metered as a miss.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenNoMatches_completesEmpty() {
+        StepVerifier.create(priceService.findPrioritizedPrice(LocalDateTime.of(2020, 5, 14, 10, 0), 35455, 1))
+                .verifyComplete();
+
+        assertEquals(1, meterRegistry.get(PriceLookupMetrics.RESULTS_COUNTER).tags("brand", "1", "result", "miss").counter().count());
+    }
+
+    /**
+     * Tests the bulk lookup of prioritized prices.
+     * Verifies that results keep the order of the queries and that queries are
+     * only resolved as results are requested.
+     */
+    @Test
+    void test_getPrioritizedPrices_whenRequestedInSteps_resolvesOnDemandInOrder() {
+        Flux<PriceQuery> queries = Flux.range(0, 100)
+                .map(i -> new PriceQuery(LocalDateTime.of(2020, 6, 14, 10 + i % 2 * 6, 0), i % 3 == 2 ? 99999 : 35455, 1));
+
+        StepVerifier.create(priceService.getPrioritizedPrices(queries), 3)
+                .expectNext(Optional.of(PRICES.blockFirst()))
+                .assertNext(price -> assertEquals(2, price.orElseThrow().priceList()))
+                .expectNext(Optional.empty())
+                .then(() -> assertTrue(lookups.get() <= 3 + ReactivePriceService.BULK_CONCURRENCY))
+                .thenCancel()
+                .verify();
+    }
+}
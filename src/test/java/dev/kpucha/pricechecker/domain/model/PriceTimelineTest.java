@@ -0,0 +1,108 @@
+package dev.kpucha.pricechecker.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the PriceTimeline class.
+ * Tests that the flattened timeline resolves the same winner as a linear scan.
+ */
+public class PriceTimelineTest {
+
+    /**
+     * Seed prices for product 35455 and brand 1.
+     */
+    private static final List<Price> SEED_PRICES = List.of(
+            price(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, 35.50),
+            price(2, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1, 25.45),
+            price(3, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0), 1, 30.50),
+            price(4, LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, 38.95));
+
+    /**
+     * Tests the lookups of the seed data, including the inclusive interval bounds.
+     */
+    @Test
+    void test_priceAt_withSeedPrices_returnsHighestPriority() {
+        PriceTimeline timeline = PriceTimeline.of(SEED_PRICES);
+
+        assertEquals(1, priceListAt(timeline, LocalDateTime.of(2020, 6, 14, 10, 0)));
+        assertEquals(2, priceListAt(timeline, LocalDateTime.of(2020, 6, 14, 16, 0)));
+        assertEquals(2, priceListAt(timeline, LocalDateTime.of(2020, 6, 14, 18, 30)));
+        assertEquals(1, priceListAt(timeline, LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1)));
+        assertEquals(1, priceListAt(timeline, LocalDateTime.of(2020, 6, 14, 21, 0)));
+        assertEquals(3, priceListAt(timeline, LocalDateTime.of(2020, 6, 15, 10, 0)));
+        assertEquals(4, priceListAt(timeline, LocalDateTime.of(2020, 6, 16, 22, 0)));
+        assertTrue(timeline.priceAt(LocalDateTime.of(2020, 6, 13, 23, 59)).isEmpty());
+        assertTrue(timeline.priceAt(LocalDateTime.of(2021, 1, 1, 0, 0)).isEmpty());
+    }
+
+    /**
+     * Tests that the segments of a range are clipped to it and that gaps are
+     * left out.
+     */
+    @Test
+    void test_segments_withRange_returnsClippedSegments() {
+        PriceTimeline timeline = PriceTimeline.of(SEED_PRICES);
+
+        List<PriceSegment> segments = timeline.segments(LocalDateTime.of(2020, 6, 14, 16, 0), LocalDateTime.of(2020, 6, 15, 12, 0));
+
+        assertEquals(List.of(2, 1, 3, 1), segments.stream().map(s -> s.price().priceList()).toList());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 16, 0), segments.get(0).from());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1), segments.get(0).to());
+        assertEquals(LocalDateTime.of(2020, 6, 15, 12, 0), segments.get(3).to());
+        assertEquals(1, timeline.segments(LocalDateTime.of(2020, 6, 1, 0, 0), LocalDateTime.of(2020, 6, 14, 1, 0)).size());
+        assertTrue(timeline.segments(LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 2, 1, 0, 0)).isEmpty());
+    }
+
+    /**
+     * Tests that an empty collection builds an empty timeline.
+     */
+    @Test
+    void test_of_withoutPrices_returnsEmptyTimeline() {
+        PriceTimeline timeline = PriceTimeline.of(List.of());
+
+        assertTrue(timeline.isEmpty());
+        assertTrue(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 10, 0)).isEmpty());
+    }
+
+    /**
+     * Tests random overlapping windows against a linear scan, including ties on priority.
+     */
+    @Test
+    void test_priceAt_withRandomOverlaps_matchesLinearScan() {
+        Random random = new Random(42);
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = origin.plusHours(random.nextInt(1000));
+            prices.add(price(i, start, start.plusHours(random.nextInt(200)), random.nextInt(5), i));
+        }
+        PriceTimeline timeline = PriceTimeline.of(prices);
+
+        for (int hour = -10; hour < 1300; hour++) {
+            LocalDateTime instant = origin.plusHours(hour).plusMinutes(random.nextInt(2) * 30);
+            Optional<Price> expected = prices.stream()
+                    .filter(p -> p.isApplicableAt(instant))
+                    .max(Comparator.comparingInt(Price::priority));
+            assertEquals(expected, timeline.priceAt(instant), "at " + instant);
+        }
+    }
+
+    private static int priceListAt(PriceTimeline timeline, LocalDateTime instant) {
+        return timeline.priceAt(instant).orElseThrow().priceList();
+    }
+
+    private static Price price(int priceList, LocalDateTime start, LocalDateTime end, int priority, double amount) {
+        return new Price(1, start, end, priceList, 35455, priority, BigDecimal.valueOf(amount), "EUR");
+    }
+}
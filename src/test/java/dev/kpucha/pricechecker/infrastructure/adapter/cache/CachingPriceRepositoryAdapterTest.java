@@ -0,0 +1,120 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dev.kpucha.pricechecker.application.metrics.PriceLookupMetrics;
+import dev.kpucha.pricechecker.domain.event.PricesChangedEvent;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the CachingPriceRepositoryAdapter class.
+ * Tests that repeated lookups, including misses, are served from the cache until invalidated.
+ */
+public class CachingPriceRepositoryAdapterTest {
+
+    /**
+     * Mocked port the cache loads prices from.
+     */
+    private PriceRepositoryPort delegate;
+
+    /**
+     * Registry receiving the cache statistics.
+     */
+    private SimpleMeterRegistry meterRegistry;
+
+    /**
+     * Adapter under test.
+     */
+    private CachingPriceRepositoryAdapter adapter;
+
+    /**
+     * Sets up the cache on top of a mocked delegate.
+     */
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PriceRepositoryPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CachingPriceRepositoryAdapter(delegate, 100, Duration.ofMinutes(10), Duration.ofSeconds(30), Runnable::run, meterRegistry);
+
+        when(delegate.findPricesByProductIdAndBrandId(35455, 1)).thenReturn(List.of(
+                new Price(1,
+                        LocalDateTime.of(2020, 6, 14, 0, 0),
+                        LocalDateTime.of(2020, 12, 31, 23, 59),
+                        1, 35455, 0,
+                        BigDecimal.valueOf(35.50), "EUR")));
+        when(delegate.findPricesByProductIdAndBrandId(99999, 1)).thenReturn(List.of());
+    }
+
+    /**
+     * Tests lookups run unrecorded, as the warm-up does, then a regular one.
+     * Verifies that only the regular lookup is counted, while the unrecorded
+     * ones still fill the cache.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenUnrecorded_leavesStatisticsOut() {
+        PriceLookupMetrics metrics = new PriceLookupMetrics(new SimpleMeterRegistry(), List.of());
+        metrics.unrecorded(() -> {
+            adapter.findPricesByKeys(List.of(new PriceKey(1, 35455)));
+            return adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 10, 0), 35455, 1);
+        });
+
+        adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 10, 0), 35455, 1);
+
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", CachingPriceRepositoryAdapter.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(0, meterRegistry.get("cache.gets").tag("cache", CachingPriceRepositoryAdapter.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+        assertEquals(0, meterRegistry.get("cache.load").tag("cache", CachingPriceRepositoryAdapter.CACHE_NAME)
+                .tag("result", "success").functionCounter().count());
+    }
+
+    /**
+     * Tests that hits and misses of the same key load it only once and are published as metrics.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenRepeated_loadsKeyOnce() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 10, 0), 35455, 1).orElseThrow().priceList());
+            assertTrue(adapter.findPrioritizedPrice(LocalDateTime.of(2020, 5, 14, 10, 0), 35455, 1).isEmpty());
+            assertTrue(adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 10, 0), 99999, 1).isEmpty());
+        }
+
+        verify(delegate, times(1)).findPricesByProductIdAndBrandId(35455, 1);
+        verify(delegate, times(1)).findPricesByProductIdAndBrandId(99999, 1);
+        assertEquals(7, meterRegistry.get("cache.gets").tag("cache", CachingPriceRepositoryAdapter.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    /**
+     * Tests that a change event invalidates only the written key.
+     */
+    @Test
+    void test_onPricesChanged_reloadsWrittenKey() {
+        adapter.findPricesByProductIdAndBrandId(35455, 1);
+        adapter.findPricesByProductIdAndBrandId(99999, 1);
+
+        adapter.onPricesChanged(new PricesChangedEvent(Set.of(new PriceKey(1, 35455))));
+        adapter.findPricesByProductIdAndBrandId(35455, 1);
+        adapter.findPricesByProductIdAndBrandId(99999, 1);
+
+        verify(delegate, times(2)).findPricesByProductIdAndBrandId(35455, 1);
+        verify(delegate, times(1)).findPricesByProductIdAndBrandId(99999, 1);
+    }
+}
@@ -0,0 +1,189 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dev.kpucha.pricechecker.domain.event.PricesChangedEvent;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the CoalescingPriceRepositoryAdapter class.
+ * Tests that concurrent loads of a key share one call to the delegate, and that
+ * nothing is shared once a load completes or its key changes.
+ */
+public class CoalescingPriceRepositoryAdapterTest {
+
+    /**
+     * Prices returned by the delegate.
+     */
+    private static final List<Price> PRICES = List.of(new Price(1,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59),
+            1, 35455, 0,
+            BigDecimal.valueOf(35.50), "EUR"));
+
+    /**
+     * Mocked port the adapter loads prices from.
+     */
+    private PriceRepositoryPort delegate;
+
+    /**
+     * Registry receiving the coalescing metrics.
+     */
+    private SimpleMeterRegistry meterRegistry;
+
+    /**
+     * Adapter under test.
+     */
+    private CoalescingPriceRepositoryAdapter adapter;
+
+    /**
+     * Released by the tests to let the delegate answer.
+     */
+    private CountDownLatch release;
+
+    /**
+     * Counted down when the delegate starts loading.
+     */
+    private CountDownLatch loading;
+
+    /**
+     * Sets up the adapter on top of a delegate blocking until released.
+     */
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PriceRepositoryPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CoalescingPriceRepositoryAdapter(delegate, 10, meterRegistry);
+        release = new CountDownLatch(1);
+        loading = new CountDownLatch(1);
+        when(delegate.findPricesByProductIdAndBrandId(anyInt(), anyInt())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return PRICES;
+        });
+    }
+
+    /**
+     * Tests that concurrent lookups of a key at different dates share one
+     * load of the key, each resolving its own date, and that collapsed calls
+     * are counted per key.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenConcurrent_loadsKeyOnce() throws Exception {
+        int callers = 8;
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            List<Future<Optional<Price>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> adapter.findPrioritizedPrice(applicationDate, 35455, 1)));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < callers; i++) {
+                LocalDateTime date = applicationDate.plusHours(i);
+                results.add(executor.submit(() -> adapter.findPrioritizedPrice(date, 35455, 1)));
+            }
+            while (meterRegistry.get(CoalescingPriceRepositoryAdapter.METRIC_PREFIX + ".calls").tag("role", "follower").counter().count() < callers - 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            for (Future<Optional<Price>> result : results) {
+                assertEquals(Optional.of(PRICES.get(0)), result.get());
+            }
+        }
+
+        verify(delegate, times(1)).findPricesByProductIdAndBrandId(35455, 1);
+        verify(delegate, never()).findPrioritizedPrice(any(), anyInt(), anyInt());
+        assertEquals(List.of(new CoalescingPriceRepositoryAdapter.CollapsedKey(1, 35455, callers - 1)), adapter.mostCollapsedKeys(5));
+        assertEquals(callers - 1, meterRegistry.get(CoalescingPriceRepositoryAdapter.METRIC_PREFIX + ".followers").summary().totalAmount());
+    }
+
+    /**
+     * Tests sequential lookups inside and outside the price of the key.
+     * Verifies that each one loads the key and resolves its own date.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenSequential_resolvesEachDate() {
+        release.countDown();
+
+        assertEquals(Optional.of(PRICES.get(0)), adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 10, 0), 35455, 1));
+        assertEquals(Optional.empty(), adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 13, 10, 0), 35455, 1));
+
+        verify(delegate, times(2)).findPricesByProductIdAndBrandId(35455, 1);
+        verify(delegate, never()).findPrioritizedPrice(any(), anyInt(), anyInt());
+    }
+
+    /**
+     * Tests that sequential lookups each run their own load, nothing being kept
+     * once a load completes.
+     */
+    @Test
+    void test_findPricesByProductIdAndBrandId_whenSequential_loadsEachTime() {
+        release.countDown();
+
+        assertSame(PRICES, adapter.findPricesByProductIdAndBrandId(35455, 1));
+        assertSame(PRICES, adapter.findPricesByProductIdAndBrandId(35455, 1));
+
+        verify(delegate, times(2)).findPricesByProductIdAndBrandId(35455, 1);
+        assertEquals(List.of(), adapter.mostCollapsedKeys(5));
+    }
+
+    /**
+     * Tests that a lookup arriving after a committed change does not join the
+     * load started before it.
+     */
+    @Test
+    void test_onPricesChanged_whenLoadInFlight_startsNewLoad() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<List<Price>> before = executor.submit(() -> adapter.findPricesByProductIdAndBrandId(35455, 1));
+            loading.await(5, TimeUnit.SECONDS);
+
+            adapter.onPricesChanged(new PricesChangedEvent(Set.of(new PriceKey(1, 35455))));
+            Future<List<Price>> after = executor.submit(() -> adapter.findPricesByProductIdAndBrandId(35455, 1));
+            release.countDown();
+
+            assertSame(PRICES, before.get());
+            assertSame(PRICES, after.get());
+        }
+
+        verify(delegate, times(2)).findPricesByProductIdAndBrandId(35455, 1);
+    }
+
+    /**
+     * Tests that a failed load is reported to its caller and not kept.
+     */
+    @Test
+    void test_findPricesByProductIdAndBrandId_whenLoadFails_propagatesException() {
+        release.countDown();
+        when(delegate.findPricesByProductIdAndBrandId(99999, 1)).thenThrow(new IllegalStateException("down"));
+
+        assertThrows(IllegalStateException.class, () -> adapter.findPricesByProductIdAndBrandId(99999, 1));
+        assertThrows(IllegalStateException.class, () -> adapter.findPricesByProductIdAndBrandId(99999, 1));
+        verify(delegate, times(2)).findPricesByProductIdAndBrandId(99999, 1);
+    }
+}
@@ -0,0 +1,100 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.port.input.GetPrioritizedPriceUseCase;
+
+/**
+ * Integration tests for the PriceFeedImporter.
+ * Verifies that valid rows are batch inserted, invalid rows are reported and
+ * cached lookups see the imported prices.
+ */
+@SpringBootTest
+public class PriceFeedImporterTest {
+
+    /**
+     * Importer under test.
+     */
+    @Autowired
+    private PriceFeedImporter importer;
+
+    /**
+     * Use case used to look up the imported prices.
+     */
+    @Autowired
+    private GetPrioritizedPriceUseCase useCase;
+
+    /**
+     * Directory holding the feeds written by the tests.
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * Tests the import of a CSV feed with reordered columns and invalid rows.
+     * Verifies that rows are imported in chunks, rejections carry their line
+     * number and a previously cached miss is invalidated.
+     */
+    @Test
+    void test_importFeed_whenCsvWithInvalidRows_importsValidRowsAndReportsRejections() throws IOException {
+        LocalDateTime applicationDate = LocalDateTime.of(2021, 3, 1, 12, 0);
+        assertTrue(useCase.findPrioritizedPrice(applicationDate, 90001, 1).isEmpty());
+
+        Path feed = Files.writeString(tempDir.resolve("prices.csv"), """
+                PRODUCT_ID,BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURRENCY
+                90001,1,2021-01-01 00:00:00,2021-12-31 23:59:59,10,0,19.99,EUR
+                90001,1,2021-02-15-00.00.00,2021-03-15 00:00:00,11,1,9.99,EUR
+                90001,1,2021-02-15 00:00:00,2021-03-15 00:00:00,12,1,14.99,EUR
+                90001,1,2021-12-31 00:00:00,2021-01-01 00:00:00,13,0,5.00,EUR
+
+                90001,1,2021-01-01 00:00:00,2021-12-31 23:59:59,14,0,-1.00,euro
+                """);
+
+        PriceImportReport report = importer.importFeed(feed, 2);
+
+        assertEquals(5, report.rowsRead());
+        assertEquals(2, report.rowsImported());
+        assertEquals(3, report.rowsRejected());
+        assertEquals(3, report.rejections().size());
+        assertEquals(3, report.rejections().get(0).line());
+        assertEquals("End date must not be before start date", report.rejections().get(1).reason());
+        assertEquals(7, report.rejections().get(2).line());
+
+        Price price = useCase.findPrioritizedPrice(applicationDate, 90001, 1).orElseThrow();
+        assertEquals(12, price.priceList());
+        assertEquals(new BigDecimal("14.99"), price.price());
+    }
+
+    /**
+     * Tests the import of a JSONL feed.
+     * Verifies that every line is read as a record.
+     */
+    @Test
+    void test_importFeed_whenJsonLines_importsEveryRow() throws IOException {
+        Path feed = Files.writeString(tempDir.resolve("prices.jsonl"), """
+                {"brandId":1,"startDate":"2021-01-01T00:00:00","endDate":"2021-12-31T23:59:59","priceList":20,"productId":90002,"priority":0,"price":30.00,"currency":"EUR"}
+                {"brandId":1,"startDate":"2021-06-01T00:00:00","endDate":"2021-06-30T23:59:59","priceList":21,"productId":90002,"priority":1,"price":25.00,"currency":"EUR"}
+                {"brandId":1,"startDate":
+                """);
+
+        PriceImportReport report = importer.importFeed(feed);
+
+        assertEquals(3, report.rowsRead());
+        assertEquals(2, report.rowsImported());
+        assertEquals(1, report.rowsRejected());
+        assertEquals(21, useCase.findPrioritizedPrice(LocalDateTime.of(2021, 6, 10, 0, 0), 90002, 1).orElseThrow().priceList());
+    }
+}
@@ -0,0 +1,150 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Unit tests for the FilePriceAdapter class.
+ * Tests lookups over a price file written with the PriceFileWriter.
+ */
+public class FilePriceAdapterTest {
+
+    /**
+     * Directory receiving the price files.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * Prices of the written file, sorted by brand and product.
+     */
+    private final List<Price> prices = List.of(
+            price(1, 35455, 1, 0, "35.50", LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+            price(1, 35455, 2, 1, "25.45", LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)),
+            price(1, 35455, 3, 1, "30.50", LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0)),
+            price(1, 35455, 4, 1, "38.95", LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+            price(2, 10, 7, 3, "9.99", LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 12, 31, 0, 0)),
+            price(2, 10, 8, 3, "8.99", LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 12, 31, 0, 0)));
+
+    /**
+     * Adapter under test, mapping the written file.
+     */
+    private FilePriceAdapter adapter;
+
+    /**
+     * Writes the prices to a file and maps it.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = directory.resolve("prices.bin");
+        try (PriceFileWriter writer = new PriceFileWriter(file)) {
+            for (Price price : prices) {
+                writer.add(price);
+            }
+        }
+        adapter = new FilePriceAdapter(file);
+    }
+
+    /**
+     * Tests the point lookups of the reference scenarios.
+     * Verifies that the applicable price with the highest priority is returned.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenOverlappingPrices_returnsHighestPriority() {
+        assertEquals(1, adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 10, 0), 35455, 1).orElseThrow().priceList());
+        assertEquals(2, adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1).orElseThrow().priceList());
+        assertEquals(1, adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 21, 0), 35455, 1).orElseThrow().priceList());
+        assertEquals(3, adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 15, 10, 0), 35455, 1).orElseThrow().priceList());
+        assertEquals(4, adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 16, 21, 0), 35455, 1).orElseThrow().priceList());
+        assertEquals(new BigDecimal("38.95"), adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 16, 21, 0), 35455, 1).orElseThrow().price());
+    }
+
+    /**
+     * Tests dates finer than the microseconds stored in the file around the
+     * inclusive end and the start of a price.
+     * Verifies that they resolve like the other repositories.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenSubMicrosecondDate_respectsBounds() {
+        assertEquals(2, adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 18, 30), 35455, 1).orElseThrow().priceList());
+        assertEquals(1, adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 5), 35455, 1).orElseThrow().priceList());
+        assertEquals(1, adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 14, 59, 59, 999_999_999), 35455, 1).orElseThrow().priceList());
+        assertEquals(2, adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 15, 0, 0, 5), 35455, 1).orElseThrow().priceList());
+    }
+
+    /**
+     * Tests that the first price in file order wins on equal priority, and that
+     * unknown keys and dates outside every price miss.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenTieOrMiss_keepsFirstOrReturnsEmpty() {
+        assertEquals(7, adapter.findPrioritizedPrice(LocalDateTime.of(2021, 6, 1, 0, 0), 10, 2).orElseThrow().priceList());
+        assertTrue(adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 13, 23, 59), 35455, 1).isEmpty());
+        assertTrue(adapter.findPrioritizedPrice(LocalDateTime.of(2021, 6, 1, 0, 0), 10, 1).isEmpty());
+        assertTrue(adapter.findPrioritizedPrice(LocalDateTime.of(2021, 6, 1, 0, 0), 99999, 3).isEmpty());
+    }
+
+    /**
+     * Tests that every field survives the round trip through the file.
+     */
+    @Test
+    void test_findPricesByProductIdAndBrandId_whenKeyInFile_returnsPricesInOrder() {
+        assertEquals(prices.subList(0, 4), adapter.findPricesByProductIdAndBrandId(35455, 1));
+        assertEquals(List.of(), adapter.findPricesByProductIdAndBrandId(35455, 2));
+        assertEquals(2, adapter.stats().keys());
+        assertEquals(6, adapter.stats().rows());
+    }
+
+    /**
+     * Tests a file mapped in chunks smaller than a row, so that rows and
+     * index entries straddle chunk boundaries.
+     * Verifies that lookups, prices and keys match those of a single mapping.
+     */
+    @Test
+    void test_open_whenMappedInSmallChunks_readsSamePrices() throws Exception {
+        Path file = directory.resolve("prices.bin");
+        MappedPriceFile chunked = MappedPriceFile.open(file, 40);
+
+        assertEquals(prices.subList(0, 4), chunked.prices(1, 35455));
+        assertEquals(prices.subList(4, 6), chunked.prices(2, 10));
+        assertEquals(2, chunked.priceAt(1, 35455, LocalDateTime.of(2020, 6, 14, 16, 0)).priceList());
+        assertEquals(7, chunked.priceAt(2, 10, LocalDateTime.of(2021, 6, 1, 0, 0)).priceList());
+        assertEquals(List.of(new PriceKey(1, 35455), new PriceKey(2, 10)), chunked.keys(10));
+        assertEquals(List.of(new PriceKey(1, 35455)), adapter.keys(1));
+    }
+
+    /**
+     * Tests that the writer rejects prices out of key order, and that a file
+     * that is not a price file cannot be mapped.
+     */
+    @Test
+    void test_write_whenKeysUnsorted_throwsException() throws Exception {
+        try (PriceFileWriter writer = new PriceFileWriter(directory.resolve("unsorted.bin"))) {
+            writer.add(prices.get(4));
+            assertThrows(IllegalArgumentException.class, () -> writer.add(prices.get(0)));
+        }
+
+        Path other = Files.writeString(directory.resolve("other.bin"), "not a price file, but long enough for a header");
+        assertThrows(RuntimeException.class, () -> new FilePriceAdapter(other));
+    }
+
+    private static Price price(int brandId, int productId, int priceList, int priority, String amount,
+            LocalDateTime start, LocalDateTime end) {
+        return new Price(brandId, start, end, priceList, productId, priority, new BigDecimal(amount), "EUR",
+                (long) priceList, LocalDateTime.of(2020, 1, 1, 0, 0, 0, 123_000));
+    }
+}
@@ -0,0 +1,62 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+
+/**
+ * Integration tests for the PriceFileExporter.
+ * Verifies that an exported file answers lookups like the database.
+ */
+@SpringBootTest
+public class PriceFileExporterTest {
+
+    /**
+     * Exporter under test.
+     */
+    @Autowired
+    private PriceFileExporter exporter;
+
+    /**
+     * Template used to count the exported prices.
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Directory receiving the exported file.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests that every price is exported with its row ID and last update, and
+     * that the seed lookups are answered from the file.
+     */
+    @Test
+    void test_export_whenSeedPrices_writesFileAnsweringLookups() {
+        Path file = directory.resolve("export/prices.bin");
+
+        PriceFileExportReport report = exporter.export(file);
+
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICES", Integer.class), report.rows());
+        FilePriceAdapter adapter = new FilePriceAdapter(file);
+        Price price = adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1).orElseThrow();
+        assertEquals(2, price.priceList());
+        assertNotNull(price.id());
+        assertNotNull(price.lastUpdate());
+        assertEquals(4, adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 16, 21, 0), 35455, 1).orElseThrow().priceList());
+        assertTrue(adapter.findPrioritizedPrice(LocalDateTime.of(2020, 6, 13, 0, 0), 35455, 1).isEmpty());
+    }
+}
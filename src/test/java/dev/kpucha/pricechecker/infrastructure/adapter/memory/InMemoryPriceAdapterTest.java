@@ -0,0 +1,137 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.port.output.PriceRepositoryPort;
+
+/**
+ * Integration tests for the InMemoryPriceAdapter.
+ * Verifies that the adapter is selected by configuration, indexes the seed data
+ * and publishes rebuilt snapshots.
+ */
+@SpringBootTest(properties = {"pricechecker.repository.type=memory", "pricechecker.cache.enabled=false"})
+public class InMemoryPriceAdapterTest {
+
+    /**
+     * Port resolved by the application context.
+     */
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    /**
+     * Tests that the in-memory adapter answers lookups from the seed data.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenMemoryType_usesTimeline() {
+        assertInstanceOf(InMemoryPriceAdapter.class, priceRepositoryPort);
+
+        var result = priceRepositoryPort.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1);
+
+        assertEquals(2, result.orElseThrow().priceList());
+        assertEquals(4, priceRepositoryPort.findPricesByProductIdAndBrandId(35455, 1).size());
+        assertTrue(priceRepositoryPort.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 16, 0), 1, 1).isEmpty());
+    }
+
+    /**
+     * Tests that a reload publishes a new snapshot with the current prices.
+     * Verifies that lookups answered by the previous snapshot do not see the
+     * change until the new one is published.
+     */
+    @Test
+    void test_reload_whenPricesChanged_publishesNewGeneration() {
+        Collection<Price> prices = new CopyOnWriteArrayList<>(List.of(price(1, 0)));
+        InMemoryPriceAdapter adapter = new InMemoryPriceAdapter(() -> List.copyOf(prices), keys -> Map.of());
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        prices.add(price(2, 1));
+
+        assertEquals(1, adapter.stats().generation());
+        assertEquals(1, adapter.findPrioritizedPrice(applicationDate, 35455, 1).orElseThrow().priceList());
+
+        PriceCatalogStats stats = adapter.reload().join();
+
+        assertEquals(2, stats.generation());
+        assertEquals(1, stats.keys());
+        assertEquals(2, stats.prices());
+        assertEquals(stats, adapter.stats());
+        assertEquals(2, adapter.findPrioritizedPrice(applicationDate, 35455, 1).orElseThrow().priceList());
+        adapter.destroy();
+    }
+
+    /**
+     * Tests that a refresh only reloads the changed keys.
+     * Verifies that a key without prices any more is removed from the snapshot.
+     */
+    @Test
+    void test_refresh_whenKeysChanged_reloadsOnlyThoseKeys() {
+        Collection<Price> prices = new CopyOnWriteArrayList<>(List.of(price(1, 0)));
+        Collection<PriceKey> reloadedKeys = new CopyOnWriteArrayList<>();
+        InMemoryPriceAdapter adapter = new InMemoryPriceAdapter(() -> List.copyOf(prices), keys -> {
+            reloadedKeys.addAll(keys);
+            return Map.of(new PriceKey(1, 35455), List.of(price(1, 0), price(2, 1)), new PriceKey(1, 1), List.of());
+        });
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        PriceCatalogStats stats = adapter.refresh(Set.of(new PriceKey(1, 35455), new PriceKey(1, 1))).join();
+
+        assertEquals(Set.of(new PriceKey(1, 35455), new PriceKey(1, 1)), Set.copyOf(reloadedKeys));
+        assertEquals(2, stats.generation());
+        assertEquals(1, stats.keys());
+        assertEquals(2, stats.prices());
+        assertEquals(2, adapter.findPrioritizedPrice(applicationDate, 35455, 1).orElseThrow().priceList());
+        adapter.destroy();
+    }
+
+    /**
+     * Tests changes applied to a snapshot of many keys.
+     * Verifies that the previous snapshot keeps its timelines and statistics
+     * and that the new one shares the unchanged timelines.
+     */
+    @Test
+    void test_withChanges_whenApplied_leavesPreviousSnapshotUntouched() {
+        List<Price> prices = new ArrayList<>();
+        for (int productId = 1; productId <= 1000; productId++) {
+            prices.add(new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, productId, 0, BigDecimal.valueOf(35.50), "EUR"));
+        }
+        PriceCatalogSnapshot previous = PriceCatalogSnapshot.build(1, prices);
+        PackedPriceTimeline unchanged = previous.timeline(new PriceKey(1, 2));
+
+        PriceCatalogSnapshot next = previous.withChanges(2, Map.of(
+            new PriceKey(1, 1), List.of(),
+            new PriceKey(1, 35455), List.of(price(1, 0))));
+
+        assertEquals(1000, previous.stats().keys());
+        assertNotNull(previous.timeline(new PriceKey(1, 1)));
+        assertNull(previous.timeline(new PriceKey(1, 35455)));
+        assertNull(next.timeline(new PriceKey(1, 1)));
+        assertSame(unchanged, next.timeline(new PriceKey(1, 2)));
+        assertEquals(1000, next.stats().keys());
+        assertEquals(1000, next.stats().prices());
+    }
+
+    private static Price price(int priceList, int priority) {
+        return new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                priceList, 35455, priority, BigDecimal.valueOf(35.50), "EUR");
+    }
+}
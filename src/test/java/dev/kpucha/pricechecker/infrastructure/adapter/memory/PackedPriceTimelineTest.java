@@ -0,0 +1,94 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.model.PriceTimeline;
+
+/**
+ * Unit tests for the PackedPriceTimeline class.
+ * Tests that packed prices resolve and materialize the same prices as the domain timeline.
+ */
+public class PackedPriceTimelineTest {
+
+    private static final PriceKey KEY = new PriceKey(1, 35455);
+
+    /**
+     * Tests random overlapping windows against the domain timeline, probing instants
+     * on, just before and just after every second.
+     */
+    @Test
+    void test_priceAt_withRandomOverlaps_matchesPriceTimeline() {
+        Random random = new Random(42);
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            LocalDateTime start = origin.plusSeconds(random.nextInt(600));
+            prices.add(new Price(1, start, start.plusSeconds(random.nextInt(120)), i, 35455, random.nextInt(4),
+                    BigDecimal.valueOf(1000 + i, 2), i % 2 == 0 ? "EUR" : "USD"));
+        }
+        PriceTimeline expected = PriceTimeline.of(prices);
+        PackedPriceTimeline packed = PackedPriceTimeline.of(KEY, prices);
+
+        for (int second = -5; second < 800; second++) {
+            for (long nanos : new long[] {-1, 0, 500_000_000}) {
+                LocalDateTime instant = origin.plusSeconds(second).plusNanos(nanos);
+                assertEquals(expected.priceAt(instant), packed.priceAt(instant), "at " + instant);
+            }
+        }
+        assertEquals(prices, packed.prices());
+    }
+
+    /**
+     * Tests windows with sub-second bounds, as TIMESTAMP columns and imported
+     * feeds allow, read with their row ID and last update.
+     * Verifies that lookups match the domain timeline around every bound and
+     * that the prices handed out keep their dates, ID and last update.
+     */
+    @Test
+    void test_priceAt_withMicrosecondBounds_matchesPriceTimeline() {
+        LocalDateTime origin = LocalDateTime.of(2020, 6, 14, 10, 0);
+        LocalDateTime lastUpdate = LocalDateTime.of(2020, 3, 26, 14, 49, 7, 123_456_000);
+        List<Price> prices = List.of(
+            new Price(1, origin, origin.plusSeconds(10).plusNanos(250_000_000), 1, 35455, 0,
+                BigDecimal.valueOf(3550, 2), "EUR", 1L, lastUpdate),
+            new Price(1, origin.plusSeconds(2).plusNanos(1_000), origin.plusSeconds(5).plusNanos(999_999_000), 2, 35455, 1,
+                BigDecimal.valueOf(2545, 2), "EUR", 2L, lastUpdate));
+        PriceTimeline expected = PriceTimeline.of(prices);
+        PackedPriceTimeline packed = PackedPriceTimeline.of(KEY, prices);
+
+        for (Price price : prices) {
+            for (LocalDateTime bound : new LocalDateTime[] {price.startDate(), price.endDate()}) {
+                for (long nanos : new long[] {-1_000, -1, 0, 1, 500, 1_000}) {
+                    LocalDateTime instant = bound.plusNanos(nanos);
+                    assertEquals(expected.priceAt(instant), packed.priceAt(instant), "at " + instant);
+                }
+            }
+        }
+        assertEquals(prices, packed.prices());
+    }
+
+    /**
+     * Tests that amounts not representable as minor units are rejected.
+     */
+    @Test
+    void test_of_withSubMinorAmount_throwsException() {
+        List<Price> prices = List.of(new Price(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, 35455, 0,
+                new BigDecimal("35.505"), "EUR"));
+
+        assertThrows(ArithmeticException.class, () -> PackedPriceTimeline.of(KEY, prices));
+    }
+}
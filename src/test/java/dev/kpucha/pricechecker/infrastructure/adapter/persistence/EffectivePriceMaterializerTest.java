@@ -0,0 +1,171 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.port.input.GetPrioritizedPriceUseCase;
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.EffectivePriceMaterializer.CheckReport;
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.EffectivePriceMaterializer.RebuildReport;
+
+/**
+ * Integration tests for the EffectivePriceMaterializer and the
+ * EffectivePriceAdapter.
+ * Verifies that point lookups read the materialized segments, that changed
+ * keys are recomputed and that the consistency check detects stale keys.
+ */
+@SpringBootTest(properties = {"pricechecker.repository.type=materialized", "pricechecker.changes.poll-interval=1h"})
+public class EffectivePriceMaterializerTest {
+
+    /**
+     * Materializer under test.
+     */
+    @Autowired
+    private EffectivePriceMaterializer materializer;
+
+    /**
+     * Template used to write prices the way an external client would.
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Use case used to look up the materialized prices.
+     */
+    @Autowired
+    private GetPrioritizedPriceUseCase useCase;
+
+    /**
+     * Health indicator reporting the rebuild at startup.
+     */
+    @Autowired
+    private EffectivePricesHealthIndicator healthIndicator;
+
+    /**
+     * Tests the health of the table once the rebuild started at startup has
+     * completed.
+     * Verifies that it is up with the keys and segments written.
+     */
+    @Test
+    void test_health_whenInitialRebuildCompleted_reportsUp() {
+        RebuildReport report = materializer.initialRebuild().join();
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertTrue(report.keys() > 0);
+        assertEquals(report.segments(), health.getDetails().get("segments"));
+    }
+
+    /**
+     * Tests that the seed prices are resolved from the table built at startup,
+     * including the inclusive end of a price and the date right after it.
+     */
+    @Test
+    void test_findPrioritizedPrice_whenSeedPrices_returnsWinningSegment() {
+        materializer.initialRebuild().join();
+
+        assertEquals(1, useCase.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 10, 0), 35455, 1).orElseThrow().priceList());
+        assertEquals(2, useCase.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1).orElseThrow().priceList());
+        assertEquals(2, useCase.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 18, 30), 35455, 1).orElseThrow().priceList());
+        assertEquals(1, useCase.findPrioritizedPrice(LocalDateTime.of(2020, 6, 14, 18, 30, 1), 35455, 1).orElseThrow().priceList());
+        assertEquals(4, useCase.findPrioritizedPrice(LocalDateTime.of(2020, 6, 16, 21, 0), 35455, 1).orElseThrow().priceList());
+        assertTrue(useCase.findPrioritizedPrice(LocalDateTime.of(2021, 1, 1, 0, 0), 35455, 1).isEmpty());
+    }
+
+    /**
+     * Tests that prices written without a refresh make the check fail, and
+     * that refreshing the key recomputes its segments.
+     */
+    @Test
+    void test_refresh_whenPricesWrittenOutsideJpa_recomputesKey() {
+        PriceKey key = new PriceKey(1, 90021);
+        LocalDateTime applicationDate = LocalDateTime.of(2021, 3, 1, 12, 0);
+        materializer.rebuild();
+        assertTrue(materializer.check().isConsistent());
+
+        jdbcTemplate.update("""
+                INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY)
+                VALUES (1, '2021-01-01 00:00:00', '2021-12-31 23:59:59', 40, 90021, 0, 10.00, 'EUR'),
+                       (1, '2021-03-01 00:00:00', '2021-03-31 23:59:59', 41, 90021, 1, 8.00, 'EUR')""");
+
+        CheckReport stale = materializer.check();
+        assertFalse(stale.isConsistent());
+        assertEquals(List.of(key), stale.firstInconsistent());
+        assertTrue(useCase.findPrioritizedPrice(applicationDate, 90021, 1).isEmpty());
+
+        materializer.refresh(Set.of(key));
+
+        assertTrue(materializer.check().isConsistent());
+        assertEquals(41, useCase.findPrioritizedPrice(applicationDate, 90021, 1).orElseThrow().priceList());
+        assertEquals(40, useCase.findPrioritizedPrice(LocalDateTime.of(2021, 4, 1, 0, 0), 90021, 1).orElseThrow().priceList());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM EFFECTIVE_PRICES WHERE PRODUCT_ID = 90021", Integer.class));
+
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = 90021");
+        materializer.refresh(Set.of(key));
+
+        assertTrue(useCase.findPrioritizedPrice(applicationDate, 90021, 1).isEmpty());
+        assertTrue(materializer.check().isConsistent());
+    }
+
+    /**
+     * Tests a refresh of more keys than a query reads, written outside JPA.
+     * Verifies that the segments of every key are recomputed.
+     */
+    @Test
+    void test_refresh_whenMoreKeysThanQueryBound_recomputesEveryKey() {
+        materializer.rebuild();
+        List<PriceKey> keys = new ArrayList<>();
+        for (int productId = 92100; productId < 92100 + 2 * EffectivePriceMaterializer.MAX_KEYS_PER_QUERY + 1; productId++) {
+            keys.add(new PriceKey(1, productId));
+            jdbcTemplate.update("""
+                    INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY)
+                    VALUES (1, '2021-01-01 00:00:00', '2021-12-31 23:59:59', 44, ?, 0, 10.00, 'EUR')""", productId);
+        }
+
+        materializer.refresh(keys);
+
+        assertTrue(materializer.check().isConsistent());
+        assertEquals(keys.size(), jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM EFFECTIVE_PRICES WHERE PRODUCT_ID >= 92100 AND PRICE_LIST = 44", Integer.class));
+    }
+
+    /**
+     * Tests segments left for a key that has no prices and a key of another
+     * brand sharing its product ID.
+     * Verifies that the check reports the stale key only, and that refreshing
+     * it leaves the other brand untouched.
+     */
+    @Test
+    void test_check_whenSegmentsWithoutPrices_reportsKey() {
+        jdbcTemplate.update("""
+                INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY)
+                VALUES (1, '2021-01-01 00:00:00', '2021-12-31 23:59:59', 42, 90022, 0, 10.00, 'EUR')""");
+        materializer.rebuild();
+        jdbcTemplate.update("""
+                INSERT INTO EFFECTIVE_PRICES (BRAND_ID, PRODUCT_ID, FROM_DATE, TO_DATE, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURRENCY)
+                VALUES (2, 90022, '2021-01-01 00:00:00', NULL, 43, '2021-01-01 00:00:00', '2021-12-31 23:59:59', 0, 12.00, 'EUR')""");
+
+        CheckReport stale = materializer.check();
+        assertEquals(List.of(new PriceKey(2, 90022)), stale.firstInconsistent());
+
+        materializer.refresh(Set.of(new PriceKey(2, 90022)));
+
+        assertTrue(materializer.check().isConsistent());
+        assertEquals(42, useCase.findPrioritizedPrice(LocalDateTime.of(2021, 6, 1, 0, 0), 90022, 1).orElseThrow().priceList());
+        assertTrue(useCase.findPrioritizedPrice(LocalDateTime.of(2021, 6, 1, 0, 0), 90022, 2).isEmpty());
+    }
+}
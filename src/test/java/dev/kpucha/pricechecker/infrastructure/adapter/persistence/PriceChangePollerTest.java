@@ -0,0 +1,85 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.domain.port.input.GetPrioritizedPriceUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Integration tests for the PriceChangePoller.
+ * Verifies that rows written outside JPA are detected once, deletions are
+ * detected through tombstones and cached lookups see the changes.
+ */
+@SpringBootTest(properties = "pricechecker.changes.poll-interval=1h")
+public class PriceChangePollerTest {
+
+    /**
+     * Poller under test, polled explicitly by the tests.
+     */
+    @Autowired
+    private PriceChangePoller poller;
+
+    /**
+     * Template used to write prices the way an external client would.
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Repository used to delete prices through JPA.
+     */
+    @Autowired
+    private PriceJpaRepository priceJpaRepository;
+
+    /**
+     * Use case used to look up the changed prices.
+     */
+    @Autowired
+    private GetPrioritizedPriceUseCase useCase;
+
+    /**
+     * Registry receiving the change metrics.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Tests that an insert made with plain SQL is published once and a
+     * deletion through JPA is published through its tombstone.
+     */
+    @Test
+    void test_poll_whenRowsWrittenAndDeleted_publishesChangedKeys() {
+        PriceKey key = new PriceKey(1, 90011);
+        LocalDateTime applicationDate = LocalDateTime.of(2021, 3, 1, 12, 0);
+        poller.poll();
+        assertTrue(useCase.findPrioritizedPrice(applicationDate, 90011, 1).isEmpty());
+
+        jdbcTemplate.update("""
+                INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY, LAST_UPDATE, LAST_UPDATE_BY)
+                VALUES (1, '2021-01-01 00:00:00', '2021-12-31 23:59:59', 30, 90011, 0, 10.00, 'EUR', ?, 'sql')""",
+                Timestamp.valueOf(LocalDateTime.now()));
+
+        assertEquals(Set.of(key), poller.poll());
+        assertEquals(Set.of(), poller.poll());
+        assertEquals(30, useCase.findPrioritizedPrice(applicationDate, 90011, 1).orElseThrow().priceList());
+
+        Long id = jdbcTemplate.queryForObject("SELECT ID FROM PRICES WHERE PRODUCT_ID = 90011", Long.class);
+        priceJpaRepository.deleteById(id);
+
+        assertEquals(Set.of(key), poller.poll());
+        assertTrue(useCase.findPrioritizedPrice(applicationDate, 90011, 1).isEmpty());
+        assertEquals(1, meterRegistry.get(PriceChangePoller.ROWS_SUMMARY).tags("type", "deleted").summary().totalAmount());
+        assertTrue(meterRegistry.get(PriceChangePoller.PROPAGATION_TIMER).timer().count() >= 2);
+    }
+}
@@ -0,0 +1,69 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+
+/**
+ * Unit tests for the PriceBinaryCodec class.
+ * Tests that prices and currencies are read back exactly as written.
+ */
+public class PriceBinaryCodecTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    /**
+     * Tests prices with more decimals than hundredths, without decimals and
+     * with a large magnitude.
+     * Verifies that each one is read back unchanged.
+     */
+    @Test
+    void test_write_withAnyScale_readsSamePrice() throws IOException {
+        for (double price : new double[] {25.45, 0.005, 1.23456, 100.0, 1.5e20}) {
+            PrioritizedPriceResponse response = new PrioritizedPriceResponse(35455, 1, 2, START, START.plusDays(1), price, "EUR");
+
+            assertEquals(response, roundTrip(response), "price " + price);
+        }
+    }
+
+    /**
+     * Tests currency codes shorter and longer than three letters.
+     * Verifies that each one is read back unchanged.
+     */
+    @Test
+    void test_write_withAnyCurrencyLength_readsSameCurrency() throws IOException {
+        for (String currency : new String[] {"", "X", "EUR", "USDT"}) {
+            PrioritizedPriceResponse response = new PrioritizedPriceResponse(35455, 1, 2, START, START.plusDays(1), 25.45, currency);
+
+            assertEquals(response, roundTrip(response), "currency " + currency);
+        }
+    }
+
+    /**
+     * Tests a currency code longer than its length prefix can hold.
+     * Verifies that it is rejected.
+     */
+    @Test
+    void test_write_withOversizedCurrency_throwsIllegalArgumentException() {
+        PrioritizedPriceResponse response = new PrioritizedPriceResponse(35455, 1, 2, START, START.plusDays(1), 25.45, "X".repeat(256));
+
+        assertThrows(IllegalArgumentException.class, () -> roundTrip(response));
+    }
+
+    private static Object roundTrip(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PriceBinaryCodec.write(value, new DataOutputStream(bytes));
+        byte[] content = bytes.toByteArray();
+        return PriceBinaryCodec.read(value.getClass(), new DataInputStream(new ByteArrayInputStream(content)), content.length);
+    }
+}
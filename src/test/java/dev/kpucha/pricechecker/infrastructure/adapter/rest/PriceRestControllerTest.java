@@ -1,17 +1,37 @@
 package dev.kpucha.pricechecker.infrastructure.adapter.rest;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kpucha.pricechecker.application.dto.BulkPriceRequest;
+import dev.kpucha.pricechecker.application.dto.BulkPriceResponse;
 import dev.kpucha.pricechecker.application.dto.PriceRequest;
+import dev.kpucha.pricechecker.application.dto.PriceTimelineRequest;
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
 
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -38,6 +58,12 @@ public class PriceRestControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    /**
+     * Template used to write prices the way an external client would.
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     /**
      * Tests the retrieval of prioritized prices at 10 AM on June 14th 2020.
      */
@@ -135,4 +161,292 @@ public class PriceRestControllerTest {
                 .andExpect(jsonPath("$.priceList").value(4))
                 .andExpect(jsonPath("$.price").value(38.95));
     }
+
+    /**
+     * Tests the bulk retrieval of the five reference lookups plus an unknown product.
+     * Verifies that results keep the request order and that the miss is marked as not found.
+     * @throws Exception
+     */
+    @Test
+    void test6_bulk_lookup() throws Exception {
+        var request = new BulkPriceRequest(List.of(
+                new PriceRequest(LocalDateTime.of(2020, 6, 14, 10, 0), 35455, 1),
+                new PriceRequest(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1),
+                new PriceRequest(LocalDateTime.of(2020, 6, 14, 21, 0), 35455, 1),
+                new PriceRequest(LocalDateTime.of(2020, 6, 15, 10, 0), 35455, 1),
+                new PriceRequest(LocalDateTime.of(2020, 6, 16, 22, 0), 35455, 1),
+                new PriceRequest(LocalDateTime.of(2020, 6, 16, 22, 0), 12345, 1)));
+
+        mockMvc.perform(post("/prices/prioritized/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(6))
+                .andExpect(jsonPath("$.results[*].price.priceList").value(contains(1, 2, 1, 3, 4)))
+                .andExpect(jsonPath("$.results[1].price.price").value(25.45))
+                .andExpect(jsonPath("$.results[5].productId").value(12345))
+                .andExpect(jsonPath("$.results[5].found").value(false))
+                .andExpect(jsonPath("$.results[5].price").doesNotExist());
+    }
+
+    /**
+     * Tests that an empty bulk request is rejected.
+     * @throws Exception
+     */
+    @Test
+    void test7_bulk_lookup_without_items() throws Exception {
+        mockMvc.perform(post("/prices/prioritized/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[]}"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests the retrieval of prioritized prices before any price applies.
+     * Verifies that the pre-serialized not found response is returned.
+     * @throws Exception
+     */
+    @Test
+    void test8_before_any_price() throws Exception {
+        var request = new PriceRequest(LocalDateTime.of(2020, 6, 13, 10, 0), 35455, 1);
+
+        mockMvc.perform(post("/prices/prioritized")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.message").value("Prioritized price not found for the given parameters"));
+    }
+
+    /**
+     * Tests that a lookup records the serialization stage timer exposed by actuator.
+     * @throws Exception
+     */
+    @Test
+    void test9_lookup_metrics() throws Exception {
+        var request = new PriceRequest(LocalDateTime.of(2020, 6, 14, 10, 0), 35455, 1);
+
+        mockMvc.perform(post("/prices/prioritized")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/pricechecker.lookup.stage").param("tag", "stage:serialization"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").value(greaterThanOrEqualTo(1.0)));
+    }
+
+    /**
+     * Tests the retrieval of the price timeline from June 14th to June 16th 2020 in pages of four segments.
+     * Bounds keep their full precision: price list 1 applies again one nanosecond after price list 3 ends,
+     * and the next page starts there without overlapping the first one.
+     */
+    @Test
+    void test10_timeline_in_pages() throws Exception {
+        var firstPage = new PriceTimelineRequest(35455, 1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 16, 0, 0), 4);
+
+        mockMvc.perform(post("/prices/timeline")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(firstPage)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.segments[*].priceList").value(contains(1, 2, 1, 3)))
+                .andExpect(jsonPath("$.segments[1].from").value("2020-06-14T15:00:00"))
+                .andExpect(jsonPath("$.segments[1].price").value(25.45))
+                .andExpect(jsonPath("$.segments[3].from").value("2020-06-15T00:00:00"))
+                .andExpect(jsonPath("$.segments[3].to").value("2020-06-15T11:00:00"))
+                .andExpect(jsonPath("$.next").value("2020-06-15T11:00:00.000000001"));
+
+        var secondPage = new PriceTimelineRequest(35455, 1, LocalDateTime.of(2020, 6, 15, 11, 0, 0, 1), LocalDateTime.of(2020, 6, 16, 0, 0), 4);
+
+        mockMvc.perform(post("/prices/timeline")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(secondPage)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.segments[*].priceList").value(contains(1, 4)))
+                .andExpect(jsonPath("$.segments[0].from").value("2020-06-15T11:00:00.000000001"))
+                .andExpect(jsonPath("$.segments[0].to").value("2020-06-15T15:59:59.999999999"))
+                .andExpect(jsonPath("$.segments[1].from").value("2020-06-15T16:00:00"))
+                .andExpect(jsonPath("$.segments[1].to").value("2020-06-15T23:59:59.999999999"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    /**
+     * Tests that a reversed range is rejected.
+     */
+    @Test
+    void test11_timeline_with_reversed_range() throws Exception {
+        var request = new PriceTimelineRequest(35455, 1, LocalDateTime.of(2020, 6, 16, 0, 0), LocalDateTime.of(2020, 6, 14, 0, 0), null);
+
+        mockMvc.perform(post("/prices/timeline")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests the retrieval of prioritized prices at 4 PM on June 14th 2020 in the binary encoding.
+     */
+    @Test
+    void test14_binary_lookup() throws Exception {
+        var request = new PriceRequest(LocalDateTime.of(2020, 6, 14, 16, 0), 35455, 1);
+
+        var content = mockMvc.perform(post("/prices/prioritized")
+                .contentType(PriceBinaryHttpMessageConverter.MEDIA_TYPE)
+                .accept(PriceBinaryHttpMessageConverter.MEDIA_TYPE)
+                .content(encode(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PriceBinaryHttpMessageConverter.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(41, content.length);
+        var response = (PrioritizedPriceResponse) decode(PrioritizedPriceResponse.class, content);
+        assertEquals(2, response.priceList());
+        assertEquals(25.45, response.price());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30), response.endDate());
+        assertEquals("EUR", response.currency());
+    }
+
+    /**
+     * Tests the bulk retrieval of prioritized prices in the binary encoding, and that JSON stays the default.
+     */
+    @Test
+    void test15_binary_bulk_lookup() throws Exception {
+        var request = new BulkPriceRequest(List.of(
+                new PriceRequest(LocalDateTime.of(2020, 6, 15, 10, 0), 35455, 1),
+                new PriceRequest(LocalDateTime.of(2020, 6, 16, 22, 0), 12345, 1)));
+
+        var content = mockMvc.perform(post("/prices/prioritized/bulk")
+                .contentType(PriceBinaryHttpMessageConverter.MEDIA_TYPE)
+                .accept(PriceBinaryHttpMessageConverter.MEDIA_TYPE)
+                .content(encode(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var response = (BulkPriceResponse) decode(BulkPriceResponse.class, content);
+        assertEquals(3, response.results().get(0).price().priceList());
+        assertEquals(30.50, response.results().get(0).price().price());
+        assertFalse(response.results().get(1).found());
+
+        mockMvc.perform(post("/prices/prioritized/bulk")
+                .contentType(PriceBinaryHttpMessageConverter.MEDIA_TYPE)
+                .content(encode(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.results[0].price.priceList").value(3));
+    }
+
+    /**
+     * Tests the cacheable lookup of a prioritized price at a given date: the response carries a strong ETag
+     * and the configured max-age, and a request matching the ETag is answered with 304 Not Modified.
+     */
+    @Test
+    void test16_conditional_lookup() throws Exception {
+        var eTag = mockMvc.perform(get("/prices/prioritized")
+                .param("productId", "35455")
+                .param("brandId", "1")
+                .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=60, public"))
+                .andExpect(jsonPath("$.priceList").value(2))
+                .andReturn().getResponse().getHeader("ETag");
+        assertTrue(eTag.matches("\"[0-9a-f-]{36}\""), eTag);
+
+        mockMvc.perform(get("/prices/prioritized")
+                .param("productId", "35455")
+                .param("brandId", "1")
+                .param("applicationDate", "2020-06-14T16:00:00")
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/prices/prioritized")
+                .param("productId", "35455")
+                .param("brandId", "1")
+                .param("applicationDate", "2020-06-14T10:00:00")
+                .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(1));
+    }
+
+    /**
+     * Tests the cacheable lookup of the current prioritized price: the max-age is bounded by the end of the
+     * winning price, and a miss is cacheable for the configured max-age.
+     */
+    @Test
+    void test17_conditional_lookup_now() throws Exception {
+        var now = LocalDateTime.now();
+        jdbcTemplate.update("""
+                INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY, LAST_UPDATE, LAST_UPDATE_BY)
+                VALUES (1, ?, ?, 50, 90031, 0, 12.00, 'EUR', ?, 'test')""",
+                Timestamp.valueOf(now.minusHours(1)), Timestamp.valueOf(now.plusSeconds(20)), Timestamp.valueOf(now));
+
+        var cacheControl = mockMvc.perform(get("/prices/prioritized")
+                .param("productId", "90031")
+                .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.priceList").value(50))
+                .andReturn().getResponse().getHeader("Cache-Control");
+        var maxAge = Integer.parseInt(cacheControl.replaceAll("max-age=(\\d+).*", "$1"));
+        assertTrue(maxAge <= 20, cacheControl);
+
+        mockMvc.perform(get("/prices/prioritized")
+                .param("productId", "90032")
+                .param("brandId", "1"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string("Cache-Control", "max-age=60, public"));
+    }
+
+    /**
+     * Tests the resolution of a CSV batch of the seed product, streamed in date
+     * order with empty fields for the tuple without price, and the rejection
+     * of a malformed line.
+     */
+    @Test
+    void test18_batch_lookup() throws Exception {
+        var result = mockMvc.perform(post("/prices/prioritized/batch")
+                .contentType("text/csv")
+                .content("""
+                    productId,brandId,applicationDate
+                    35455,1,2020-06-14T16:00:00
+                    35455,1,2020-06-13T16:00:00
+                    35455,1,2020-06-14T10:00:00
+                    """))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals("""
+                productId,brandId,applicationDate,priceList,price,currency
+                35455,1,2020-06-13T16:00:00,,,
+                35455,1,2020-06-14T10:00:00,1,35.50,EUR
+                35455,1,2020-06-14T16:00:00,2,25.45,EUR
+                """, body);
+
+        mockMvc.perform(post("/prices/prioritized/batch")
+                .contentType("text/csv")
+                .content("35455,1,2020-06-14T16:00:00\n35455,one,2020-06-14T16:00:00\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(status().reason(startsWith("Malformed line 2")));
+    }
+
+    private static byte[] encode(Object value) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        PriceBinaryCodec.write(value, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static Object decode(Class<?> type, byte[] content) throws IOException {
+        return PriceBinaryCodec.read(type, new DataInputStream(new ByteArrayInputStream(content)), content.length);
+    }
 }
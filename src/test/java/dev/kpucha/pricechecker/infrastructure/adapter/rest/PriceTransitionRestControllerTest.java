@@ -0,0 +1,88 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import dev.kpucha.pricechecker.domain.event.PriceTransitionEvent;
+import dev.kpucha.pricechecker.domain.model.Price;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import dev.kpucha.pricechecker.infrastructure.adapter.sharding.PriceShards;
+import dev.kpucha.pricechecker.infrastructure.config.PriceTransitionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the PriceTransitionRestController class.
+ * Tests that a subscriber that does not keep up is closed without delaying
+ * the others.
+ */
+public class PriceTransitionRestControllerTest {
+
+    /**
+     * Tests a subscriber blocked in its first write and another one reading
+     * each transition as it comes, with queues of two transitions.
+     * Verifies that the blocked subscriber is closed once its queue is full
+     * and that the other one receives every transition.
+     */
+    @Test
+    void test_onPriceTransition_whenSubscriberLags_closesOnlyIt() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PriceTransitionRestController controller = new PriceTransitionRestController(
+            new PriceTransitionProperties(true, Duration.ofDays(1), Duration.ofHours(1), Duration.ofMinutes(30), 2),
+            new StaticListableBeanFactory().getBeanProvider(PriceShards.class), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        AtomicInteger received = new AtomicInteger();
+        controller.subscribe(new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void complete() {
+                closed.countDown();
+            }
+        }, 90061, 1);
+        controller.subscribe(new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                received.incrementAndGet();
+            }
+        }, 90061, 1);
+
+        try {
+            LocalDateTime at = LocalDateTime.of(2020, 6, 14, 0, 0);
+            for (int i = 0; i < 5; i++) {
+                controller.onPriceTransition(new PriceTransitionEvent(new PriceKey(1, 90061), at.plusHours(i),
+                    new Price(1, at, at.plusDays(1), i, 90061, 0, BigDecimal.TEN, "EUR")));
+                long deadline = System.nanoTime() + 5_000_000_000L;
+                while (received.get() <= i && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+            }
+
+            assertTrue(closed.await(5, TimeUnit.SECONDS));
+            assertEquals(5, received.get());
+            assertEquals(1, meterRegistry.get(PriceTransitionRestController.LAGGARDS_COUNTER).counter().count());
+            assertEquals(1, meterRegistry.get(PriceTransitionRestController.SUBSCRIBERS_GAUGE).gauge().value());
+        } finally {
+            release.countDown();
+            controller.destroy();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.sharding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Unit tests for the PriceShards class.
+ * Tests that keys are spread evenly and consistently across nodes.
+ */
+class PriceShardsTest {
+
+    /**
+     * Base URLs of the nodes.
+     */
+    private static final List<URI> NODES = IntStream.range(0, 4)
+        .mapToObj(i -> URI.create("http://node" + i + ":8080"))
+        .toList();
+
+    /**
+     * Tests the assignment of consecutive products to four nodes.
+     * Verifies that every node owns about a quarter of them and that exactly
+     * one node owns each key.
+     */
+    @Test
+    void test_ownerOf_whenConsecutiveProducts_spreadsThemEvenly() {
+        int[] owned = new int[NODES.size()];
+        List<PriceShards> shards = IntStream.range(0, NODES.size()).mapToObj(i -> new PriceShards(NODES, i)).toList();
+
+        for (int productId = 1; productId <= 10000; productId++) {
+            PriceKey key = new PriceKey(1 + productId % 3, productId);
+            int owner = shards.get(0).ownerOf(key);
+            owned[owner]++;
+            assertEquals(1, shards.stream().filter(node -> node.owns(key)).count());
+            assertTrue(shards.get(owner).owns(key));
+        }
+
+        for (int count : owned) {
+            assertTrue(count > 2250 && count < 2750, "Unbalanced shard of " + count + " keys");
+        }
+    }
+
+    /**
+     * Tests the assignment of keys to a single node.
+     * Verifies that it owns every key.
+     */
+    @Test
+    void test_owns_whenSingleNode_ownsEveryKey() {
+        PriceShards shards = new PriceShards(NODES.subList(0, 1), 0);
+
+        assertTrue(IntStream.range(1, 1000).allMatch(productId -> shards.owns(new PriceKey(1, productId))));
+    }
+
+    /**
+     * Tests the creation of shards with a position outside the list of nodes.
+     * Verifies that an IllegalArgumentException is thrown.
+     */
+    @Test
+    void test_new_whenNodeIndexOutOfRange_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new PriceShards(NODES, 4));
+        assertThrows(IllegalArgumentException.class, () -> new PriceShards(List.of(), 0));
+    }
+}
@@ -0,0 +1,112 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.transition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import dev.kpucha.pricechecker.domain.event.PricesChangedEvent;
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+
+/**
+ * Integration tests for the PriceTransitionScheduler class.
+ * Tests that the boundaries of new prices are scheduled and that a change of
+ * the winning price, and only such a change, is pushed to subscribers.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class PriceTransitionSchedulerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PriceTransitionScheduler scheduler;
+
+    /**
+     * Tests a promotion starting and ending within seconds, and another one
+     * hidden by a price with a higher priority.
+     * Verifies that both boundaries of the visible promotion are scheduled
+     * and pushed in order, the end with no price, and that the hidden one
+     * pushes nothing.
+     */
+    @Test
+    void test_dispatch_withPromotionStartingAndEnding_pushesBothTransitions() throws Exception {
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(2);
+        LocalDateTime end = start.plusSeconds(1);
+        insert(90051, 60, 0, start, end);
+        insert(90052, 61, 1, start.minusHours(1), start.plusHours(1));
+        insert(90052, 62, 0, start, end);
+        eventPublisher.publishEvent(new PricesChangedEvent(Set.of(new PriceKey(1, 90051), new PriceKey(1, 90052))));
+
+        PriceBoundary starting = new PriceBoundary(new PriceKey(1, 90051), start, false);
+        PriceBoundary ending = new PriceBoundary(new PriceKey(1, 90051), end, true);
+        long scheduled = System.nanoTime() + 5_000_000_000L;
+        while (!scheduler.upcoming(1000).containsAll(List.of(starting, ending)) && System.nanoTime() < scheduled) {
+            Thread.sleep(10);
+        }
+        assertTrue(scheduler.upcoming(1000).containsAll(List.of(starting, ending)));
+
+        MockHttpServletResponse response = subscribe(90051);
+        MockHttpServletResponse hidden = subscribe(90052);
+
+        long deadline = System.nanoTime() + 15_000_000_000L;
+        while (count(response.getContentAsString(), "event:price") < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        Thread.sleep(500);
+
+        String events = response.getContentAsString();
+        assertEquals(2, count(events, "event:price"), events);
+        int started = events.indexOf("\"priceList\":60");
+        int ended = events.indexOf("\"price\":null");
+        assertTrue(started >= 0 && ended > started, events);
+        assertTrue(events.contains("\"at\":\"" + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(end) + "\""), events);
+        assertEquals("", hidden.getContentAsString());
+    }
+
+    private MockHttpServletResponse subscribe(int productId) throws Exception {
+        return mockMvc.perform(get("/prices/transitions")
+                .param("productId", String.valueOf(productId))
+                .param("brandId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private void insert(int productId, int priceList, int priority, LocalDateTime start, LocalDateTime end) {
+        jdbcTemplate.update("""
+                INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURRENCY, LAST_UPDATE, LAST_UPDATE_BY)
+                VALUES (1, ?, ?, ?, ?, ?, 10.00, 'EUR', ?, 'test')""",
+                Timestamp.valueOf(start), Timestamp.valueOf(end), priceList, productId, priority, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static int count(String text, String token) {
+        int count = 0;
+        for (int index = text.indexOf(token); index >= 0; index = text.indexOf(token, index + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,120 @@
+package dev.kpucha.pricechecker.infrastructure.adapter.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.kpucha.pricechecker.domain.model.PriceKey;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Integration tests for the PriceWarmup and HotPriceKeys.
+ * Verifies that the warm-up completes before the context is ready and that
+ * hot keys are saved hottest first.
+ */
+@SpringBootTest
+public class PriceWarmupTest {
+
+    /**
+     * Warm-up run at startup.
+     */
+    @Autowired
+    private PriceWarmup warmup;
+
+    /**
+     * Health indicator reporting the warm-up.
+     */
+    @Autowired
+    private PriceWarmupHealthIndicator healthIndicator;
+
+    /**
+     * Counter of the lookups of each key.
+     */
+    @Autowired
+    private HotPriceKeys hotPriceKeys;
+
+    /**
+     * Registry receiving the warm-up duration.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Template used to clean up the saved keys.
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Tests the warm-up run while the context started.
+     * Verifies that the seed key was warmed and that the health indicator
+     * reports its outcome.
+     */
+    @Test
+    void test_run_whenContextStarted_reportsCompletedWarmup() {
+        PriceWarmupReport report = warmup.report();
+
+        assertNotNull(report);
+        assertTrue(report.keys() > 0);
+        assertTrue(report.lookups() > 0);
+        Health health = healthIndicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(report.lookups(), health.getDetails().get("lookups"));
+        assertEquals(report.duration().toMillis(),
+            meterRegistry.get(PriceWarmup.DURATION_GAUGE).timeGauge().value(TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Tests the save of the keys looked up.
+     * Verifies that the most looked up key is returned before the other.
+     */
+    @Test
+    void test_persist_whenKeysLookedUp_savesHottestFirst() {
+        hotPriceKeys.record(90041, 1);
+        hotPriceKeys.record(90041, 1);
+        hotPriceKeys.record(90041, 1);
+        hotPriceKeys.record(90042, 1);
+
+        try {
+            assertTrue(hotPriceKeys.persist() >= 2);
+
+            List<PriceKey> hottest = hotPriceKeys.hottest(1000);
+            int hot = hottest.indexOf(new PriceKey(1, 90041));
+            int warm = hottest.indexOf(new PriceKey(1, 90042));
+            assertTrue(hot >= 0 && warm > hot);
+        } finally {
+            jdbcTemplate.update("DELETE FROM HOT_PRICE_KEYS WHERE PRODUCT_ID IN (90041, 90042)");
+        }
+    }
+
+    /**
+     * Tests two saves of the same key.
+     * Verifies that the lookups of each save are added to the saved ones.
+     */
+    @Test
+    void test_persist_whenSavedTwice_addsLookups() {
+        hotPriceKeys.record(90043, 1);
+        hotPriceKeys.record(90043, 1);
+
+        try {
+            hotPriceKeys.persist();
+            hotPriceKeys.record(90043, 1);
+            hotPriceKeys.persist();
+
+            assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT LOOKUPS FROM HOT_PRICE_KEYS WHERE BRAND_ID = 1 AND PRODUCT_ID = 90043", Long.class));
+        } finally {
+            jdbcTemplate.update("DELETE FROM HOT_PRICE_KEYS WHERE PRODUCT_ID = 90043");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package dev.kpucha.pricechecker.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import dev.kpucha.pricechecker.application.dto.BulkPriceResult;
+import dev.kpucha.pricechecker.application.dto.PrioritizedPriceResponse;
+import dev.kpucha.pricechecker.infrastructure.adapter.persistence.PriceEntity;
+
+/**
+ * Unit tests for the PriceRuntimeHints class.
+ * Verifies the hints an AOT-processed application or a native image relies on.
+ */
+public class PriceRuntimeHintsTest {
+
+    /**
+     * Tests the hints of the records bound by Jackson, the entity and the migrations.
+     * Verifies that responses nested in other responses, the entity and every
+     * migration are registered.
+     */
+    @Test
+    void test_registerHints_whenRegistered_coversRecordsEntityAndMigrations() {
+        RuntimeHints hints = new RuntimeHints();
+
+        new PriceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BulkPriceResult.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(PrioritizedPriceResponse.class)
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(PriceEntity.class)
+            .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/V1__create_prices_table.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/V6__create_hot_price_keys_table.sql").test(hints));
+    }
+}